@@ -0,0 +1,35 @@
+package org.blackbird.requirefortesting.requirements.internal.validation;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequirementValidatorBenchmark {
+
+  @Param({
+    "Login",
+    "User can reset the password from the login page within five minutes of the request"
+  })
+  public String title;
+
+  @Benchmark
+  public void validateTitle(Blackhole blackhole) {
+    RequirementValidator.validateTitle(title);
+    blackhole.consume(title);
+  }
+}
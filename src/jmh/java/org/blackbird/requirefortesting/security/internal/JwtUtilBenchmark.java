@@ -0,0 +1,72 @@
+package org.blackbird.requirefortesting.security.internal;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.blackbird.requirefortesting.security.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+  private static final String SECRET = "benchmarkSecretKey12345678901234567890123456789012345";
+
+  private JwtUtil jwtUtil;
+  private JwtUtil uncachedJwtUtil;
+  private User user;
+  private String token;
+  private String bearerToken;
+
+  @Setup
+  public void setUp() {
+    jwtUtil = new JwtUtil(SECRET, 86_400_000);
+    uncachedJwtUtil = new JwtUtil(SECRET, 86_400_000, 0);
+    user =
+        User.builder()
+            .id(42L)
+            .username("benchmark")
+            .email("benchmark@example.com")
+            .enabled(true)
+            .authorities(List.of(new SimpleGrantedAuthority("ROLE_TESTER")))
+            .build();
+    token = jwtUtil.generateToken(user);
+    bearerToken = "Bearer " + token;
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return jwtUtil.generateToken(user);
+  }
+
+  /** Repeated lookups of the same token, answered from the verified-token cache. */
+  @Benchmark
+  public Long extractUserId() {
+    return jwtUtil.extractUserId(bearerToken);
+  }
+
+  /** The same lookup on a cache miss: signature verification and claim parsing every time. */
+  @Benchmark
+  public Long extractUserIdUncached() {
+    return uncachedJwtUtil.extractUserId(bearerToken);
+  }
+
+  /** Verifies the token twice (username and expiry) without the verified-token cache. */
+  @Benchmark
+  public Boolean validateTokenUncached() {
+    return uncachedJwtUtil.validateToken(token, user);
+  }
+}
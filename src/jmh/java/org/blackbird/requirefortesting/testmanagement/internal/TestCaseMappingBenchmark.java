@@ -0,0 +1,114 @@
+package org.blackbird.requirefortesting.testmanagement.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.blackbird.requirefortesting.shared.Status;
+import org.blackbird.requirefortesting.testmanagement.model.TestCase;
+import org.blackbird.requirefortesting.testmanagement.model.TestCaseDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunDetailDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunResultCounts;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Entity mapping and JSON serialization of test runs and test cases. The mapping is measured on
+ * {@link TestCaseMapper}, which both the test case and the test run endpoints use; a test run is
+ * serialized as the endpoint returns it, with its first page of test cases.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TestCaseMappingBenchmark {
+
+  /** Default page size of the test run endpoint. */
+  private static final int TEST_RUN_PAGE_SIZE = 50;
+
+  @Param({"10", "1000"})
+  public int testCaseCount;
+
+  private ObjectMapper objectMapper;
+  private List<TestCase> testCases;
+  private List<TestCaseDto> testCaseDtos;
+  private TestRunDetailDto testRun;
+
+  @Setup
+  public void setUp() {
+    // Same date handling as the Spring Boot configured mapper
+    objectMapper =
+        JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    LocalDateTime now = LocalDateTime.now();
+
+    testCases = new ArrayList<>(testCaseCount);
+    for (long i = 1; i <= testCaseCount; i++) {
+      testCases.add(
+          TestCase.builder()
+              .id(i)
+              .title("Test case " + i)
+              .description("Steps and expected result of test case " + i)
+              .requirementId(i % 50 + 1)
+              .status(Status.OPEN)
+              .testResult(TestResult.PASSED)
+              .createdBy(1L)
+              .updatedAt(now)
+              .creationDate(now)
+              .build());
+    }
+    testCaseDtos = mapTestCasesToDtos();
+
+    int pageSize = Math.min(testCaseCount, TEST_RUN_PAGE_SIZE);
+    testRun =
+        TestRunDetailDto.builder()
+            .id(1L)
+            .title("Regression run")
+            .description("Nightly regression")
+            .startTime(now)
+            .endTime(now.plusDays(1))
+            .status(TestRunStatus.IN_PROGRESS)
+            .createdBy(1L)
+            .testCaseCount(testCaseCount)
+            .testCaseStatuses(Map.of(Status.OPEN, (long) testCaseCount))
+            .results(new TestRunResultCounts(testCaseCount, testCaseCount, 0, 0, 0, 0))
+            .testCases(testCaseDtos.subList(0, pageSize))
+            .nextCursor(pageSize < testCaseCount ? String.valueOf(pageSize) : null)
+            .build();
+  }
+
+  @Benchmark
+  public List<TestCaseDto> mapTestCasesToDtos() {
+    return testCases.stream().map(TestCaseMapper::toDto).toList();
+  }
+
+  @Benchmark
+  public byte[] serializeTestCaseDtos() throws Exception {
+    return objectMapper.writeValueAsBytes(testCaseDtos);
+  }
+
+  @Benchmark
+  public byte[] serializeTestRun() throws Exception {
+    return objectMapper.writeValueAsBytes(testRun);
+  }
+}
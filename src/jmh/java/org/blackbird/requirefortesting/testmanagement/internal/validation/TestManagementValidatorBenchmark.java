@@ -0,0 +1,53 @@
+package org.blackbird.requirefortesting.testmanagement.internal.validation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.blackbird.requirefortesting.shared.Status;
+import org.blackbird.requirefortesting.testmanagement.model.CreateOrUpdateTestCaseDto;
+import org.blackbird.requirefortesting.testmanagement.model.CreateTestRunDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TestManagementValidatorBenchmark {
+
+  private CreateTestRunDto createTestRunDto;
+  private CreateOrUpdateTestCaseDto createTestCaseDto;
+
+  @Setup
+  public void setUp() {
+    LocalDateTime now = LocalDateTime.now();
+    createTestRunDto =
+        new CreateTestRunDto(
+            "Regression run", "Nightly regression", now.plusHours(1), now.plusDays(1), List.of());
+    createTestCaseDto =
+        new CreateOrUpdateTestCaseDto("Login works", "Enter valid credentials", 1L, Status.OPEN);
+  }
+
+  @Benchmark
+  public void validateTestRun(Blackhole blackhole) {
+    TestRunValidator.validateForCreation(createTestRunDto);
+    blackhole.consume(createTestRunDto);
+  }
+
+  @Benchmark
+  public void validateTestCase(Blackhole blackhole) {
+    TestCaseValidator.validate(createTestCaseDto);
+    blackhole.consume(createTestCaseDto);
+  }
+}
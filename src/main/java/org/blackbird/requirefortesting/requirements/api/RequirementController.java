@@ -1,14 +1,29 @@
 package org.blackbird.requirefortesting.requirements.api;
 
+import java.io.InputStream;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.requirements.model.BulkRequirementDto;
 import org.blackbird.requirefortesting.requirements.model.CreateOrUpdateRequirementDto;
 import org.blackbird.requirefortesting.requirements.model.Requirement;
+import org.blackbird.requirefortesting.requirements.model.RequirementDto;
 import org.blackbird.requirefortesting.requirements.service.RequirementService;
+import org.blackbird.requirefortesting.shared.BulkResult;
+import org.blackbird.requirefortesting.shared.CursorPage;
+import org.blackbird.requirefortesting.shared.DataFormat;
+import org.blackbird.requirefortesting.shared.ImportResult;
 import org.blackbird.requirefortesting.shared.JwtService;
+import org.blackbird.requirefortesting.shared.Priority;
+import org.blackbird.requirefortesting.shared.SearchHit;
+import org.blackbird.requirefortesting.shared.Status;
+import org.blackbird.requirefortesting.shared.StreamingExport;
+import org.blackbird.requirefortesting.shared.UserDirectory;
+import org.blackbird.requirefortesting.shared.WithCreator;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/requirements")
@@ -19,6 +34,7 @@ public class RequirementController {
 
   private final JwtService jwtUtil;
   private final RequirementService requirementService;
+  private final UserDirectory userDirectory;
 
   @PreAuthorize("hasRole('REQUIREMENTS_ENGINEER')")
   @PostMapping
@@ -30,6 +46,39 @@ public class RequirementController {
     return ResponseEntity.ok(newRequirement);
   }
 
+  @PreAuthorize("hasRole('REQUIREMENTS_ENGINEER')")
+  @PostMapping("/bulk")
+  public ResponseEntity<BulkResult> bulkCreateOrUpdateRequirements(
+      @RequestHeader(AUTHORIZATION_HEADER) String authToken,
+      @RequestBody List<BulkRequirementDto> requirements) {
+    Long userId = jwtUtil.extractUserId(authToken);
+    BulkResult result = requirementService.bulkCreateOrUpdateRequirements(requirements, userId);
+    return ResponseEntity.ok(result);
+  }
+
+  @PreAuthorize("hasRole('REQUIREMENTS_ENGINEER')")
+  @PostMapping(
+      value = "/import",
+      consumes = {"text/csv", "application/x-ndjson"})
+  public ResponseEntity<ImportResult> importRequirements(
+      @RequestHeader(AUTHORIZATION_HEADER) String authToken,
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+      InputStream body) {
+    Long userId = jwtUtil.extractUserId(authToken);
+    DataFormat format = DataFormat.fromContentType(contentType);
+    ImportResult result = requirementService.importRequirements(body, format, userId);
+    return ResponseEntity.ok(result);
+  }
+
+  @PreAuthorize("hasRole('REQUIREMENTS_ENGINEER')")
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportRequirements(
+      @RequestParam(defaultValue = "NDJSON") DataFormat format,
+      @RequestParam(defaultValue = "false") boolean gzip) {
+    return StreamingExport.of(
+        format, gzip, output -> requirementService.exportRequirements(output, format));
+  }
+
   @PreAuthorize("hasRole('REQUIREMENTS_ENGINEER')")
   @PutMapping("/{id}")
   public ResponseEntity<Requirement> updateRequirement(
@@ -46,14 +95,57 @@ public class RequirementController {
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<Requirement> getRequirement(@PathVariable Long id) {
-    Requirement requirement = requirementService.getRequirement(id);
+  public ResponseEntity<RequirementDto> getRequirement(@PathVariable Long id) {
+    RequirementDto requirement = requirementService.getRequirement(id);
     return ResponseEntity.ok(requirement);
   }
 
   @GetMapping
-  public ResponseEntity<List<Requirement>> getAllRequirements() {
-    List<Requirement> requirements = requirementService.getRequirements();
+  public ResponseEntity<List<RequirementDto>> getAllRequirements() {
+    List<RequirementDto> requirements = requirementService.getRequirements();
     return ResponseEntity.ok(requirements);
   }
+
+  /** Same as {@link #getAllRequirements()} with username and email of each creator inlined. */
+  @GetMapping(params = "expand=creator")
+  public ResponseEntity<List<WithCreator<RequirementDto>>> getAllRequirementsWithCreators() {
+    List<RequirementDto> requirements = requirementService.getRequirements();
+    return ResponseEntity.ok(userDirectory.withCreators(requirements, RequirementDto::createdBy));
+  }
+
+  @GetMapping("/page")
+  public ResponseEntity<CursorPage<RequirementDto>> getRequirementsPage(
+      @RequestParam(required = false) Status status,
+      @RequestParam(required = false) Priority priority,
+      @RequestParam(required = false) Long createdBy,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int size) {
+    CursorPage<RequirementDto> page =
+        requirementService.getRequirementsPage(status, priority, createdBy, cursor, size);
+    return ResponseEntity.ok(page);
+  }
+
+  @GetMapping(value = "/page", params = "expand=creator")
+  public ResponseEntity<CursorPage<WithCreator<RequirementDto>>> getRequirementsPageWithCreators(
+      @RequestParam(required = false) Status status,
+      @RequestParam(required = false) Priority priority,
+      @RequestParam(required = false) Long createdBy,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int size) {
+    CursorPage<RequirementDto> page =
+        requirementService.getRequirementsPage(status, priority, createdBy, cursor, size);
+    return ResponseEntity.ok(
+        new CursorPage<>(
+            userDirectory.withCreators(page.items(), RequirementDto::createdBy),
+            page.nextCursor()));
+  }
+
+  @GetMapping("/search")
+  public ResponseEntity<List<SearchHit>> searchRequirements(
+      @RequestParam("q") String query,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "20") int size) {
+    List<SearchHit> hits = requirementService.searchRequirements(query, page, size);
+    return ResponseEntity.ok(hits);
+  }
 }
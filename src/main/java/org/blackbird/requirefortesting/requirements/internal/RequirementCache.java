@@ -0,0 +1,62 @@
+package org.blackbird.requirefortesting.requirements.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local invalidation of the requirement caches configured in {@link RequirementCacheConfig}.
+ *
+ * <p>Keys carry a generation per cache. Evicting a single key waits for a load of that key still in
+ * flight, but clearing a cache does not, so a load that read the database before a change could put
+ * its stale result back after the clear. Clearing therefore starts a new generation first; such a
+ * late result ends up under a key of the old generation, which is never read again.
+ */
+@Component
+@RequiredArgsConstructor
+class RequirementCache {
+
+  private final CacheManager cacheManager;
+  private final AtomicLong requirementsGeneration = new AtomicLong();
+  private final AtomicLong listsGeneration = new AtomicLong();
+
+  KeyGenerator requirementKeys() {
+    return (target, method, params) -> key(requirementsGeneration, params);
+  }
+
+  KeyGenerator listKeys() {
+    return (target, method, params) -> key(listsGeneration, params);
+  }
+
+  void evict(Long requirementId) {
+    Cache requirements = cacheManager.getCache(RequirementCacheConfig.REQUIREMENTS);
+    if (requirements != null && requirementId != null) {
+      requirements.evict(key(requirementsGeneration, requirementId));
+    }
+    clear(listsGeneration, RequirementCacheConfig.REQUIREMENT_LISTS);
+  }
+
+  void clear() {
+    clear(requirementsGeneration, RequirementCacheConfig.REQUIREMENTS);
+    clear(listsGeneration, RequirementCacheConfig.REQUIREMENT_LISTS);
+  }
+
+  private void clear(AtomicLong generation, String cacheName) {
+    generation.incrementAndGet();
+    // Entries of older generations are unreachable now, only free their memory
+    Cache cache = cacheManager.getCache(cacheName);
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+
+  private static Object key(AtomicLong generation, Object... params) {
+    return new GenerationKey(generation.get(), SimpleKeyGenerator.generateKey(params));
+  }
+
+  private record GenerationKey(long generation, Object key) {}
+}
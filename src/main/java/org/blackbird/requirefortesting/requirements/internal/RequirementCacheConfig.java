@@ -0,0 +1,54 @@
+package org.blackbird.requirefortesting.requirements.internal;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Bounded Caffeine caches in front of the requirement reads. The TTL only is a safety net, entries
+ * are invalidated through {@link RequirementCache} as soon as a change is committed on any node.
+ * Both caches have to be used with the key generators declared here.
+ */
+@Configuration
+class RequirementCacheConfig {
+
+  static final String REQUIREMENTS = "requirements";
+  static final String REQUIREMENT_LISTS = "requirementLists";
+  static final String REQUIREMENT_KEYS = "requirementKeyGenerator";
+  static final String REQUIREMENT_LIST_KEYS = "requirementListKeyGenerator";
+
+  @Bean(REQUIREMENT_KEYS)
+  KeyGenerator requirementKeyGenerator(RequirementCache requirementCache) {
+    return requirementCache.requirementKeys();
+  }
+
+  @Bean(REQUIREMENT_LIST_KEYS)
+  KeyGenerator requirementListKeyGenerator(RequirementCache requirementCache) {
+    return requirementCache.listKeys();
+  }
+
+  @Bean
+  CacheManagerCustomizer<CaffeineCacheManager> requirementCacheCustomizer() {
+    return cacheManager -> {
+      cacheManager.registerCustomCache(
+          REQUIREMENTS,
+          Caffeine.newBuilder()
+              .maximumSize(10_000)
+              .expireAfterWrite(Duration.ofMinutes(10))
+              .recordStats()
+              .build());
+      // List entries hold up to a page of requirements each, so keep far fewer of them
+      cacheManager.registerCustomCache(
+          REQUIREMENT_LISTS,
+          Caffeine.newBuilder()
+              .maximumSize(200)
+              .expireAfterWrite(Duration.ofMinutes(2))
+              .recordStats()
+              .build());
+    };
+  }
+}
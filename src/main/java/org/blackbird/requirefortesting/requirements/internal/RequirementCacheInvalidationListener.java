@@ -0,0 +1,57 @@
+package org.blackbird.requirefortesting.requirements.internal;
+
+import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.requirements.model.RequirementCreatedEvent;
+import org.blackbird.requirefortesting.requirements.model.RequirementDeletedEvent;
+import org.blackbird.requirefortesting.requirements.model.RequirementUpdatedEvent;
+import org.blackbird.requirefortesting.requirements.model.RequirementsBulkChangedEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates the requirement caches once a change has been committed. The local node is evicted
+ * directly, every other node is told through a Postgres notification on {@link #CHANNEL} which
+ * {@link RequirementCacheNotificationListener} picks up. The events go through the Modulith
+ * publication registry, so a failed invalidation is republished instead of being lost.
+ */
+@Component
+@RequiredArgsConstructor
+class RequirementCacheInvalidationListener {
+
+  static final String CHANNEL = "requirement_cache";
+  static final String CLEAR_ALL = "*";
+
+  private final RequirementCache requirementCache;
+  private final JdbcTemplate jdbcTemplate;
+
+  @ApplicationModuleListener
+  void onCreated(RequirementCreatedEvent event) {
+    invalidate(event.requirementId());
+  }
+
+  @ApplicationModuleListener
+  void onUpdated(RequirementUpdatedEvent event) {
+    invalidate(event.requirementId());
+  }
+
+  @ApplicationModuleListener
+  void onDeleted(RequirementDeletedEvent event) {
+    invalidate(event.requirementId());
+  }
+
+  @ApplicationModuleListener
+  void onBulkChanged(RequirementsBulkChangedEvent event) {
+    requirementCache.clear();
+    notifyNodes(CLEAR_ALL);
+  }
+
+  private void invalidate(Long requirementId) {
+    requirementCache.evict(requirementId);
+    notifyNodes(String.valueOf(requirementId));
+  }
+
+  private void notifyNodes(String payload) {
+    jdbcTemplate.query("SELECT pg_notify(?, ?)", resultSet -> {}, CHANNEL, payload);
+  }
+}
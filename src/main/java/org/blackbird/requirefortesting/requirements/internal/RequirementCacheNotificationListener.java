@@ -0,0 +1,101 @@
+package org.blackbird.requirefortesting.requirements.internal;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps one connection in LISTEN mode and evicts the local requirement caches for every
+ * invalidation another node (or this one) sends. Whenever the connection is (re)established the
+ * caches are cleared completely, because notifications sent in between are lost. The connection is
+ * opened outside the pool, which it would otherwise occupy for good.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class RequirementCacheNotificationListener implements SmartLifecycle {
+
+  private static final int POLL_TIMEOUT_MILLIS = 1_000;
+  private static final long RECONNECT_DELAY_MILLIS = 5_000;
+
+  private final JdbcConnectionDetails connectionDetails;
+  private final RequirementCache requirementCache;
+
+  private volatile boolean running;
+  private Thread listenerThread;
+
+  @Override
+  public void start() {
+    running = true;
+    listenerThread =
+        Thread.ofPlatform().name("requirement-cache-listener").daemon().start(this::listen);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (listenerThread != null) {
+      listenerThread.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  void handle(String payload) {
+    if (RequirementCacheInvalidationListener.CLEAR_ALL.equals(payload)) {
+      requirementCache.clear();
+      return;
+    }
+    try {
+      requirementCache.evict(Long.valueOf(payload));
+    } catch (NumberFormatException e) {
+      log.warn("Ignoring invalid requirement cache notification: {}", payload);
+    }
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection connection =
+          DriverManager.getConnection(
+              connectionDetails.getJdbcUrl(),
+              connectionDetails.getUsername(),
+              connectionDetails.getPassword())) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + RequirementCacheInvalidationListener.CHANNEL);
+        }
+        requirementCache.clear();
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+          if (notifications == null) {
+            continue;
+          }
+          for (PGNotification notification : notifications) {
+            handle(notification.getParameter());
+          }
+        }
+      } catch (SQLException e) {
+        if (!running) {
+          return;
+        }
+        log.warn("Requirement cache listener lost its connection: {}", e.getMessage());
+        try {
+          Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException interrupted) {
+          return;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package org.blackbird.requirefortesting.requirements.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.blackbird.requirefortesting.requirements.model.RequirementDto;
+
+/**
+ * Keyset position inside the requirement listing, which is ordered by <code>updatedAt</code> and
+ * <code>id</code> (both descending). Encoded as an opaque URL-safe token for the client.
+ */
+record RequirementCursor(LocalDateTime updatedAt, Long id) {
+
+  private static final String SEPARATOR = "|";
+
+  static RequirementCursor of(RequirementDto requirement) {
+    return new RequirementCursor(requirement.updatedAt(), requirement.id());
+  }
+
+  String encode() {
+    String raw = updatedAt + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static RequirementCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separatorIndex = raw.lastIndexOf(SEPARATOR);
+      return new RequirementCursor(
+          LocalDateTime.parse(raw.substring(0, separatorIndex)),
+          Long.parseLong(raw.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+  }
+}
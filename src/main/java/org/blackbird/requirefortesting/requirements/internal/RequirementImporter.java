@@ -0,0 +1,88 @@
+package org.blackbird.requirefortesting.requirements.internal;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.requirements.internal.validation.RequirementValidator;
+import org.blackbird.requirefortesting.requirements.model.CreateOrUpdateRequirementDto;
+import org.blackbird.requirefortesting.shared.CopyRowWriter;
+import org.blackbird.requirefortesting.shared.DataFormat;
+import org.blackbird.requirefortesting.shared.ImportResult;
+import org.blackbird.requirefortesting.shared.ImportRowReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads requirements without going through JPA: rows are validated while they are parsed, copied
+ * into a transaction-scoped staging table with <code>COPY</code> and moved into <code>requirement
+ * </code> with a single <code>INSERT ... SELECT</code>. Has to run inside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequirementImporter {
+
+  private static final String CREATE_STAGING_TABLE =
+      """
+      CREATE TEMP TABLE requirement_import (
+          title varchar(255),
+          description varchar(500),
+          priority varchar(255)
+      ) ON COMMIT DROP
+      """;
+
+  private static final String COPY_INTO_STAGING_TABLE =
+      "COPY requirement_import (title, description, priority) FROM STDIN (FORMAT csv)";
+
+  // Same defaults as RequirementServiceImpl.mapToRequirement
+  private static final String MERGE_STAGING_TABLE =
+      """
+      INSERT INTO requirement (id, title, description, priority, status, created_by, created_at,
+                               updated_at)
+      SELECT nextval('requirement_seq'), title, description, coalesce(priority, 'LOW'), 'OPEN', ?,
+             LOCALTIMESTAMP, LOCALTIMESTAMP
+      FROM requirement_import
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final DataSource dataSource;
+
+  public ImportResult importRequirements(InputStream input, DataFormat format, Long userId) {
+    jdbcTemplate.execute(CREATE_STAGING_TABLE);
+
+    ImportResult.Collector collector = new ImportResult.Collector();
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try (CopyRowWriter copy = new CopyRowWriter(connection, COPY_INTO_STAGING_TABLE)) {
+      ImportRowReader.read(
+          input,
+          format,
+          CreateOrUpdateRequirementDto.class,
+          (recordNumber, row) -> {
+            try {
+              validateRow(row);
+              copy.writeRow(row.title(), row.description(), row.priority());
+            } catch (IllegalArgumentException e) {
+              collector.reject(recordNumber, e.getMessage());
+            }
+          },
+          collector::reject);
+    } catch (SQLException e) {
+      throw new IllegalStateException("Could not start COPY into staging table", e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+
+    int imported = jdbcTemplate.update(MERGE_STAGING_TABLE, userId);
+    return collector.toResult(imported);
+  }
+
+  private static void validateRow(CreateOrUpdateRequirementDto row) {
+    if (row == null) {
+      throw new IllegalArgumentException("Requirement data cannot be null");
+    }
+    RequirementValidator.validateTitle(row.title());
+    RequirementValidator.validateLengths(row.title(), row.description());
+  }
+}
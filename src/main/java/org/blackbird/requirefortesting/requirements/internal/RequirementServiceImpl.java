@@ -1,14 +1,41 @@
 package org.blackbird.requirefortesting.requirements.internal;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.blackbird.requirefortesting.requirements.internal.repository.RequirementRepository;
+import org.blackbird.requirefortesting.requirements.internal.repository.RequirementSpecifications;
+import org.blackbird.requirefortesting.requirements.internal.validation.RequirementValidator;
+import org.blackbird.requirefortesting.requirements.model.BulkRequirementDto;
 import org.blackbird.requirefortesting.requirements.model.CreateOrUpdateRequirementDto;
 import org.blackbird.requirefortesting.requirements.model.Requirement;
+import org.blackbird.requirefortesting.requirements.model.RequirementCreatedEvent;
+import org.blackbird.requirefortesting.requirements.model.RequirementDeletedEvent;
+import org.blackbird.requirefortesting.requirements.model.RequirementDto;
+import org.blackbird.requirefortesting.requirements.model.RequirementUpdatedEvent;
+import org.blackbird.requirefortesting.requirements.model.RequirementsBulkChangedEvent;
 import org.blackbird.requirefortesting.requirements.service.RequirementService;
+import org.blackbird.requirefortesting.shared.BulkResult;
+import org.blackbird.requirefortesting.shared.BulkResult.BulkRowError;
+import org.blackbird.requirefortesting.shared.CursorPage;
+import org.blackbird.requirefortesting.shared.DataFormat;
+import org.blackbird.requirefortesting.shared.ImportResult;
 import org.blackbird.requirefortesting.shared.Priority;
+import org.blackbird.requirefortesting.shared.RowExporter;
+import org.blackbird.requirefortesting.shared.SearchHit;
+import org.blackbird.requirefortesting.shared.SearchProjection;
 import org.blackbird.requirefortesting.shared.Status;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,7 +43,22 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class RequirementServiceImpl implements RequirementService {
 
+  private static final int MAX_PAGE_SIZE = 200;
+  private static final int MAX_BULK_SIZE = 50_000;
+  private static final int BULK_CHUNK_SIZE = 500;
+  private static final String EXPORT_SQL =
+      """
+      SELECT id, title, description, priority, status, created_by AS "createdBy",
+             created_at AS "createdAt", updated_at AS "updatedAt"
+      FROM requirement
+      ORDER BY id
+      """;
+
   private final RequirementRepository requirementRepository;
+  private final EntityManager entityManager;
+  private final RequirementImporter requirementImporter;
+  private final RowExporter rowExporter;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional
@@ -26,10 +68,11 @@ public class RequirementServiceImpl implements RequirementService {
       throw new IllegalArgumentException("Requirement data cannot be null");
     }
 
-    validateRequirementTitle(createRequirement.title());
+    RequirementValidator.validateTitle(createRequirement.title());
 
     Requirement newRequirement =
         requirementRepository.save(mapToRequirement(createRequirement, userId));
+    eventPublisher.publishEvent(new RequirementCreatedEvent(newRequirement.getId()));
 
     return newRequirement;
   }
@@ -42,42 +85,211 @@ public class RequirementServiceImpl implements RequirementService {
       throw new IllegalArgumentException("Update data cannot be null");
     }
 
-    Requirement requirement = getRequirement(id);
+    Requirement requirement = findRequirement(id);
 
     if (requirement.getStatus() != Status.OPEN) {
       throw new IllegalStateException("Requirement cannot be updated because it is not open");
     }
 
     updateRequirement(requirement, updateRequirement);
+    eventPublisher.publishEvent(new RequirementUpdatedEvent(requirement.getId()));
 
     return requirement;
   }
 
+  @Override
+  @Transactional
+  public BulkResult bulkCreateOrUpdateRequirements(List<BulkRequirementDto> rows, Long userId) {
+    if (rows == null || rows.isEmpty()) {
+      throw new IllegalArgumentException("Bulk request cannot be empty");
+    }
+    if (rows.size() > MAX_BULK_SIZE) {
+      throw new IllegalArgumentException("Bulk request cannot exceed " + MAX_BULK_SIZE + " rows");
+    }
+
+    int created = 0;
+    int updated = 0;
+    List<BulkRowError> errors = new ArrayList<>();
+
+    for (int chunkStart = 0; chunkStart < rows.size(); chunkStart += BULK_CHUNK_SIZE) {
+      List<BulkRequirementDto> chunk =
+          rows.subList(chunkStart, Math.min(chunkStart + BULK_CHUNK_SIZE, rows.size()));
+      Map<Long, Requirement> existingRequirements = findExistingRequirements(chunk);
+      List<Requirement> newRequirements = new ArrayList<>();
+
+      for (int i = 0; i < chunk.size(); i++) {
+        BulkRequirementDto row = chunk.get(i);
+        try {
+          if (row == null) {
+            throw new IllegalArgumentException("Requirement data cannot be null");
+          }
+          // Checked up front, a value too long for its column would fail the flush of the chunk
+          RequirementValidator.validateLengths(row.title(), row.description());
+          if (row.id() == null) {
+            RequirementValidator.validateTitle(row.title());
+            newRequirements.add(mapToRequirement(row.toCreateOrUpdateDto(), userId));
+            continue;
+          }
+          Requirement requirement = existingRequirements.get(row.id());
+          if (requirement == null) {
+            throw new EntityNotFoundException("Requirement not found");
+          }
+          if (requirement.getStatus() != Status.OPEN) {
+            throw new IllegalStateException("Requirement cannot be updated because it is not open");
+          }
+          updateRequirement(requirement, row.toCreateOrUpdateDto());
+          updated++;
+        } catch (IllegalArgumentException | IllegalStateException | EntityNotFoundException e) {
+          errors.add(
+              new BulkRowError(chunkStart + i, row == null ? null : row.id(), e.getMessage()));
+        }
+      }
+
+      requirementRepository.saveAll(newRequirements);
+      created += newRequirements.size();
+      // Send the chunk as JDBC batches and keep the persistence context from growing
+      entityManager.flush();
+      entityManager.clear();
+    }
+
+    if (created + updated > 0) {
+      eventPublisher.publishEvent(new RequirementsBulkChangedEvent(created + updated));
+    }
+    return new BulkResult(created, updated, errors);
+  }
+
+  @Override
+  @Transactional
+  public ImportResult importRequirements(InputStream input, DataFormat format, Long userId) {
+    if (input == null || format == null) {
+      throw new IllegalArgumentException("Import data and format must be provided");
+    }
+    ImportResult result = requirementImporter.importRequirements(input, format, userId);
+    if (result.imported() > 0) {
+      eventPublisher.publishEvent(new RequirementsBulkChangedEvent(result.imported()));
+    }
+    return result;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportRequirements(OutputStream output, DataFormat format) {
+    if (output == null || format == null) {
+      throw new IllegalArgumentException("Export target and format must be provided");
+    }
+    rowExporter.export(output, format, EXPORT_SQL);
+  }
+
   @Override
   @Transactional
   public void deleteRequirement(Long id) {
-    Requirement requirement = getRequirement(id);
+    Requirement requirement = findRequirement(id);
     requirementRepository.delete(requirement);
+    eventPublisher.publishEvent(new RequirementDeletedEvent(id));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public Requirement getRequirement(Long id) {
-    return requirementRepository.findById(id).orElseThrow(EntityNotFoundException::new);
+  @Cacheable(
+      cacheNames = RequirementCacheConfig.REQUIREMENTS,
+      keyGenerator = RequirementCacheConfig.REQUIREMENT_KEYS,
+      sync = true)
+  public RequirementDto getRequirement(Long id) {
+    return mapToDto(findRequirement(id));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  @Cacheable(
+      cacheNames = RequirementCacheConfig.REQUIREMENT_LISTS,
+      keyGenerator = RequirementCacheConfig.REQUIREMENT_LIST_KEYS,
+      sync = true)
+  public List<RequirementDto> getRequirements() {
+    return requirementRepository.findAll().stream().map(RequirementServiceImpl::mapToDto).toList();
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Requirement> getRequirements() {
-    return requirementRepository.findAll();
+  @Cacheable(
+      cacheNames = RequirementCacheConfig.REQUIREMENT_LISTS,
+      keyGenerator = RequirementCacheConfig.REQUIREMENT_LIST_KEYS,
+      sync = true)
+  public CursorPage<RequirementDto> getRequirementsPage(
+      Status status, Priority priority, Long createdBy, String cursor, int size) {
+    if (size <= 0 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+    }
+
+    Specification<Requirement> specification =
+        Specification.allOf(
+            RequirementSpecifications.inKeysetOrder(),
+            RequirementSpecifications.hasStatus(status),
+            RequirementSpecifications.hasPriority(priority),
+            RequirementSpecifications.isCreatedBy(createdBy));
+    if (cursor != null && !cursor.isBlank()) {
+      RequirementCursor position = RequirementCursor.decode(cursor);
+      specification =
+          specification.and(
+              RequirementSpecifications.isBefore(position.updatedAt(), position.id()));
+    }
+
+    // Fetch one extra row to find out whether another page follows without a count query
+    List<RequirementDto> requirements =
+        requirementRepository.findBy(specification, query -> query.limit(size + 1).all()).stream()
+            .map(RequirementServiceImpl::mapToDto)
+            .toList();
+
+    if (requirements.size() <= size) {
+      return new CursorPage<>(requirements, null);
+    }
+    List<RequirementDto> page = List.copyOf(requirements.subList(0, size));
+    return new CursorPage<>(page, RequirementCursor.of(page.get(size - 1)).encode());
   }
 
-  private void validateRequirementTitle(String title) {
-    String specialCharRegex = ".*[^a-zA-Z0-9 ].*";
-    if (title == null || title.isBlank() || title.matches(specialCharRegex)) {
+  @Override
+  @Transactional(readOnly = true)
+  public List<SearchHit> searchRequirements(String query, int page, int size) {
+    if (query == null || query.isBlank()) {
+      throw new IllegalArgumentException("Search query cannot be empty");
+    }
+    if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
       throw new IllegalArgumentException(
-          "Requirement title cannot be empty or contain special characters");
+          "Page must not be negative and size must be between 1 and " + MAX_PAGE_SIZE);
+    }
+    return requirementRepository.search(query.strip(), size, (long) page * size).stream()
+        .map(SearchProjection::toSearchHit)
+        .toList();
+  }
+
+  private Requirement findRequirement(Long id) {
+    return requirementRepository.findById(id).orElseThrow(EntityNotFoundException::new);
+  }
+
+  private static RequirementDto mapToDto(Requirement requirement) {
+    return RequirementDto.builder()
+        .id(requirement.getId())
+        .title(requirement.getTitle())
+        .description(requirement.getDescription())
+        .priority(requirement.getPriority())
+        .status(requirement.getStatus())
+        .createdBy(requirement.getCreatedBy())
+        .updatedAt(requirement.getUpdatedAt())
+        .createdAt(requirement.getCreatedAt())
+        .build();
+  }
+
+  private Map<Long, Requirement> findExistingRequirements(List<BulkRequirementDto> rows) {
+    List<Long> ids =
+        rows.stream()
+            .filter(Objects::nonNull)
+            .map(BulkRequirementDto::id)
+            .filter(Objects::nonNull)
+            .toList();
+    if (ids.isEmpty()) {
+      return Map.of();
     }
+    return requirementRepository.findAllById(ids).stream()
+        .collect(Collectors.toMap(Requirement::getId, Function.identity()));
   }
 
   private Requirement mapToRequirement(
@@ -98,7 +310,7 @@ public class RequirementServiceImpl implements RequirementService {
       Requirement existingRequirement, CreateOrUpdateRequirementDto updateRequirementDto) {
 
     if (updateRequirementDto.title() != null) {
-      validateRequirementTitle(updateRequirementDto.title());
+      RequirementValidator.validateTitle(updateRequirementDto.title());
       existingRequirement.setTitle(updateRequirementDto.title());
     }
 
@@ -1,8 +1,22 @@
 package org.blackbird.requirefortesting.requirements.internal.repository;
 
+import java.util.List;
 import org.blackbird.requirefortesting.requirements.model.Requirement;
+import org.blackbird.requirefortesting.shared.SearchProjection;
+import org.blackbird.requirefortesting.shared.SearchSql;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface RequirementRepository extends JpaRepository<Requirement, Long> {}
+public interface RequirementRepository
+    extends JpaRepository<Requirement, Long>, JpaSpecificationExecutor<Requirement> {
+
+  @Query(
+      nativeQuery = true,
+      value = SearchSql.SELECT_RANKED + "FROM requirement t" + SearchSql.MATCHING_PAGE)
+  List<SearchProjection> search(
+      @Param("query") String query, @Param("limit") int limit, @Param("offset") long offset);
+}
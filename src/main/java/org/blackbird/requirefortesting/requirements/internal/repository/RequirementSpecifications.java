@@ -0,0 +1,54 @@
+package org.blackbird.requirefortesting.requirements.internal.repository;
+
+import java.time.LocalDateTime;
+import org.blackbird.requirefortesting.requirements.model.Requirement;
+import org.blackbird.requirefortesting.shared.Priority;
+import org.blackbird.requirefortesting.shared.Status;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class RequirementSpecifications {
+
+  private RequirementSpecifications() {}
+
+  public static Specification<Requirement> hasStatus(Status status) {
+    return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+  }
+
+  public static Specification<Requirement> hasPriority(Priority priority) {
+    return (root, query, cb) -> priority == null ? null : cb.equal(root.get("priority"), priority);
+  }
+
+  public static Specification<Requirement> isCreatedBy(Long createdBy) {
+    return (root, query, cb) ->
+        createdBy == null ? null : cb.equal(root.get("createdBy"), createdBy);
+  }
+
+  /** Orders by <code>updatedAt DESC, id DESC</code>, the order of the keyset indexes. */
+  public static Specification<Requirement> inKeysetOrder() {
+    return (root, query, cb) -> {
+      query.orderBy(cb.desc(root.get("updatedAt")), cb.desc(root.get("id")));
+      return null;
+    };
+  }
+
+  /**
+   * Keyset predicate for {@link #inKeysetOrder()}: only rows strictly behind the given position are
+   * matched. JPA criteria have no row comparison, so <code>(updated_at, id) &lt; (?, ?)</code> is
+   * embedded as SQL; unlike the equivalent OR of column comparisons, Postgres seeks into the keyset
+   * index with it instead of scanning from the start.
+   */
+  public static Specification<Requirement> isBefore(LocalDateTime updatedAt, Long id) {
+    return (root, query, cb) -> {
+      HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+      return hcb.isTrue(
+          hcb.sql(
+              "(?, ?) < (?, ?)",
+              Boolean.class,
+              root.get("updatedAt"),
+              root.get("id"),
+              hcb.value(updatedAt),
+              hcb.value(id)));
+    };
+  }
+}
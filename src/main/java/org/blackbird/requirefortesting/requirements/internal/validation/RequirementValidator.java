@@ -0,0 +1,24 @@
+package org.blackbird.requirefortesting.requirements.internal.validation;
+
+public class RequirementValidator {
+  private static final String SPECIAL_CHAR_REGEX = ".*[^a-zA-Z0-9 ].*";
+  private static final int MAX_TITLE_LENGTH = 255;
+  private static final int MAX_DESCRIPTION_LENGTH = 500;
+
+  public static void validateTitle(String title) {
+    if (title == null || title.isBlank() || title.matches(SPECIAL_CHAR_REGEX)) {
+      throw new IllegalArgumentException(
+          "Requirement title cannot be empty or contain special characters");
+    }
+  }
+
+  /** Checks the values against the column lengths of <code>requirement</code>, skipping nulls. */
+  public static void validateLengths(String title, String description) {
+    if (title != null && title.length() > MAX_TITLE_LENGTH) {
+      throw new IllegalArgumentException("Requirement title cannot exceed 255 characters");
+    }
+    if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+      throw new IllegalArgumentException("Requirement description cannot exceed 500 characters");
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package org.blackbird.requirefortesting.requirements.model;
+
+import org.blackbird.requirefortesting.shared.Priority;
+import org.blackbird.requirefortesting.shared.Status;
+
+/**
+ * A single row of a bulk request. Rows with an <code>id</code> update the existing requirement,
+ * rows without one are created.
+ */
+public record BulkRequirementDto(
+    Long id, String title, String description, Priority priority, Status status) {
+
+  public CreateOrUpdateRequirementDto toCreateOrUpdateDto() {
+    return new CreateOrUpdateRequirementDto(title, description, priority, status);
+  }
+}
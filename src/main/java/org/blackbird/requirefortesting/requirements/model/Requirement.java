@@ -9,7 +9,20 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-@Table(name = "requirement")
+@Table(
+    name = "requirement",
+    indexes = {
+      @Index(name = "idx_requirement_updated_at_id", columnList = "updated_at DESC, id DESC"),
+      @Index(
+          name = "idx_requirement_status_updated_at_id",
+          columnList = "status, updated_at DESC, id DESC"),
+      @Index(
+          name = "idx_requirement_priority_updated_at_id",
+          columnList = "priority, updated_at DESC, id DESC"),
+      @Index(
+          name = "idx_requirement_created_by_updated_at_id",
+          columnList = "created_by, updated_at DESC, id DESC")
+    })
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -18,7 +31,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @EntityListeners(AuditingEntityListener.class)
 public class Requirement {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "requirement_seq")
+  @SequenceGenerator(
+      name = "requirement_seq",
+      sequenceName = "requirement_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(nullable = false, length = 255)
@@ -39,7 +56,10 @@ public class Requirement {
   @Column(nullable = false)
   private Long createdBy;
 
-  @LastModifiedDate private LocalDateTime updatedAt;
+  // Set on creation too, the keyset listing relies on it
+  @Column(nullable = false)
+  @LastModifiedDate
+  private LocalDateTime updatedAt;
 
   @CreatedDate private LocalDateTime createdAt;
 }
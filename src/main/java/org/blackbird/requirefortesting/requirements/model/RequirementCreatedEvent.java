@@ -0,0 +1,6 @@
+package org.blackbird.requirefortesting.requirements.model;
+
+import org.blackbird.requirefortesting.shared.RequirementsChangedEvent;
+
+/** Published once a requirement has been created. */
+public record RequirementCreatedEvent(Long requirementId) implements RequirementsChangedEvent {}
@@ -0,0 +1,6 @@
+package org.blackbird.requirefortesting.requirements.model;
+
+import org.blackbird.requirefortesting.shared.RequirementsChangedEvent;
+
+/** Published once a requirement has been deleted. */
+public record RequirementDeletedEvent(Long requirementId) implements RequirementsChangedEvent {}
@@ -0,0 +1,21 @@
+package org.blackbird.requirefortesting.requirements.model;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import org.blackbird.requirefortesting.shared.Priority;
+import org.blackbird.requirefortesting.shared.Status;
+
+/**
+ * Read-only view of a {@link Requirement}. The reads are cached and shared between callers, so they
+ * return this instead of the mutable entity.
+ */
+@Builder
+public record RequirementDto(
+    Long id,
+    String title,
+    String description,
+    Priority priority,
+    Status status,
+    Long createdBy,
+    LocalDateTime updatedAt,
+    LocalDateTime createdAt) {}
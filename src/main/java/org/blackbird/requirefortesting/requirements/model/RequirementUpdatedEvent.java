@@ -0,0 +1,6 @@
+package org.blackbird.requirefortesting.requirements.model;
+
+import org.blackbird.requirefortesting.shared.RequirementsChangedEvent;
+
+/** Published once a requirement has been updated. */
+public record RequirementUpdatedEvent(Long requirementId) implements RequirementsChangedEvent {}
@@ -0,0 +1,9 @@
+package org.blackbird.requirefortesting.requirements.model;
+
+import org.blackbird.requirefortesting.shared.RequirementsChangedEvent;
+
+/**
+ * Published after a bulk upsert or import touched requirements whose ids are not tracked
+ * individually.
+ */
+public record RequirementsBulkChangedEvent(long affectedRows) implements RequirementsChangedEvent {}
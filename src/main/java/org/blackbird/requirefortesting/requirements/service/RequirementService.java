@@ -1,17 +1,39 @@
 package org.blackbird.requirefortesting.requirements.service;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import org.blackbird.requirefortesting.requirements.model.BulkRequirementDto;
 import org.blackbird.requirefortesting.requirements.model.CreateOrUpdateRequirementDto;
 import org.blackbird.requirefortesting.requirements.model.Requirement;
+import org.blackbird.requirefortesting.requirements.model.RequirementDto;
+import org.blackbird.requirefortesting.shared.BulkResult;
+import org.blackbird.requirefortesting.shared.CursorPage;
+import org.blackbird.requirefortesting.shared.DataFormat;
+import org.blackbird.requirefortesting.shared.ImportResult;
+import org.blackbird.requirefortesting.shared.Priority;
+import org.blackbird.requirefortesting.shared.SearchHit;
+import org.blackbird.requirefortesting.shared.Status;
 
 public interface RequirementService {
   Requirement createRequirement(CreateOrUpdateRequirementDto createRequirement, Long userId);
 
   Requirement updateRequirement(Long id, CreateOrUpdateRequirementDto updateRequirement);
 
-  Requirement getRequirement(Long id);
+  BulkResult bulkCreateOrUpdateRequirements(List<BulkRequirementDto> rows, Long userId);
 
-  List<Requirement> getRequirements();
+  ImportResult importRequirements(InputStream input, DataFormat format, Long userId);
+
+  void exportRequirements(OutputStream output, DataFormat format);
+
+  RequirementDto getRequirement(Long id);
+
+  List<RequirementDto> getRequirements();
+
+  CursorPage<RequirementDto> getRequirementsPage(
+      Status status, Priority priority, Long createdBy, String cursor, int size);
+
+  List<SearchHit> searchRequirements(String query, int page, int size);
 
   void deleteRequirement(Long id);
 }
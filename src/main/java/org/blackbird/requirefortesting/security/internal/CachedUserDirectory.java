@@ -0,0 +1,57 @@
+package org.blackbird.requirefortesting.security.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.security.internal.repository.UserRepository;
+import org.blackbird.requirefortesting.security.model.User;
+import org.blackbird.requirefortesting.shared.UserDirectory;
+import org.blackbird.requirefortesting.shared.UserSummary;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@link UserDirectory} backed by the "userDirectory" cache. Cached users are served per id, only
+ * the missing ones are loaded, all of them with one query.
+ */
+@Component
+@RequiredArgsConstructor
+class CachedUserDirectory implements UserDirectory {
+
+  private final UserRepository userRepository;
+  private final CacheManager cacheManager;
+
+  @Override
+  @Transactional(readOnly = true)
+  public Map<Long, UserSummary> findUsers(Collection<Long> userIds) {
+    Map<Long, UserSummary> users = new HashMap<>();
+    if (userIds.isEmpty()) {
+      return users;
+    }
+    Cache cache = cacheManager.getCache(UserCacheConfig.USER_DIRECTORY);
+    List<Long> missing = new ArrayList<>();
+    for (Long userId : userIds) {
+      UserSummary cached = cache == null ? null : cache.get(userId, UserSummary.class);
+      if (cached != null) {
+        users.put(userId, cached);
+      } else {
+        missing.add(userId);
+      }
+    }
+    if (!missing.isEmpty()) {
+      for (User user : userRepository.findAllById(missing)) {
+        UserSummary summary = new UserSummary(user.getId(), user.getUsername(), user.getEmail());
+        users.put(user.getId(), summary);
+        if (cache != null) {
+          cache.put(user.getId(), summary);
+        }
+      }
+    }
+    return users;
+  }
+}
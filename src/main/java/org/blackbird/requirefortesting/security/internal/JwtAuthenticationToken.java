@@ -0,0 +1,47 @@
+package org.blackbird.requirefortesting.security.internal;
+
+import io.jsonwebtoken.Claims;
+import java.util.Collection;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Authentication built from a verified JWT. Keeps the token and its parsed claims so the rest of
+ * the request can read them without verifying the signature again.
+ */
+public class JwtAuthenticationToken extends AbstractAuthenticationToken {
+
+  private final Object principal;
+  private final String token;
+  private final transient Claims claims;
+
+  public JwtAuthenticationToken(
+      Object principal,
+      String token,
+      Claims claims,
+      Collection<? extends GrantedAuthority> authorities) {
+    super(authorities);
+    this.principal = principal;
+    this.token = token;
+    this.claims = claims;
+    setAuthenticated(true);
+  }
+
+  @Override
+  public Object getPrincipal() {
+    return principal;
+  }
+
+  @Override
+  public Object getCredentials() {
+    return token;
+  }
+
+  public String getToken() {
+    return token;
+  }
+
+  public Claims getClaims() {
+    return claims;
+  }
+}
@@ -1,6 +1,9 @@
 package org.blackbird.requirefortesting.security.internal;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import java.nio.charset.StandardCharsets;
@@ -12,25 +15,50 @@ import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import org.blackbird.requirefortesting.security.model.User;
 import org.blackbird.requirefortesting.shared.JwtService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtil implements JwtService {
 
-  @Value("${jwt.secret:mySecretKey1234567890123456789012345678901234567890}")
-  private String jwtSecret;
-
-  @Value("${jwt.expiration:86400000}")
-  private int jwtExpiration;
-
   private static final String AUTHORIZATION_BEARER_PREFIX = "Bearer ";
   private static final Integer INDEX_OF_TOKEN_STARTS = 7;
+  private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
+  private final int jwtExpiration;
+  private final SecretKey signingKey;
+  private final JwtParser jwtParser;
+
+  // Recently verified tokens keyed by their signature, so repeated requests skip the HMAC check.
+  // Null if disabled.
+  private final Cache<String, VerifiedToken> verifiedTokens;
 
-  private SecretKey getSigningKey() {
+  private record VerifiedToken(String token, Claims claims) {}
+
+  public JwtUtil(String jwtSecret, int jwtExpiration) {
+    this(jwtSecret, jwtExpiration, VERIFIED_TOKEN_CACHE_SIZE);
+  }
+
+  /**
+   * @param verifiedTokenCacheSize number of verified tokens kept, 0 verifies every token
+   */
+  @Autowired
+  public JwtUtil(
+      @Value("${jwt.secret:mySecretKey1234567890123456789012345678901234567890}") String jwtSecret,
+      @Value("${jwt.expiration:86400000}") int jwtExpiration,
+      @Value("${jwt.verified-token-cache-size:" + VERIFIED_TOKEN_CACHE_SIZE + "}")
+          int verifiedTokenCacheSize) {
+    this.jwtExpiration = jwtExpiration;
     byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-    return new SecretKeySpec(keyBytes, SignatureAlgorithm.HS256.getJcaName());
+    this.signingKey = new SecretKeySpec(keyBytes, SignatureAlgorithm.HS256.getJcaName());
+    this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+    this.verifiedTokens =
+        verifiedTokenCacheSize > 0
+            ? Caffeine.newBuilder().maximumSize(verifiedTokenCacheSize).build()
+            : null;
   }
 
   @Override
@@ -55,6 +83,14 @@ public class JwtUtil implements JwtService {
     return claimsResolver.apply(claims);
   }
 
+  /**
+   * Verifies signature and expiry of the token (with or without {@code Bearer } prefix) and returns
+   * its claims.
+   */
+  public Claims parseClaims(String token) {
+    return extractAllClaims(extractTokenFromHeader(token));
+  }
+
   private String extractTokenFromHeader(String authToken) {
     if (authToken != null && authToken.startsWith(AUTHORIZATION_BEARER_PREFIX)) {
       return authToken.substring(INDEX_OF_TOKEN_STARTS);
@@ -63,7 +99,31 @@ public class JwtUtil implements JwtService {
   }
 
   private Claims extractAllClaims(String token) {
-    return Jwts.parser().setSigningKey(getSigningKey()).build().parseClaimsJws(token).getBody();
+    // The filter already verified the token of the current request
+    if (SecurityContextHolder.getContext().getAuthentication()
+            instanceof JwtAuthenticationToken authentication
+        && authentication.getToken().equals(token)) {
+      return authentication.getClaims();
+    }
+
+    int signatureStart = token == null ? -1 : token.lastIndexOf('.');
+    if (verifiedTokens == null || signatureStart < 0) {
+      return jwtParser.parseSignedClaims(token).getPayload();
+    }
+    String signature = token.substring(signatureStart + 1);
+    VerifiedToken verified = verifiedTokens.getIfPresent(signature);
+    if (verified != null && verified.token().equals(token) && !isExpired(verified.claims())) {
+      return verified.claims();
+    }
+
+    Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+    verifiedTokens.put(signature, new VerifiedToken(token, claims));
+    return claims;
+  }
+
+  private static boolean isExpired(Claims claims) {
+    Date expiration = claims.getExpiration();
+    return expiration != null && expiration.before(new Date());
   }
 
   private Boolean isTokenExpired(String token) {
@@ -91,7 +151,7 @@ public class JwtUtil implements JwtService {
         .setSubject(subject)
         .setIssuedAt(new Date(System.currentTimeMillis()))
         .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-        .signWith(getSigningKey())
+        .signWith(signingKey)
         .compact();
   }
 
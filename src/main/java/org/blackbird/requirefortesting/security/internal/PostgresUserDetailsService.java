@@ -9,6 +9,7 @@ import org.blackbird.requirefortesting.security.model.CreateUserDto;
 import org.blackbird.requirefortesting.security.model.User;
 import org.blackbird.requirefortesting.security.model.UserBatchDto;
 import org.blackbird.requirefortesting.security.model.UserDto;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -33,6 +34,15 @@ public class PostgresUserDetailsService implements UserDetailsService {
             () -> new UsernameNotFoundException("User not found with username: " + username));
   }
 
+  /**
+   * Same as {@link #loadUserByUsername(String)} but served from the short-lived "users" cache. Only
+   * meant for request authentication, login always reads the current user.
+   */
+  @Cacheable(cacheNames = UserCacheConfig.USERS, sync = true)
+  public UserDetails loadCachedUserByUsername(String username) throws UsernameNotFoundException {
+    return loadUserByUsername(username);
+  }
+
   public User loadUserByEmail(String email) throws UsernameNotFoundException {
     return userRepository
         .findUserByEmail(email)
@@ -1,5 +1,6 @@
 package org.blackbird.requirefortesting.security.internal;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.blackbird.requirefortesting.security.internal.filter.JwtAuthenticationFilter;
 import org.springframework.context.annotation.Bean;
@@ -31,8 +32,17 @@ class SecurityConfig {
         .cors(Customizer.withDefaults())
         .sessionManagement(
             session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+        // The JWT is only read on the initial request. The ASYNC dispatch that completes a
+        // streamed response (exports, progress events) carries no authentication, but the
+        // request was authorized before it started
         .authorizeHttpRequests(
-            auth -> auth.requestMatchers("/api/auth/**").permitAll().anyRequest().authenticated())
+            auth ->
+                auth.dispatcherTypeMatchers(DispatcherType.ASYNC)
+                    .permitAll()
+                    .requestMatchers("/api/auth/**")
+                    .permitAll()
+                    .anyRequest()
+                    .authenticated())
         .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
     return http.build();
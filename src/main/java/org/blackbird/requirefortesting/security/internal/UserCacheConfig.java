@@ -0,0 +1,46 @@
+package org.blackbird.requirefortesting.security.internal;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Small cache of loaded users for the non-stateless authentication mode. Entries expire quickly so
+ * disabled users and role changes are picked up without explicit eviction.
+ *
+ * <p>The user directory cache holds username and email by id for expanding creators in listings.
+ * Those rarely change, so entries live longer.
+ */
+@Configuration
+class UserCacheConfig {
+
+  static final String USERS = "users";
+  static final String USER_DIRECTORY = "userDirectory";
+
+  @Bean
+  CacheManagerCustomizer<CaffeineCacheManager> userCacheCustomizer() {
+    return cacheManager ->
+        cacheManager.registerCustomCache(
+            USERS,
+            Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(Duration.ofSeconds(60))
+                .recordStats()
+                .build());
+  }
+
+  @Bean
+  CacheManagerCustomizer<CaffeineCacheManager> userDirectoryCacheCustomizer() {
+    return cacheManager ->
+        cacheManager.registerCustomCache(
+            USER_DIRECTORY,
+            Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .recordStats()
+                .build());
+  }
+}
@@ -1,30 +1,49 @@
 package org.blackbird.requirefortesting.security.internal.filter;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import org.blackbird.requirefortesting.security.internal.JwtAuthenticationToken;
 import org.blackbird.requirefortesting.security.internal.JwtUtil;
 import org.blackbird.requirefortesting.security.internal.PostgresUserDetailsService;
+import org.blackbird.requirefortesting.security.model.JwtPrincipal;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+/**
+ * Authenticates requests carrying a bearer token. The token is verified once and its claims are
+ * kept in the {@link JwtAuthenticationToken} for the rest of the request. In stateless mode (the
+ * default) the principal and authorities are taken from the claims, so no database access is
+ * needed. With {@code jwt.stateless=false} the user is loaded through the short-lived user cache.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final PostgresUserDetailsService userDetailsService;
   private final JwtUtil jwtUtil;
+  private final boolean stateless;
 
   public JwtAuthenticationFilter(
-      @Lazy PostgresUserDetailsService userDetailsService, JwtUtil jwtUtil) {
+      @Lazy PostgresUserDetailsService userDetailsService,
+      JwtUtil jwtUtil,
+      @Value("${jwt.stateless:true}") boolean stateless) {
     this.userDetailsService = userDetailsService;
     this.jwtUtil = jwtUtil;
+    this.stateless = stateless;
   }
 
   @Override
@@ -34,25 +53,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     final String authorizationHeader = request.getHeader("Authorization");
 
-    String username = null;
     String jwt = null;
+    Claims claims = null;
 
     if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
       jwt = authorizationHeader.substring(7);
       try {
-        username = jwtUtil.extractUsername(jwt);
-      } catch (Exception e) {
-        logger.warn("Cannot extract username from JWT token");
+        claims = jwtUtil.parseClaims(jwt);
+      } catch (JwtException | IllegalArgumentException e) {
+        logger.warn("Cannot verify JWT token");
       }
     }
 
-    if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-      UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-
-      if (jwtUtil.validateToken(jwt, userDetails)) {
-        UsernamePasswordAuthenticationToken authenticationToken =
-            new UsernamePasswordAuthenticationToken(
-                userDetails, null, userDetails.getAuthorities());
+    if (claims != null
+        && claims.getSubject() != null
+        && SecurityContextHolder.getContext().getAuthentication() == null) {
+      JwtAuthenticationToken authenticationToken =
+          stateless ? authenticateFromClaims(jwt, claims) : authenticateFromUser(jwt, claims);
+      if (authenticationToken != null) {
         authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
       }
@@ -60,4 +78,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     filterChain.doFilter(request, response);
   }
+
+  private static JwtAuthenticationToken authenticateFromClaims(String jwt, Claims claims) {
+    JwtPrincipal principal =
+        new JwtPrincipal(claims.get("userId", Long.class), claims.getSubject());
+    return new JwtAuthenticationToken(principal, jwt, claims, extractAuthorities(claims));
+  }
+
+  private JwtAuthenticationToken authenticateFromUser(String jwt, Claims claims) {
+    UserDetails userDetails;
+    try {
+      userDetails = userDetailsService.loadCachedUserByUsername(claims.getSubject());
+    } catch (UsernameNotFoundException e) {
+      logger.warn("JWT token refers to an unknown user");
+      return null;
+    }
+    return new JwtAuthenticationToken(userDetails, jwt, claims, userDetails.getAuthorities());
+  }
+
+  private static Collection<GrantedAuthority> extractAuthorities(Claims claims) {
+    Object roles = claims.get("roles");
+    if (!(roles instanceof Collection<?> roleNames)) {
+      return List.of();
+    }
+    return roleNames.stream()
+        .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(role)))
+        .toList();
+  }
 }
@@ -0,0 +1,4 @@
+package org.blackbird.requirefortesting.security.model;
+
+/** Principal of a request authenticated from the JWT claims alone, without loading the user. */
+public record JwtPrincipal(Long userId, String username) {}
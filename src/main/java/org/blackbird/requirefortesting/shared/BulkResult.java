@@ -0,0 +1,21 @@
+package org.blackbird.requirefortesting.shared;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk create/update request. Rows that fail validation are reported in <code>errors
+ * </code> and skipped, all other rows are persisted.
+ *
+ * @param created
+ * @param updated
+ * @param errors
+ */
+public record BulkResult(int created, int updated, List<BulkRowError> errors) {
+
+  /**
+   * @param index position of the row in the request body
+   * @param id id of the row, <code>null</code> for rows that should have been created
+   * @param message
+   */
+  public record BulkRowError(int index, Long id, String message) {}
+}
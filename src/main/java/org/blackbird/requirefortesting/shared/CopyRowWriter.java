@@ -0,0 +1,67 @@
+package org.blackbird.requirefortesting.shared;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+/**
+ * Streams rows into a <code>COPY ... FROM STDIN (FORMAT csv)</code> statement. Rows are encoded and
+ * handed to the driver in fixed-size buffers, so memory does not grow with the row count. Closing
+ * the writer completes the COPY.
+ */
+public class CopyRowWriter implements AutoCloseable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Writer writer;
+
+  public CopyRowWriter(Connection connection, String copySql) throws SQLException {
+    PGConnection pgConnection = connection.unwrap(PGConnection.class);
+    this.writer =
+        new BufferedWriter(
+            new OutputStreamWriter(
+                new PGCopyOutputStream(pgConnection, copySql, BUFFER_SIZE), StandardCharsets.UTF_8),
+            BUFFER_SIZE);
+  }
+
+  public void writeRow(Object... values) {
+    try {
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          writer.write(',');
+        }
+        writeValue(values[i]);
+      }
+      writer.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // An unquoted empty field is NULL in COPY's csv format, quoted values are taken literally
+  private void writeValue(Object value) throws IOException {
+    if (value == null) {
+      return;
+    }
+    String text = value instanceof Enum<?> enumValue ? enumValue.name() : value.toString();
+    writer.write('"');
+    writer.write(text.replace("\"", "\"\""));
+    writer.write('"');
+  }
+
+  @Override
+  public void close() {
+    try {
+      writer.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
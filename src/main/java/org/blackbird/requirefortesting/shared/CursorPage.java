@@ -0,0 +1,9 @@
+package org.blackbird.requirefortesting.shared;
+
+import java.util.List;
+
+/**
+ * A single page of a keyset-paginated listing. <code>nextCursor</code> is an opaque token that has
+ * to be passed back to fetch the following page and is <code>null</code> on the last page.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {}
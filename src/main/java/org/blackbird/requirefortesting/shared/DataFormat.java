@@ -0,0 +1,27 @@
+package org.blackbird.requirefortesting.shared;
+
+public enum DataFormat {
+  CSV("text/csv"),
+  NDJSON("application/x-ndjson");
+
+  private final String mediaType;
+
+  DataFormat(String mediaType) {
+    this.mediaType = mediaType;
+  }
+
+  public String getMediaType() {
+    return mediaType;
+  }
+
+  public static DataFormat fromContentType(String contentType) {
+    if (contentType != null) {
+      for (DataFormat format : values()) {
+        if (contentType.toLowerCase().startsWith(format.mediaType)) {
+          return format;
+        }
+      }
+    }
+    throw new IllegalArgumentException("Unsupported content type: " + contentType);
+  }
+}
@@ -7,6 +7,7 @@ import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -98,6 +99,23 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
   }
 
+  @ExceptionHandler(TooManyRequestsException.class)
+  ResponseEntity<ErrorResponse> handleTooManyRequestsException(
+      TooManyRequestsException ex, HttpServletRequest request) {
+    log.warn("Request refused: {}", ex.getMessage());
+    ErrorResponse errorResponse =
+        ErrorResponse.builder()
+            .timestamp(LocalDateTime.now())
+            .status(HttpStatus.TOO_MANY_REQUESTS.value())
+            .error("TOO_MANY_REQUESTS")
+            .message(ex.getMessage())
+            .path(request.getRequestURI())
+            .build();
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(errorResponse);
+  }
+
   @ExceptionHandler(Exception.class)
   ResponseEntity<ErrorResponse> handleGenericException(Exception ex, HttpServletRequest request) {
     log.error("Unexpected error: {}", ex.getMessage(), ex);
@@ -0,0 +1,35 @@
+package org.blackbird.requirefortesting.shared;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.blackbird.requirefortesting.shared.BulkResult.BulkRowError;
+
+/**
+ * Outcome of a streaming import. Only the first rejected rows are listed in <code>errors</code>
+ * (with the 1-based record number as index), <code>rejected</code> always holds the full count.
+ *
+ * @param imported
+ * @param rejected
+ * @param errors
+ */
+public record ImportResult(long imported, long rejected, List<BulkRowError> errors) {
+
+  public static final int MAX_REPORTED_ERRORS = 100;
+
+  /** Counts rejected rows while keeping a bounded list of their errors. */
+  public static class Collector {
+    private final List<BulkRowError> errors = new ArrayList<>();
+    private long rejected;
+
+    public void reject(long recordNumber, String message) {
+      rejected++;
+      if (errors.size() < MAX_REPORTED_ERRORS) {
+        errors.add(new BulkRowError((int) recordNumber, null, message));
+      }
+    }
+
+    public ImportResult toResult(long imported) {
+      return new ImportResult(imported, rejected, List.copyOf(errors));
+    }
+  }
+}
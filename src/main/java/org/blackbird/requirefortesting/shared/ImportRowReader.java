@@ -0,0 +1,71 @@
+package org.blackbird.requirefortesting.shared;
+
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads CSV (with header line) or NDJSON records one at a time, so an import never holds more than
+ * the current record in memory. Records that cannot be mapped are handed to the error callback and
+ * skipped, syntactically broken input aborts the import.
+ */
+public final class ImportRowReader {
+
+  private static final ObjectReader JSON_READER =
+      new ObjectMapper()
+          .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+          .reader();
+
+  private static final ObjectReader CSV_READER =
+      CsvMapper.builder()
+          .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+          .enable(CsvParser.Feature.TRIM_SPACES)
+          .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+          .build()
+          .reader()
+          .with(CsvSchema.emptySchema().withHeader());
+
+  private ImportRowReader() {}
+
+  /**
+   * @param rowConsumer receives the 1-based record number and every successfully mapped record
+   * @param errorConsumer receives the 1-based record number and the reason of unreadable records
+   */
+  public static <T> void read(
+      InputStream input,
+      DataFormat format,
+      Class<T> rowType,
+      BiConsumer<Long, T> rowConsumer,
+      BiConsumer<Long, String> errorConsumer) {
+    ObjectReader reader = (format == DataFormat.CSV ? CSV_READER : JSON_READER).forType(rowType);
+    long recordNumber = 0;
+    try (MappingIterator<T> rows = reader.readValues(input)) {
+      while (true) {
+        try {
+          if (!rows.hasNextValue()) {
+            return;
+          }
+          recordNumber++;
+          rowConsumer.accept(recordNumber, rows.nextValue());
+        } catch (JsonMappingException e) {
+          errorConsumer.accept(recordNumber, e.getOriginalMessage());
+        }
+      }
+    } catch (StreamReadException e) {
+      throw new IllegalArgumentException(
+          "Malformed import data after record " + recordNumber + ": " + e.getOriginalMessage());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,7 @@
+package org.blackbird.requirefortesting.shared;
+
+/**
+ * Implemented by the events the requirements module publishes once requirements have changed, so
+ * other modules can react to any such change without depending on that module.
+ */
+public interface RequirementsChangedEvent {}
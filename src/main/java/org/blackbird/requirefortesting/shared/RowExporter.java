@@ -0,0 +1,151 @@
+package org.blackbird.requirefortesting.shared;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Streams the result of a query straight to an {@link OutputStream} as CSV (with header line) or
+ * NDJSON. Column labels become the CSV header and the JSON field names.
+ *
+ * <p>PostgreSQL only honours the fetch size, and therefore reads the result through a server side
+ * cursor, when auto-commit is off. Callers have to run inside a (read-only) transaction, otherwise
+ * the whole result is materialized by the driver.
+ */
+@Component
+public class RowExporter {
+
+  private static final int FETCH_SIZE = 1000;
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public RowExporter(DataSource dataSource) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+  public void export(OutputStream output, DataFormat format, String sql, Object... args) {
+    try {
+      if (format == DataFormat.CSV) {
+        exportCsv(output, sql, args);
+      } else {
+        exportNdjson(output, sql, args);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void exportNdjson(OutputStream output, String sql, Object... args) throws IOException {
+    try (JsonGenerator generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8)) {
+      generator.setRootValueSeparator(null);
+      jdbcTemplate.query(
+          sql,
+          resultSet -> {
+            try {
+              writeJsonRow(generator, resultSet);
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          },
+          args);
+    }
+  }
+
+  private static void writeJsonRow(JsonGenerator generator, ResultSet resultSet)
+      throws IOException, SQLException {
+    ResultSetMetaData metaData = resultSet.getMetaData();
+    generator.writeStartObject();
+    for (int column = 1; column <= metaData.getColumnCount(); column++) {
+      generator.writeFieldName(metaData.getColumnLabel(column));
+      switch (metaData.getColumnType(column)) {
+        case Types.BIGINT, Types.INTEGER, Types.SMALLINT -> {
+          long value = resultSet.getLong(column);
+          if (resultSet.wasNull()) {
+            generator.writeNull();
+          } else {
+            generator.writeNumber(value);
+          }
+        }
+        default -> generator.writeString(readText(resultSet, metaData, column));
+      }
+    }
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+  }
+
+  private void exportCsv(OutputStream output, String sql, Object... args) throws IOException {
+    Writer writer =
+        new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+    boolean[] headerWritten = {false};
+    jdbcTemplate.query(
+        sql,
+        resultSet -> {
+          try {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            if (!headerWritten[0]) {
+              for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                writeCsvValue(writer, column, metaData.getColumnLabel(column));
+              }
+              writer.write('\n');
+              headerWritten[0] = true;
+            }
+            for (int column = 1; column <= metaData.getColumnCount(); column++) {
+              writeCsvValue(writer, column, readText(resultSet, metaData, column));
+            }
+            writer.write('\n');
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        args);
+    writer.flush();
+  }
+
+  private static void writeCsvValue(Writer writer, int column, String value) throws IOException {
+    if (column > 1) {
+      writer.write(',');
+    }
+    if (value == null) {
+      return;
+    }
+    if (value.indexOf(',') >= 0
+        || value.indexOf('"') >= 0
+        || value.indexOf('\n') >= 0
+        || value.indexOf('\r') >= 0) {
+      writer.write('"');
+      writer.write(value.replace("\"", "\"\""));
+      writer.write('"');
+    } else {
+      writer.write(value);
+    }
+  }
+
+  private static String readText(ResultSet resultSet, ResultSetMetaData metaData, int column)
+      throws SQLException {
+    if (metaData.getColumnType(column) == Types.TIMESTAMP) {
+      LocalDateTime value = resultSet.getObject(column, LocalDateTime.class);
+      return value != null ? value.toString() : null;
+    }
+    return resultSet.getString(column);
+  }
+}
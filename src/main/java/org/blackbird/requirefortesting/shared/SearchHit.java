@@ -0,0 +1,8 @@
+package org.blackbird.requirefortesting.shared;
+
+/**
+ * A ranked full-text search result. <code>snippet</code> is an HTML fragment: the matching parts of
+ * the description (or title), HTML-escaped, with matched terms wrapped in <code>&lt;mark&gt;</code>
+ * tags. <code>title</code> is plain, unescaped text and must not be rendered as HTML.
+ */
+public record SearchHit(Long id, String title, String snippet, double rank) {}
@@ -0,0 +1,16 @@
+package org.blackbird.requirefortesting.shared;
+
+/** Row shape returned by the native full-text search queries of the individual modules. */
+public interface SearchProjection {
+  Long getId();
+
+  String getTitle();
+
+  String getSnippet();
+
+  Double getRank();
+
+  default SearchHit toSearchHit() {
+    return new SearchHit(getId(), getTitle(), getSnippet(), getRank());
+  }
+}
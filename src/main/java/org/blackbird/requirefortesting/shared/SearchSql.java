@@ -0,0 +1,42 @@
+package org.blackbird.requirefortesting.shared;
+
+/**
+ * The native full-text search query shared by the modules, split around the searched table so it
+ * can still be used as a constant in <code>@Query</code>:
+ *
+ * <pre>SearchSql.SELECT_RANKED + "FROM requirement t" + SearchSql.MATCHING_PAGE</pre>
+ *
+ * The table is aliased <code>t</code> and needs the columns <code>id</code>, <code>title</code>,
+ * <code>description</code> and <code>search_vector</code>. Rows are returned as {@link
+ * SearchProjection}, and headlines are only generated for the rows of the requested page. The text
+ * is HTML-escaped before the matches are marked, so stored markup comes back as text and the
+ * snippet's only tags are the <code>&lt;mark&gt;</code> ones.
+ */
+public final class SearchSql {
+
+  public static final String SELECT_RANKED =
+      """
+      SELECT hit.id AS id,
+             hit.title AS title,
+             ts_headline('simple',
+                 replace(replace(replace(replace(coalesce(hit.description, hit.title),
+                     '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '"', '&quot;'),
+                 hit.query,
+                 'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5')
+                 AS snippet,
+             hit.rank AS rank
+      FROM (SELECT t.id, t.title, t.description, q.query,
+                   CAST(ts_rank_cd(t.search_vector, q.query) AS double precision) AS rank
+      """;
+
+  public static final String MATCHING_PAGE =
+      """
+      , websearch_to_tsquery('simple', :query) AS q(query)
+            WHERE t.search_vector @@ q.query
+            ORDER BY rank DESC, t.id
+            LIMIT :limit OFFSET :offset) hit
+      ORDER BY hit.rank DESC, hit.id
+      """;
+
+  private SearchSql() {}
+}
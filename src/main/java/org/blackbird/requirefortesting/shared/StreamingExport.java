@@ -0,0 +1,40 @@
+package org.blackbird.requirefortesting.shared;
+
+import java.io.OutputStream;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/** Builds the streaming HTTP response for the export endpoints. */
+public final class StreamingExport {
+
+  private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+  private StreamingExport() {}
+
+  public static ResponseEntity<StreamingResponseBody> of(
+      DataFormat format, boolean gzip, Consumer<OutputStream> writer) {
+    if (format == null) {
+      throw new IllegalArgumentException("Export format must be provided");
+    }
+    StreamingResponseBody body =
+        output -> {
+          if (gzip) {
+            try (GZIPOutputStream compressed = new GZIPOutputStream(output, GZIP_BUFFER_SIZE)) {
+              writer.accept(compressed);
+            }
+          } else {
+            writer.accept(output);
+          }
+        };
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok().contentType(MediaType.parseMediaType(format.getMediaType()));
+    if (gzip) {
+      response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    return response.body(body);
+  }
+}
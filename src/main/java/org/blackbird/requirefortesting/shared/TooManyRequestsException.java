@@ -0,0 +1,15 @@
+package org.blackbird.requirefortesting.shared;
+
+import lombok.Getter;
+
+/** Thrown when a request is refused to protect the system, the client should retry later. */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+  private final long retryAfterSeconds;
+
+  public TooManyRequestsException(String message, long retryAfterSeconds) {
+    super(message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
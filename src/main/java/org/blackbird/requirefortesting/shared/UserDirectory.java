@@ -0,0 +1,23 @@
+package org.blackbird.requirefortesting.shared;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/** Read access to the users for modules that only know user ids. */
+public interface UserDirectory {
+
+  /** Looks up the given users at once, ids of unknown users are left out of the result. */
+  Map<Long, UserSummary> findUsers(Collection<Long> userIds);
+
+  /** Pairs every item with its creator, resolving all creators with a single lookup. */
+  default <T> List<WithCreator<T>> withCreators(List<T> items, Function<T, Long> createdBy) {
+    Map<Long, UserSummary> creators =
+        findUsers(items.stream().map(createdBy).filter(Objects::nonNull).distinct().toList());
+    return items.stream()
+        .map(item -> new WithCreator<>(item, creators.get(createdBy.apply(item))))
+        .toList();
+  }
+}
@@ -0,0 +1,4 @@
+package org.blackbird.requirefortesting.shared;
+
+/** Public identity of a user, as inlined into listings. */
+public record UserSummary(Long id, String username, String email) {}
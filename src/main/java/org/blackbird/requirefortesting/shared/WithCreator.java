@@ -0,0 +1,11 @@
+package org.blackbird.requirefortesting.shared;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * A listed item together with its resolved creator. The item's own properties stay at the top
+ * level, the creator is added next to them.
+ *
+ * @param creator null if the creating user no longer exists
+ */
+public record WithCreator<T>(@JsonUnwrapped T item, UserSummary creator) {}
@@ -1,14 +1,28 @@
 package org.blackbird.requirefortesting.testexecution.api;
 
+import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.shared.DataFormat;
+import org.blackbird.requirefortesting.shared.ImportResult;
 import org.blackbird.requirefortesting.shared.JwtService;
+import org.blackbird.requirefortesting.shared.StreamingExport;
+import org.blackbird.requirefortesting.testexecution.model.BulkAssignmentDto;
+import org.blackbird.requirefortesting.testexecution.model.BulkAssignmentResult;
+import org.blackbird.requirefortesting.testexecution.model.JunitMatchKey;
+import org.blackbird.requirefortesting.testexecution.model.SubmissionStatus;
+import org.blackbird.requirefortesting.testexecution.model.SubmitTestResultDto;
 import org.blackbird.requirefortesting.testexecution.model.TestExecution;
 import org.blackbird.requirefortesting.testexecution.model.UpdateTestResultDto;
 import org.blackbird.requirefortesting.testexecution.service.TestExecutionService;
 import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/test-executions")
@@ -26,6 +40,14 @@ public class TestExecutionController {
     return ResponseEntity.ok(execution);
   }
 
+  @PreAuthorize("hasRole('TEST_MANAGER')")
+  @PostMapping("/runs/{testRunId}/assign")
+  public ResponseEntity<BulkAssignmentResult> assignTestRun(
+      @PathVariable Long testRunId, @Valid @RequestBody BulkAssignmentDto assignmentDto) {
+    BulkAssignmentResult result = executionService.assignTestRun(testRunId, assignmentDto);
+    return ResponseEntity.ok(result);
+  }
+
   //  @PreAuthorize("hasRole('TESTER')")
   @PutMapping("/{executionId}/result")
   public ResponseEntity<TestExecution> submitResult(
@@ -40,6 +62,49 @@ public class TestExecutionController {
     return ResponseEntity.ok(execution);
   }
 
+  //  @PreAuthorize("hasRole('TESTER')")
+  @PutMapping("/results")
+  public ResponseEntity<List<SubmissionStatus>> submitResults(
+      @RequestBody List<SubmitTestResultDto> submissions,
+      @RequestHeader("Authorization") String authToken) {
+    Long testerId = jwtService.extractUserId(authToken);
+    List<SubmissionStatus> statuses = executionService.submitTestResults(submissions, testerId);
+    return ResponseEntity.ok(statuses);
+  }
+
+  /**
+   * Queues results for a background writer instead of writing them in the request. Answers 202 once
+   * they are journaled, results for executions the tester is not assigned to are dropped.
+   */
+  //  @PreAuthorize("hasRole('TESTER')")
+  @PutMapping("/results/queued")
+  public ResponseEntity<Void> enqueueResults(
+      @RequestBody List<SubmitTestResultDto> submissions,
+      @RequestHeader("Authorization") String authToken) {
+    Long testerId = jwtService.extractUserId(authToken);
+    executionService.enqueueTestResults(submissions, testerId);
+    return ResponseEntity.accepted().build();
+  }
+
+  @PostMapping(
+      value = "/runs/{testRunId}/junit",
+      consumes = {MediaType.APPLICATION_XML_VALUE, MediaType.TEXT_XML_VALUE})
+  public ResponseEntity<ImportResult> importJunitReport(
+      @PathVariable Long testRunId,
+      @RequestParam(defaultValue = "NAME") JunitMatchKey key,
+      @RequestHeader("Authorization") String authToken,
+      InputStream body) {
+    Long testerId = jwtService.extractUserId(authToken);
+    ImportResult result = executionService.importJunitReport(testRunId, body, key, testerId);
+    return ResponseEntity.ok(result);
+  }
+
+  /** Streams the progress of a test run as server-sent <code>progress</code> events. */
+  @GetMapping(value = "/runs/{testRunId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamProgress(@PathVariable Long testRunId) {
+    return executionService.streamProgress(testRunId);
+  }
+
   //  @PreAuthorize("hasRole('TESTER')")
   @GetMapping("/assigned")
   public ResponseEntity<List<TestExecution>> getAssignedExecutions(
@@ -48,4 +113,14 @@ public class TestExecutionController {
     List<TestExecution> executions = executionService.getExecutionsForTester(testerId);
     return ResponseEntity.ok(executions);
   }
+
+  @PreAuthorize("hasRole('TEST_MANAGER')")
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportExecutions(
+      @RequestParam(required = false) Long testRunId,
+      @RequestParam(defaultValue = "NDJSON") DataFormat format,
+      @RequestParam(defaultValue = "false") boolean gzip) {
+    return StreamingExport.of(
+        format, gzip, output -> executionService.exportExecutions(output, format, testRunId));
+  }
 }
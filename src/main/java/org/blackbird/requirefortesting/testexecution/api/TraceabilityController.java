@@ -0,0 +1,21 @@
+package org.blackbird.requirefortesting.testexecution.api;
+
+import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.shared.CursorPage;
+import org.blackbird.requirefortesting.testexecution.model.TraceabilityEntry;
+import org.blackbird.requirefortesting.testexecution.service.TraceabilityService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/traceability")
+@RequiredArgsConstructor
+public class TraceabilityController {
+  private final TraceabilityService traceabilityService;
+
+  @GetMapping
+  public ResponseEntity<CursorPage<TraceabilityEntry>> getTraceabilityMatrix(
+      @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "50") int size) {
+    return ResponseEntity.ok(traceabilityService.getTraceabilityMatrix(cursor, size));
+  }
+}
@@ -0,0 +1,86 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import org.blackbird.requirefortesting.testexecution.internal.repository.UnassignedTestCase;
+import org.blackbird.requirefortesting.testexecution.model.AssignmentStrategy;
+
+/**
+ * Computes which tester gets which test case for a bulk assignment. Works purely in memory on the
+ * rows loaded up front, so the result can be written with a single insert.
+ */
+class AssignmentPlanner {
+
+  record Assignment(Long testCaseId, Long testerId) {}
+
+  private AssignmentPlanner() {}
+
+  /**
+   * @param testCases unassigned test cases, in the order they should be handed out
+   * @param testerIds distinct tester ids
+   * @param openExecutions current number of open executions per tester, missing testers have none
+   */
+  static List<Assignment> plan(
+      List<UnassignedTestCase> testCases,
+      List<Long> testerIds,
+      Map<Long, Long> openExecutions,
+      AssignmentStrategy strategy) {
+    List<Assignment> assignments = new ArrayList<>(testCases.size());
+    if (strategy == AssignmentStrategy.ROUND_ROBIN) {
+      for (int i = 0; i < testCases.size(); i++) {
+        Long testerId = testerIds.get(i % testerIds.size());
+        assignments.add(new Assignment(testCases.get(i).getTestCaseId(), testerId));
+      }
+      return assignments;
+    }
+
+    PriorityQueue<TesterSlot> testers = testerSlots(testerIds, openExecutions);
+    if (strategy == AssignmentStrategy.LEAST_LOADED) {
+      for (UnassignedTestCase testCase : testCases) {
+        TesterSlot tester = testers.poll();
+        assignments.add(new Assignment(testCase.getTestCaseId(), tester.testerId()));
+        testers.add(tester.plus(1));
+      }
+      return assignments;
+    }
+
+    Map<Long, List<Long>> testCasesByRequirement = new LinkedHashMap<>();
+    for (UnassignedTestCase testCase : testCases) {
+      testCasesByRequirement
+          .computeIfAbsent(testCase.getRequirementId(), id -> new ArrayList<>())
+          .add(testCase.getTestCaseId());
+    }
+    // Largest requirements first keeps the final loads close to each other
+    List<List<Long>> groups = new ArrayList<>(testCasesByRequirement.values());
+    groups.sort(Comparator.comparingInt(List<Long>::size).reversed());
+    for (List<Long> group : groups) {
+      TesterSlot tester = testers.poll();
+      group.forEach(testCaseId -> assignments.add(new Assignment(testCaseId, tester.testerId())));
+      testers.add(tester.plus(group.size()));
+    }
+    return assignments;
+  }
+
+  /** Ties are broken by the position in the request, so the plan is deterministic. */
+  private record TesterSlot(Long testerId, int position, long load) {
+    TesterSlot plus(int assigned) {
+      return new TesterSlot(testerId, position, load + assigned);
+    }
+  }
+
+  private static PriorityQueue<TesterSlot> testerSlots(
+      List<Long> testerIds, Map<Long, Long> openExecutions) {
+    PriorityQueue<TesterSlot> testers =
+        new PriorityQueue<>(
+            Comparator.comparingLong(TesterSlot::load).thenComparingInt(TesterSlot::position));
+    for (int i = 0; i < testerIds.size(); i++) {
+      Long testerId = testerIds.get(i);
+      testers.add(new TesterSlot(testerId, i, openExecutions.getOrDefault(testerId, 0L)));
+    }
+    return testers;
+  }
+}
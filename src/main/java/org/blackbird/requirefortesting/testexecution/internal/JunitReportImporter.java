@@ -0,0 +1,109 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import java.io.InputStream;
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.shared.ImportResult;
+import org.blackbird.requirefortesting.testexecution.internal.JunitReportReader.JunitTestCase;
+import org.blackbird.requirefortesting.testexecution.model.JunitMatchKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the results of a JUnit report as executions of the calling tester in a test run. Test
+ * cases are streamed from the report and upserted in batches: each batch is matched against the
+ * titles of the run's test cases and written with a single statement. Has to run inside a
+ * transaction.
+ */
+@Component
+@RequiredArgsConstructor
+class JunitReportImporter {
+
+  static final int BATCH_SIZE = 500;
+
+  private static final String UPSERT_BATCH =
+      """
+      WITH report AS (
+          SELECT * FROM unnest(CAST(? AS text[]), CAST(? AS text[]), CAST(? AS text[]))
+              WITH ORDINALITY AS r(title, test_result, comment, ord)),
+      matched AS (
+          SELECT report.ord, tc.id AS test_case_id, report.test_result, report.comment
+          FROM report
+          JOIN test_case tc ON tc.title = report.title
+          JOIN test_run_test_case rc ON rc.test_case_id = tc.id AND rc.test_run_id = ?),
+      upserted AS (
+          INSERT INTO test_execution
+              (id, test_run_id, test_case_id, tester_id, test_result, comment)
+          SELECT nextval('test_execution_seq'), ?, test_case_id, ?, test_result, comment
+          FROM matched
+          ON CONFLICT (test_run_id, test_case_id, tester_id)
+              DO UPDATE SET test_result = EXCLUDED.test_result, comment = EXCLUDED.comment
+          RETURNING 1)
+      SELECT (SELECT count(*) FROM upserted),
+             ARRAY(SELECT ord FROM report WHERE ord NOT IN (SELECT ord FROM matched) ORDER BY ord)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  ImportResult importReport(
+      InputStream input, JunitMatchKey matchKey, Long testRunId, Long testerId) {
+    ImportResult.Collector collector = new ImportResult.Collector();
+    long[] imported = {0};
+    // Keyed by title: a repeated test (e.g. a rerun) in the same batch keeps its last result
+    Map<String, JunitTestCase> batch = new LinkedHashMap<>();
+
+    JunitReportReader.read(
+        input,
+        matchKey,
+        testCase -> {
+          if (testCase.key() == null || testCase.key().isBlank()) {
+            collector.reject(testCase.recordNumber(), "Test case has no name");
+            return;
+          }
+          batch.remove(testCase.key());
+          batch.put(testCase.key(), testCase);
+          if (batch.size() == BATCH_SIZE) {
+            imported[0] += upsert(batch, testRunId, testerId, collector);
+            batch.clear();
+          }
+        });
+    if (!batch.isEmpty()) {
+      imported[0] += upsert(batch, testRunId, testerId, collector);
+    }
+    return collector.toResult(imported[0]);
+  }
+
+  private long upsert(
+      Map<String, JunitTestCase> batch,
+      Long testRunId,
+      Long testerId,
+      ImportResult.Collector collector) {
+    List<JunitTestCase> testCases = new ArrayList<>(batch.values());
+    String[] titles = testCases.stream().map(JunitTestCase::key).toArray(String[]::new);
+    String[] results = testCases.stream().map(t -> t.result().name()).toArray(String[]::new);
+    String[] comments = testCases.stream().map(JunitTestCase::comment).toArray(String[]::new);
+
+    return jdbcTemplate.queryForObject(
+        UPSERT_BATCH,
+        (rs, rowNum) -> {
+          Array unmatched = rs.getArray(2);
+          for (Long ord : (Long[]) unmatched.getArray()) {
+            JunitTestCase testCase = testCases.get(ord.intValue() - 1);
+            collector.reject(
+                testCase.recordNumber(),
+                "No test case titled '" + testCase.key() + "' in the test run");
+          }
+          return rs.getLong(1);
+        },
+        titles,
+        results,
+        comments,
+        testRunId,
+        testRunId,
+        testerId);
+  }
+}
@@ -0,0 +1,113 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.blackbird.requirefortesting.testexecution.model.JunitMatchKey;
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+
+/**
+ * Streams the <code>testcase</code> elements of a JUnit/Surefire XML report (<code>testsuites
+ * </code> or a single <code>testsuite</code>) with StAX. Only attributes are read, failure bodies
+ * (stack traces) and system output are skipped, so memory use does not depend on the report size.
+ */
+class JunitReportReader {
+
+  static final int MAX_COMMENT_LENGTH = 1_000;
+
+  private static final XMLInputFactory FACTORY = createFactory();
+
+  /**
+   * @param recordNumber 1-based position of the test case in the report
+   * @param key value of the configured match key
+   * @param comment failure, error or skip message, if any
+   */
+  record JunitTestCase(long recordNumber, String key, TestResult result, String comment) {}
+
+  private JunitReportReader() {}
+
+  static void read(InputStream input, JunitMatchKey matchKey, Consumer<JunitTestCase> consumer) {
+    XMLStreamReader reader = null;
+    long recordNumber = 0;
+    try {
+      reader = FACTORY.createXMLStreamReader(input);
+      String key = null;
+      TestResult result = null;
+      String comment = null;
+      while (reader.hasNext()) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          switch (reader.getLocalName()) {
+            case "testcase" -> {
+              recordNumber++;
+              key = key(reader, matchKey);
+              result = TestResult.PASSED;
+              comment = null;
+            }
+            case "failure" -> {
+              result = TestResult.FAILED;
+              comment = message(reader);
+            }
+            case "error" -> {
+              // The test could not run to a verdict
+              result = TestResult.BLOCKED;
+              comment = message(reader);
+            }
+            case "skipped" -> {
+              if (result == TestResult.PASSED) {
+                result = TestResult.SKIPPED;
+                comment = message(reader);
+              }
+            }
+            default -> {}
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT
+            && "testcase".equals(reader.getLocalName())) {
+          consumer.accept(new JunitTestCase(recordNumber, key, result, comment));
+        }
+      }
+    } catch (XMLStreamException e) {
+      throw new IllegalArgumentException(
+          "Malformed JUnit report after test case " + recordNumber + ": " + e.getMessage());
+    } finally {
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (XMLStreamException ignored) {
+          // nothing left to release
+        }
+      }
+    }
+  }
+
+  private static String key(XMLStreamReader reader, JunitMatchKey matchKey) {
+    String name = reader.getAttributeValue(null, "name");
+    String className = reader.getAttributeValue(null, "classname");
+    if (matchKey == JunitMatchKey.QUALIFIED_NAME && className != null && !className.isBlank()) {
+      return className + "." + name;
+    }
+    return name;
+  }
+
+  private static String message(XMLStreamReader reader) {
+    String message = reader.getAttributeValue(null, "message");
+    if (message == null) {
+      message = reader.getAttributeValue(null, "type");
+    }
+    if (message != null && message.length() > MAX_COMMENT_LENGTH) {
+      return message.substring(0, MAX_COMMENT_LENGTH);
+    }
+    return message;
+  }
+
+  private static XMLInputFactory createFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    // Reports come from outside, never resolve DTDs or external entities
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+}
@@ -0,0 +1,14 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+
+/** A submitted result waiting in the {@link ResultWriteBehindQueue}. */
+record QueuedResult(Long executionId, Long testerId, TestResult testResult, String comment) {
+
+  /** Submissions with the same key coalesce, only the latest one is written. */
+  record Key(Long executionId, Long testerId) {}
+
+  Key key() {
+    return new Key(executionId, testerId);
+  }
+}
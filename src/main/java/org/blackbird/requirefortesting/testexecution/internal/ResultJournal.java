@@ -0,0 +1,148 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only file of queued results, one JSON line each. Appends only reach the operating system,
+ * {@link #sync()} makes them durable, so the {@link ResultWriteBehindQueue} can sync the appends of
+ * many submissions at once before acknowledging them. A flush moves the active file aside and
+ * deletes it once the results are committed, so after a crash the results of both files still have
+ * to be written. If a flush could not delete it, the next rotation appends to it instead. Not
+ * thread-safe, the queue calls it under its lock, except for {@link #sync()}, which may run
+ * alongside {@link #append}.
+ */
+@Slf4j
+class ResultJournal {
+
+  private final Path active;
+  private final Path flushing;
+  private final ObjectMapper objectMapper;
+
+  private FileChannel channel;
+
+  ResultJournal(Path directory, ObjectMapper objectMapper) {
+    this.active = directory.resolve("results.journal");
+    this.flushing = directory.resolve("results.journal.flushing");
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Opens the journal and returns the results a previous process acknowledged but did not write,
+   * oldest first. Afterwards the active file holds exactly these results.
+   */
+  List<QueuedResult> recover() throws IOException {
+    Files.createDirectories(active.getParent());
+    List<QueuedResult> results = new ArrayList<>();
+    read(flushing, results);
+    read(active, results);
+
+    Path recovered = active.resolveSibling("results.journal.recovered");
+    try (FileChannel out =
+        FileChannel.open(
+            recovered,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      write(out, results);
+      out.force(false);
+    }
+    Files.move(recovered, active, StandardCopyOption.ATOMIC_MOVE);
+    Files.deleteIfExists(flushing);
+    open();
+    return results;
+  }
+
+  /** Writes the results to the active file, they are durable after the next {@link #sync()}. */
+  void append(List<QueuedResult> results) throws IOException {
+    write(channel, results);
+  }
+
+  /** Forces everything appended so far to disk. */
+  void sync() throws IOException {
+    channel.force(false);
+  }
+
+  /** Syncs the active file, moves it aside for a flush and starts a new one. */
+  void rotate() throws IOException {
+    channel.force(false);
+    channel.close();
+    if (Files.exists(flushing)) {
+      // Results of a failed flush that could not be journaled again, they are queued once more,
+      // so the next successful flush covers them. Recovery tolerates the duplicates of a crash
+      // between the copy and the delete.
+      try (FileChannel in = FileChannel.open(active, StandardOpenOption.READ);
+          FileChannel out = FileChannel.open(flushing, StandardOpenOption.APPEND)) {
+        long position = 0;
+        while (position < in.size()) {
+          position += in.transferTo(position, in.size() - position, out);
+        }
+        out.force(false);
+      }
+      Files.delete(active);
+    } else {
+      Files.move(active, flushing, StandardCopyOption.ATOMIC_MOVE);
+    }
+    open();
+  }
+
+  /** Drops the rotated file once all of its results are committed (or appended again). */
+  void completeFlush() throws IOException {
+    Files.deleteIfExists(flushing);
+  }
+
+  void close() throws IOException {
+    if (channel != null) {
+      channel.close();
+    }
+  }
+
+  private void open() throws IOException {
+    channel = FileChannel.open(active, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+  }
+
+  private void write(FileChannel out, List<QueuedResult> results) throws IOException {
+    ByteArrayOutputStream lines = new ByteArrayOutputStream();
+    for (QueuedResult result : results) {
+      lines.write(objectMapper.writeValueAsBytes(result));
+      lines.write('\n');
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+    while (buffer.hasRemaining()) {
+      out.write(buffer);
+    }
+  }
+
+  private void read(Path file, List<QueuedResult> results) throws IOException {
+    if (!Files.exists(file)) {
+      return;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank()) {
+          continue;
+        }
+        try {
+          results.add(objectMapper.readValue(line, QueuedResult.class));
+        } catch (JsonProcessingException e) {
+          // Only the last line can be torn by a crash, it was never acknowledged
+          log.warn("Skipping unreadable line in {}: {}", file, e.getOriginalMessage());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,352 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.blackbird.requirefortesting.shared.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Decouples result submissions from the connection pool. Submissions are journaled to disk,
+ * acknowledged and kept in a bounded in-memory map in which repeated submissions for the same
+ * execution coalesce. Journaling is a group commit: submissions are appended under the queue lock,
+ * and one sync of the journal then covers every submission appended while the previous sync ran. A
+ * background thread writes them in batched transactions whenever a batch is full or the flush
+ * interval passed. When the map is full, submissions are refused with a {@link
+ * TooManyRequestsException} instead of waiting for a connection.
+ *
+ * <p>Disabled unless <code>test-execution.write-behind.enabled</code> is set, then every submission
+ * is written synchronously. The journal is local to the node, so each node needs its own directory,
+ * which has to be set explicitly and survive a reboot (no tmpfs).
+ *
+ * <p>Starts before the web server accepts requests and stops after it has shut down, submissions
+ * arriving outside of that window are refused.
+ */
+@Slf4j
+@Component
+class ResultWriteBehindQueue implements SmartLifecycle {
+
+  private final TestExecutionBatchWriter batchWriter;
+  private final TraceabilityCache traceabilityCache;
+  private final TestRunProgressBroadcaster progressBroadcaster;
+  private final TransactionTemplate transactionTemplate;
+  private final ResultJournal journal;
+  private final boolean enabled;
+  private final int capacity;
+  private final int batchSize;
+  private final long flushIntervalMillis;
+  private final long retryAfterSeconds;
+  private final Timer flushTimer;
+  private final Counter rejectedCounter;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition batchReady = lock.newCondition();
+  private final Map<QueuedResult.Key, QueuedResult> pending = new LinkedHashMap<>();
+
+  // Held while the journal is synced or rotated, taken after the queue lock if both are needed
+  private final ReentrantLock syncLock = new ReentrantLock();
+  // Numbers the journal appends (under the queue lock) and the last one known to be on disk
+  private volatile long appendedSequence;
+  private long syncedSequence;
+
+  private volatile boolean running;
+  private Thread writerThread;
+
+  ResultWriteBehindQueue(
+      TestExecutionBatchWriter batchWriter,
+      TraceabilityCache traceabilityCache,
+      TestRunProgressBroadcaster progressBroadcaster,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${test-execution.write-behind.enabled:false}") boolean enabled,
+      @Value("${test-execution.write-behind.capacity:10000}") int capacity,
+      @Value("${test-execution.write-behind.batch-size:500}") int batchSize,
+      @Value("${test-execution.write-behind.flush-interval-ms:200}") long flushIntervalMillis,
+      @Value("${test-execution.write-behind.retry-after-seconds:1}") long retryAfterSeconds,
+      @Value("${test-execution.write-behind.journal-directory:}") String journalDirectory) {
+    this.batchWriter = batchWriter;
+    this.traceabilityCache = traceabilityCache;
+    this.progressBroadcaster = progressBroadcaster;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    if (enabled && journalDirectory.isBlank()) {
+      throw new IllegalStateException(
+          "test-execution.write-behind.journal-directory has to be set when the queue is enabled");
+    }
+    this.journal = enabled ? new ResultJournal(Path.of(journalDirectory), objectMapper) : null;
+    this.enabled = enabled;
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+    this.flushIntervalMillis = flushIntervalMillis;
+    this.retryAfterSeconds = retryAfterSeconds;
+    this.flushTimer = Timer.builder("test_execution.result_queue.flush").register(meterRegistry);
+    this.rejectedCounter =
+        Counter.builder("test_execution.result_queue.rejected").register(meterRegistry);
+    Gauge.builder("test_execution.result_queue.depth", this, ResultWriteBehindQueue::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Accepts all results or none of them, returning once they are journaled. Results for executions
+   * the tester is not assigned to are dropped when written.
+   */
+  void enqueue(List<QueuedResult> results) {
+    if (!enabled) {
+      transactionTemplate.executeWithoutResult(status -> batchWriter.updateQueuedResults(results));
+      traceabilityCache.clear();
+      progressBroadcaster.allRunsChanged();
+      return;
+    }
+    long sequence;
+    lock.lock();
+    try {
+      if (!running) {
+        rejectedCounter.increment();
+        throw new TooManyRequestsException("Result queue is not running", retryAfterSeconds);
+      }
+      long added =
+          results.stream()
+              .map(QueuedResult::key)
+              .distinct()
+              .filter(key -> !pending.containsKey(key))
+              .count();
+      if (pending.size() + added > capacity) {
+        rejectedCounter.increment();
+        throw new TooManyRequestsException("Result queue is full", retryAfterSeconds);
+      }
+      journal.append(results);
+      sequence = ++appendedSequence;
+      results.forEach(result -> pending.put(result.key(), result));
+      if (pending.size() >= batchSize) {
+        batchReady.signal();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not journal queued results", e);
+    } finally {
+      lock.unlock();
+    }
+    // Outside the queue lock, so submitters arriving during a sync append and share the next one.
+    // If the sync fails the results stay queued, the submitter gets an error and may resubmit them.
+    try {
+      syncJournal(sequence);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not journal queued results", e);
+    }
+  }
+
+  int size() {
+    lock.lock();
+    try {
+      return pending.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Writes everything queued so far. Results of a batch that fails are queued again unless a newer
+   * submission for the same execution arrived in the meantime.
+   *
+   * @return the number of results written
+   */
+  int flush() {
+    List<QueuedResult> drained;
+    lock.lock();
+    try {
+      if (pending.isEmpty()) {
+        return 0;
+      }
+      rotateJournal();
+      drained = new ArrayList<>(pending.values());
+      pending.clear();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not rotate the result journal", e);
+    } finally {
+      lock.unlock();
+    }
+
+    int written = 0;
+    boolean journaled = true;
+    Timer.Sample sample = Timer.start();
+    try {
+      for (int from = 0; from < drained.size(); from += batchSize) {
+        List<QueuedResult> batch =
+            drained.subList(from, Math.min(from + batchSize, drained.size()));
+        transactionTemplate.executeWithoutResult(status -> batchWriter.updateQueuedResults(batch));
+        written += batch.size();
+      }
+    } catch (RuntimeException e) {
+      log.warn(
+          "Writing {} queued test results failed, retrying: {}",
+          drained.size() - written,
+          e.getMessage());
+      journaled = requeue(drained.subList(written, drained.size()));
+    } finally {
+      sample.stop(flushTimer);
+      if (written > 0) {
+        traceabilityCache.clear();
+        // The queued results do not carry their run
+        progressBroadcaster.allRunsChanged();
+      }
+    }
+
+    if (!journaled) {
+      // The rotated file is the only durable copy of the requeued results, it is replayed on the
+      // next start unless a later flush succeeds
+      return written;
+    }
+    try {
+      journal.completeFlush();
+    } catch (IOException e) {
+      log.warn("Could not remove the flushed result journal: {}", e.getMessage());
+    }
+    return written;
+  }
+
+  @Override
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      List<QueuedResult> recovered = journal.recover();
+      recovered.forEach(result -> pending.put(result.key(), result));
+      if (!recovered.isEmpty()) {
+        log.info("Recovered {} unwritten test results from the journal", recovered.size());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not recover the result journal", e);
+    }
+    running = true;
+    writerThread = Thread.ofPlatform().name("test-result-writer").daemon().start(this::writeBehind);
+  }
+
+  @Override
+  public void stop() {
+    lock.lock();
+    try {
+      if (!running) {
+        return;
+      }
+      // No interrupt: it would close the journal channel if it hit the writer during file I/O
+      running = false;
+      batchReady.signal();
+    } finally {
+      lock.unlock();
+    }
+    try {
+      writerThread.join();
+      flush();
+      syncLock.lock();
+      try {
+        journal.close();
+      } finally {
+        syncLock.unlock();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException | RuntimeException e) {
+      // Anything not written is still in the journal and recovered on the next start
+      log.warn("Could not drain the result queue on shutdown: {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+  }
+
+  /** Returns whether the requeued results were journaled again. */
+  private boolean requeue(List<QueuedResult> results) {
+    lock.lock();
+    try {
+      List<QueuedResult> requeued = new ArrayList<>();
+      for (QueuedResult result : results) {
+        if (pending.putIfAbsent(result.key(), result) == null) {
+          requeued.add(result);
+        }
+      }
+      journal.append(requeued);
+      syncJournal(++appendedSequence);
+      return true;
+    } catch (IOException e) {
+      log.error("Could not journal {} requeued test results", results.size(), e);
+      return false;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns once the given append is on disk. The first caller syncs everything appended so far,
+   * callers waiting behind it usually find their appends covered and return without a sync.
+   */
+  private void syncJournal(long sequence) throws IOException {
+    syncLock.lock();
+    try {
+      if (syncedSequence >= sequence) {
+        return;
+      }
+      // Read before the sync, every append up to it has reached the journal file
+      long appended = appendedSequence;
+      journal.sync();
+      syncedSequence = appended;
+    } finally {
+      syncLock.unlock();
+    }
+  }
+
+  /** Called under the queue lock, so no append runs; the rotation syncs the appends so far. */
+  private void rotateJournal() throws IOException {
+    syncLock.lock();
+    try {
+      journal.rotate();
+      syncedSequence = appendedSequence;
+    } finally {
+      syncLock.unlock();
+    }
+  }
+
+  private void writeBehind() {
+    while (running) {
+      try {
+        lock.lock();
+        try {
+          if (running && pending.size() < batchSize) {
+            batchReady.await(flushIntervalMillis, TimeUnit.MILLISECONDS);
+          }
+        } finally {
+          lock.unlock();
+        }
+        flush();
+      } catch (InterruptedException e) {
+        return;
+      } catch (RuntimeException e) {
+        log.warn("Result writer failed: {}", e.getMessage());
+      }
+    }
+  }
+}
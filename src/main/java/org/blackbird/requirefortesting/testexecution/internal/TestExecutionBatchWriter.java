@@ -0,0 +1,83 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.testexecution.internal.AssignmentPlanner.Assignment;
+import org.blackbird.requirefortesting.testexecution.model.SubmitTestResultDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes executions in bulk: planned assignments as a single <code>INSERT ... SELECT FROM
+ * unnest(...)</code> and submitted results as one JDBC batch, so the number of round trips does not
+ * grow with the number of executions. Has to run inside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+class TestExecutionBatchWriter {
+
+  // First key of the two-key advisory locks taken on test runs, so they cannot collide with
+  // advisory locks other code takes on the same database
+  private static final int TEST_RUN_LOCK_NAMESPACE = 0x5452;
+
+  private static final String LOCK_TEST_RUN = "SELECT pg_advisory_xact_lock(?, ?)";
+
+  private static final String INSERT_ASSIGNMENTS =
+      """
+      INSERT INTO test_execution (id, test_run_id, test_case_id, tester_id)
+      SELECT nextval('test_execution_seq'), ?, a.test_case_id, a.tester_id
+      FROM unnest(CAST(? AS bigint[]), CAST(? AS bigint[])) AS a(test_case_id, tester_id)
+      ON CONFLICT (test_run_id, test_case_id, tester_id) DO NOTHING
+      """;
+
+  private static final String UPDATE_RESULT =
+      "UPDATE test_execution SET test_result = ?, comment = ? WHERE id = ? AND tester_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Serializes bulk assignments of the same test run until the transaction ends, so two of them
+   * cannot both see a test case as unassigned. Ids beyond the int range are folded into the second
+   * key, a collision only serializes two unrelated test runs.
+   */
+  void lockTestRun(Long testRunId) {
+    jdbcTemplate.query(LOCK_TEST_RUN, rs -> {}, TEST_RUN_LOCK_NAMESPACE, Long.hashCode(testRunId));
+  }
+
+  int insertAssignments(Long testRunId, List<Assignment> assignments) {
+    if (assignments.isEmpty()) {
+      return 0;
+    }
+    Long[] testCaseIds = assignments.stream().map(Assignment::testCaseId).toArray(Long[]::new);
+    Long[] testerIds = assignments.stream().map(Assignment::testerId).toArray(Long[]::new);
+    return jdbcTemplate.update(INSERT_ASSIGNMENTS, testRunId, testCaseIds, testerIds);
+  }
+
+  /** Sends all result updates as one JDBC batch. */
+  void updateResults(List<SubmitTestResultDto> submissions, Long testerId) {
+    jdbcTemplate.batchUpdate(
+        UPDATE_RESULT,
+        submissions,
+        submissions.size(),
+        (ps, submission) -> {
+          ps.setString(1, submission.testResult() != null ? submission.testResult().name() : null);
+          ps.setString(2, submission.comment());
+          ps.setLong(3, submission.executionId());
+          ps.setLong(4, testerId);
+        });
+  }
+
+  /** Like {@link #updateResults}, for results of any number of testers. */
+  void updateQueuedResults(List<QueuedResult> results) {
+    jdbcTemplate.batchUpdate(
+        UPDATE_RESULT,
+        results,
+        results.size(),
+        (ps, result) -> {
+          ps.setString(1, result.testResult() != null ? result.testResult().name() : null);
+          ps.setString(2, result.comment());
+          ps.setLong(3, result.executionId());
+          ps.setLong(4, result.testerId());
+        });
+  }
+}
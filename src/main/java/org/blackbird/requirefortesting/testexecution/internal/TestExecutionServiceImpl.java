@@ -1,26 +1,64 @@
 package org.blackbird.requirefortesting.testexecution.internal;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.shared.DataFormat;
+import org.blackbird.requirefortesting.shared.ImportResult;
+import org.blackbird.requirefortesting.shared.RowExporter;
+import org.blackbird.requirefortesting.testexecution.internal.AssignmentPlanner.Assignment;
+import org.blackbird.requirefortesting.testexecution.internal.repository.ExecutionOwner;
 import org.blackbird.requirefortesting.testexecution.internal.repository.TestExecutionRepository;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TesterLoad;
+import org.blackbird.requirefortesting.testexecution.internal.repository.UnassignedTestCase;
+import org.blackbird.requirefortesting.testexecution.model.AssignmentStrategy;
+import org.blackbird.requirefortesting.testexecution.model.BulkAssignmentDto;
+import org.blackbird.requirefortesting.testexecution.model.BulkAssignmentResult;
+import org.blackbird.requirefortesting.testexecution.model.JunitMatchKey;
+import org.blackbird.requirefortesting.testexecution.model.SubmissionStatus;
+import org.blackbird.requirefortesting.testexecution.model.SubmissionStatus.Outcome;
+import org.blackbird.requirefortesting.testexecution.model.SubmitTestResultDto;
+import org.blackbird.requirefortesting.testexecution.model.SubmittedExecution;
 import org.blackbird.requirefortesting.testexecution.model.TestExecution;
 import org.blackbird.requirefortesting.testexecution.service.TestExecutionService;
 import org.blackbird.requirefortesting.testmanagement.internal.repository.TestCaseRepository;
 import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunRepository;
-import org.blackbird.requirefortesting.testmanagement.model.TestCase;
 import org.blackbird.requirefortesting.testmanagement.model.TestResult;
-import org.blackbird.requirefortesting.testmanagement.model.TestRun;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 @RequiredArgsConstructor
 public class TestExecutionServiceImpl implements TestExecutionService {
 
+  private static final String EXPORT_SQL =
+      """
+      SELECT id, test_run_id AS "testRunId", test_case_id AS "testCaseId",
+             tester_id AS "testerId", test_result AS "testResult", comment
+      FROM test_execution
+      WHERE (CAST(? AS bigint) IS NULL OR test_run_id = ?)
+      ORDER BY id
+      """;
+
+  private static final int MAX_SUBMISSIONS = 1_000;
+
   private final TestExecutionRepository executionRepository;
   private final TestRunRepository testRunRepository;
   private final TestCaseRepository testCaseRepository;
+  private final RowExporter rowExporter;
+  private final TestExecutionBatchWriter batchWriter;
+  private final JunitReportImporter junitReportImporter;
+  private final ResultWriteBehindQueue resultQueue;
+  private final TestRunProgressBroadcaster progressBroadcaster;
+  private final TraceabilityCache traceabilityCache;
 
   @Override
   @Transactional
@@ -30,21 +68,58 @@ public class TestExecutionServiceImpl implements TestExecutionService {
           "Test run id, test case id and tester id must all be provided");
     }
 
-    TestRun testRun =
-        testRunRepository.findById(testRunId).orElseThrow(EntityNotFoundException::new);
-    TestCase testCase =
-        testCaseRepository.findById(testCaseId).orElseThrow(EntityNotFoundException::new);
+    // Loaded up front so the returned execution references them instead of lazy proxies
+    testRunRepository.findById(testRunId).orElseThrow(EntityNotFoundException::new);
+    testCaseRepository.findById(testCaseId).orElseThrow(EntityNotFoundException::new);
+
+    TestExecution execution = executionRepository.upsertAssignment(testRunId, testCaseId, testerId);
+    progressBroadcaster.executionsChanged(testRunId, List.of());
+    return execution;
+  }
 
-    TestExecution existing =
-        executionRepository.findByTestRunIdAndTestCaseIdAndTesterId(
-            testRunId, testCaseId, testerId);
-    if (existing != null) {
-      return existing;
+  @Override
+  @Transactional
+  public BulkAssignmentResult assignTestRun(Long testRunId, BulkAssignmentDto assignmentDto) {
+    if (testRunId == null || assignmentDto == null) {
+      throw new IllegalArgumentException("Test run id and assignment must both be provided");
+    }
+    if (assignmentDto.testerIds() == null
+        || assignmentDto.testerIds().isEmpty()
+        || assignmentDto.testerIds().stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("At least one tester id must be provided");
+    }
+    if (assignmentDto.testerIds().size() > BulkAssignmentDto.MAX_TESTERS) {
+      throw new IllegalArgumentException(
+          "Bulk assignment cannot exceed " + BulkAssignmentDto.MAX_TESTERS + " tester IDs");
+    }
+    if (!testRunRepository.existsById(testRunId)) {
+      throw new EntityNotFoundException();
     }
 
-    TestExecution execution =
-        TestExecution.builder().testRun(testRun).testCase(testCase).testerId(testerId).build();
-    return executionRepository.save(execution);
+    List<Long> testerIds = assignmentDto.testerIds().stream().distinct().toList();
+    AssignmentStrategy strategy =
+        Objects.requireNonNullElse(assignmentDto.strategy(), AssignmentStrategy.ROUND_ROBIN);
+
+    batchWriter.lockTestRun(testRunId);
+    List<UnassignedTestCase> testCases = executionRepository.findUnassignedTestCases(testRunId);
+    Map<Long, Long> openExecutions =
+        strategy == AssignmentStrategy.ROUND_ROBIN || testCases.isEmpty()
+            ? Map.of()
+            : executionRepository.countOpenExecutions(testerIds).stream()
+                .collect(Collectors.toMap(TesterLoad::getTesterId, TesterLoad::getOpenExecutions));
+
+    List<Assignment> assignments =
+        AssignmentPlanner.plan(testCases, testerIds, openExecutions, strategy);
+    int assigned = batchWriter.insertAssignments(testRunId, assignments);
+    if (assigned > 0) {
+      progressBroadcaster.executionsChanged(testRunId, List.of());
+    }
+
+    Map<Long, Integer> assignedPerTester = new LinkedHashMap<>();
+    testerIds.forEach(testerId -> assignedPerTester.put(testerId, 0));
+    assignments.forEach(
+        assignment -> assignedPerTester.merge(assignment.testerId(), 1, Integer::sum));
+    return new BulkAssignmentResult(assigned, assignedPerTester);
   }
 
   @Override
@@ -65,7 +140,134 @@ public class TestExecutionServiceImpl implements TestExecutionService {
 
     execution.setTestResult(result);
     execution.setComment(comment);
-    return executionRepository.save(execution);
+    TestExecution saved = executionRepository.save(execution);
+    traceabilityCache.clearAfterCommit();
+    progressBroadcaster.executionSubmitted(
+        saved.getTestRun().getId(),
+        new SubmittedExecution(
+            saved.getId(), saved.getTestCase().getId(), testerId, result, comment));
+    return saved;
+  }
+
+  @Override
+  @Transactional
+  public List<SubmissionStatus> submitTestResults(
+      List<SubmitTestResultDto> submissions, Long testerId) {
+    if (submissions == null || submissions.isEmpty() || testerId == null) {
+      throw new IllegalArgumentException("Submissions and tester id must both be provided");
+    }
+    if (submissions.size() > MAX_SUBMISSIONS) {
+      throw new IllegalArgumentException(
+          "Cannot submit more than " + MAX_SUBMISSIONS + " results at once");
+    }
+
+    List<Long> executionIds =
+        submissions.stream()
+            .filter(Objects::nonNull)
+            .map(SubmitTestResultDto::executionId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+    Map<Long, ExecutionOwner> owners =
+        executionIds.isEmpty()
+            ? Map.of()
+            : executionRepository.findOwners(executionIds).stream()
+                .collect(Collectors.toMap(ExecutionOwner::getId, owner -> owner));
+
+    List<SubmissionStatus> statuses = new ArrayList<>(submissions.size());
+    List<SubmitTestResultDto> accepted = new ArrayList<>();
+    for (int i = 0; i < submissions.size(); i++) {
+      SubmitTestResultDto submission = submissions.get(i);
+      Long executionId = submission != null ? submission.executionId() : null;
+      Outcome outcome;
+      if (executionId == null) {
+        outcome = Outcome.INVALID;
+      } else if (!owners.containsKey(executionId)) {
+        outcome = Outcome.NOT_FOUND;
+      } else if (!owners.get(executionId).getTesterId().equals(testerId)) {
+        // Only the assigned tester can submit a result
+        outcome = Outcome.NOT_ASSIGNED;
+      } else {
+        outcome = Outcome.UPDATED;
+        accepted.add(submission);
+      }
+      statuses.add(new SubmissionStatus(i, executionId, outcome));
+    }
+
+    if (!accepted.isEmpty()) {
+      batchWriter.updateResults(accepted, testerId);
+      traceabilityCache.clearAfterCommit();
+      Map<Long, List<SubmittedExecution>> submittedPerRun = new LinkedHashMap<>();
+      for (SubmitTestResultDto submission : accepted) {
+        ExecutionOwner owner = owners.get(submission.executionId());
+        submittedPerRun
+            .computeIfAbsent(owner.getTestRunId(), testRunId -> new ArrayList<>())
+            .add(
+                new SubmittedExecution(
+                    owner.getId(),
+                    owner.getTestCaseId(),
+                    testerId,
+                    submission.testResult(),
+                    submission.comment()));
+      }
+      submittedPerRun.forEach(progressBroadcaster::executionsChanged);
+    }
+    return statuses;
+  }
+
+  @Override
+  public void enqueueTestResults(List<SubmitTestResultDto> submissions, Long testerId) {
+    if (submissions == null || submissions.isEmpty() || testerId == null) {
+      throw new IllegalArgumentException("Submissions and tester id must both be provided");
+    }
+    if (submissions.size() > MAX_SUBMISSIONS) {
+      throw new IllegalArgumentException(
+          "Cannot submit more than " + MAX_SUBMISSIONS + " results at once");
+    }
+    if (submissions.stream().anyMatch(s -> s == null || s.executionId() == null)) {
+      throw new IllegalArgumentException("Every submission needs an execution id");
+    }
+
+    resultQueue.enqueue(
+        submissions.stream()
+            .map(
+                submission ->
+                    new QueuedResult(
+                        submission.executionId(),
+                        testerId,
+                        submission.testResult(),
+                        submission.comment()))
+            .toList());
+  }
+
+  @Override
+  @Transactional
+  public ImportResult importJunitReport(
+      Long testRunId, InputStream input, JunitMatchKey matchKey, Long testerId) {
+    if (testRunId == null || input == null || matchKey == null || testerId == null) {
+      throw new IllegalArgumentException(
+          "Test run id, report, match key and tester id must all be provided");
+    }
+    if (!testRunRepository.existsById(testRunId)) {
+      throw new EntityNotFoundException();
+    }
+    ImportResult result = junitReportImporter.importReport(input, matchKey, testRunId, testerId);
+    if (result.imported() > 0) {
+      traceabilityCache.clearAfterCommit();
+      progressBroadcaster.executionsChanged(testRunId, List.of());
+    }
+    return result;
+  }
+
+  @Override
+  public SseEmitter streamProgress(Long testRunId) {
+    if (testRunId == null) {
+      throw new IllegalArgumentException("Test run id must be provided");
+    }
+    if (!testRunRepository.existsById(testRunId)) {
+      throw new EntityNotFoundException();
+    }
+    return progressBroadcaster.subscribe(testRunId);
   }
 
   @Override
@@ -85,4 +287,13 @@ public class TestExecutionServiceImpl implements TestExecutionService {
     }
     return executionRepository.findByTestRunId(testRunId);
   }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportExecutions(OutputStream output, DataFormat format, Long testRunId) {
+    if (output == null || format == null) {
+      throw new IllegalArgumentException("Export target and format must be provided");
+    }
+    rowExporter.export(output, format, EXPORT_SQL, testRunId, testRunId);
+  }
 }
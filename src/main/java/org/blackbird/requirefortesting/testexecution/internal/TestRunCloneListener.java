@@ -0,0 +1,28 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TestExecutionRepository;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunClonedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Copies tester assignments into a cloned test run. A plain (synchronous) listener on purpose: it
+ * runs inside the cloning transaction, so a clone never exists without its assignments.
+ */
+@Component
+@RequiredArgsConstructor
+public class TestRunCloneListener {
+
+  private final TestExecutionRepository executionRepository;
+  private final TestRunProgressBroadcaster progressBroadcaster;
+
+  @EventListener
+  void onTestRunCloned(TestRunClonedEvent event) {
+    if (event.includeAssignments()) {
+      executionRepository.copyAssignments(event.sourceTestRunId(), event.testRunId());
+      progressBroadcaster.executionsChanged(event.testRunId(), List.of());
+    }
+  }
+}
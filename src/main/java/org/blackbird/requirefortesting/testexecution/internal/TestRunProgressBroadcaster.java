@@ -0,0 +1,313 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.blackbird.requirefortesting.testexecution.internal.repository.RunResultCount;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TestExecutionRepository;
+import org.blackbird.requirefortesting.testexecution.model.SubmittedExecution;
+import org.blackbird.requirefortesting.testexecution.model.TestRunProgress;
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Streams test run progress to open dashboards as server-sent events. The counts are read from the
+ * run's counter row (<code>test_run_result_count</code>) whenever a dashboard connects and after
+ * every committed change to the run's executions, so they cannot drift from the database. Changes
+ * arriving while a read is pending are sent together, so a run costs at most one row read per
+ * change, however many dashboards are open.
+ *
+ * <p>Reads happen on one thread, which keeps the events of a run in order and the writing requests
+ * free of the fan-out. The blocking writes to the dashboards run on a small sender pool, one at a
+ * time per dashboard. A dashboard whose write has been blocked longer than the send timeout, or
+ * that has fallen too many events behind, is dropped, so a stalled client cannot hold up the
+ * others.
+ */
+@Slf4j
+@Component
+class TestRunProgressBroadcaster {
+
+  static final String EVENT_NAME = "progress";
+
+  /** Events a dashboard may fall behind by before it is dropped. */
+  private static final int MAX_PENDING_EVENTS = 100;
+
+  /** Dashboards waiting for a sender thread before new ones are dropped. */
+  private static final int MAX_WAITING_DASHBOARDS = 10_000;
+
+  private final TestExecutionRepository executionRepository;
+  private final long timeoutMillis;
+  private final long sendTimeoutNanos;
+  private final ExecutorService fanOut =
+      Executors.newSingleThreadExecutor(
+          Thread.ofPlatform().name("test-run-progress").daemon().factory());
+  private final ThreadPoolExecutor senders;
+  private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+  /** The dashboards of one run and the submissions not sent to them yet. */
+  private static final class Channel {
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Queue<SubmittedExecution> unsent = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+  }
+
+  /** One dashboard and the events not written to it yet. */
+  private static final class Subscriber {
+    private final SseEmitter emitter;
+    private final BlockingQueue<TestRunProgress> pending =
+        new LinkedBlockingQueue<>(MAX_PENDING_EVENTS);
+    // Held while a sender thread writes the pending events, and for good once completed
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    // System.nanoTime() when the running write started, 0 if none is running
+    private volatile long sendStartedAt;
+
+    private Subscriber(SseEmitter emitter) {
+      this.emitter = emitter;
+    }
+  }
+
+  TestRunProgressBroadcaster(
+      TestExecutionRepository executionRepository,
+      @Value("${test-execution.progress.timeout-ms:1800000}") long timeoutMillis,
+      @Value("${test-execution.progress.sender-threads:4}") int senderThreads,
+      @Value("${test-execution.progress.send-timeout-ms:10000}") long sendTimeoutMillis) {
+    this.executionRepository = executionRepository;
+    this.timeoutMillis = timeoutMillis;
+    this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+    this.senders =
+        new ThreadPoolExecutor(
+            senderThreads,
+            senderThreads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(MAX_WAITING_DASHBOARDS),
+            Thread.ofPlatform().name("test-run-progress-send-", 0).daemon().factory());
+  }
+
+  SseEmitter subscribe(Long testRunId) {
+    return subscribe(testRunId, new SseEmitter(timeoutMillis));
+  }
+
+  SseEmitter subscribe(Long testRunId, SseEmitter emitter) {
+    Subscriber subscriber = new Subscriber(emitter);
+    channels.compute(
+        testRunId,
+        (id, existing) -> {
+          Channel subscribed = existing != null ? existing : new Channel();
+          subscribed.subscribers.add(subscriber);
+          return subscribed;
+        });
+    emitter.onCompletion(() -> unsubscribe(testRunId, subscriber));
+    emitter.onTimeout(() -> unsubscribe(testRunId, subscriber));
+    emitter.onError(e -> unsubscribe(testRunId, subscriber));
+
+    fanOut.execute(
+        () -> {
+          try {
+            deliver(testRunId, subscriber, loadProgress(testRunId, List.of()));
+          } catch (RuntimeException e) {
+            log.warn("Could not load the progress of test run {}: {}", testRunId, e.getMessage());
+            close(testRunId, subscriber);
+          }
+        });
+    return emitter;
+  }
+
+  /** Pushes a submitted result to the dashboards of its run, see {@link #executionsChanged}. */
+  void executionSubmitted(Long testRunId, SubmittedExecution execution) {
+    executionsChanged(testRunId, List.of(execution));
+  }
+
+  /**
+   * Pushes fresh counts to the dashboards of a run once the current transaction commits, together
+   * with the given submissions (empty for assignments, imports and other changes). Does nothing if
+   * no dashboard is open.
+   */
+  void executionsChanged(Long testRunId, List<SubmittedExecution> submitted) {
+    if (!channels.containsKey(testRunId)) {
+      return;
+    }
+    afterCommit(() -> refresh(testRunId, submitted));
+  }
+
+  /** Like {@link #executionsChanged}, for writes that do not know the runs they changed. */
+  void allRunsChanged() {
+    if (channels.isEmpty()) {
+      return;
+    }
+    afterCommit(() -> channels.keySet().forEach(testRunId -> refresh(testRunId, List.of())));
+  }
+
+  /** Completes every open dashboard, they reconnect to another node. */
+  @PreDestroy
+  void shutdown() {
+    fanOut.shutdownNow();
+    channels.forEach(
+        (testRunId, channel) ->
+            channel.subscribers.forEach(subscriber -> close(testRunId, subscriber)));
+    senders.shutdown();
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              action.run();
+            }
+          });
+    } else {
+      action.run();
+    }
+  }
+
+  private void refresh(Long testRunId, List<SubmittedExecution> submitted) {
+    Channel channel = channels.get(testRunId);
+    if (channel == null) {
+      return;
+    }
+    channel.unsent.addAll(submitted);
+    if (channel.refreshScheduled.compareAndSet(false, true)) {
+      try {
+        fanOut.execute(() -> broadcast(testRunId, channel));
+      } catch (RejectedExecutionException e) {
+        // Shutting down, the dashboards are being completed
+      }
+    }
+  }
+
+  private void broadcast(Long testRunId, Channel channel) {
+    // Cleared before reading, so a change committed during the read schedules another one
+    channel.refreshScheduled.set(false);
+    List<SubmittedExecution> submitted = new ArrayList<>();
+    for (SubmittedExecution execution; (execution = channel.unsent.poll()) != null; ) {
+      submitted.add(execution);
+    }
+    TestRunProgress progress;
+    try {
+      progress = loadProgress(testRunId, submitted);
+    } catch (RuntimeException e) {
+      log.warn("Could not load the progress of test run {}: {}", testRunId, e.getMessage());
+      return;
+    }
+    channel.subscribers.forEach(subscriber -> deliver(testRunId, subscriber, progress));
+  }
+
+  private TestRunProgress loadProgress(Long testRunId, List<SubmittedExecution> submitted) {
+    Map<TestResult, Long> resultCounts = new EnumMap<>(TestResult.class);
+    for (TestResult result : TestResult.values()) {
+      resultCounts.put(result, 0L);
+    }
+    RunResultCount counts = executionRepository.findResultCount(testRunId).orElse(null);
+    if (counts == null) {
+      return new TestRunProgress(testRunId, 0, 0, resultCounts, submitted);
+    }
+    resultCounts.put(TestResult.PASSED, counts.getPassed());
+    resultCounts.put(TestResult.FAILED, counts.getFailed());
+    resultCounts.put(TestResult.BLOCKED, counts.getBlocked());
+    resultCounts.put(TestResult.SKIPPED, counts.getSkipped());
+    return new TestRunProgress(
+        testRunId, counts.getTotal(), counts.getNotRun(), resultCounts, submitted);
+  }
+
+  /** Queues an event for a dashboard and makes sure a sender thread writes it. */
+  private void deliver(Long testRunId, Subscriber subscriber, TestRunProgress progress) {
+    if (subscriber.closed) {
+      return;
+    }
+    long sendStartedAt = subscriber.sendStartedAt;
+    boolean stalled = sendStartedAt != 0 && System.nanoTime() - sendStartedAt > sendTimeoutNanos;
+    if (stalled || !subscriber.pending.offer(progress)) {
+      log.debug("Dropping a stalled dashboard of test run {}", testRunId);
+      close(testRunId, subscriber);
+      return;
+    }
+    if (subscriber.draining.compareAndSet(false, true)) {
+      try {
+        senders.execute(() -> drain(testRunId, subscriber));
+      } catch (RejectedExecutionException e) {
+        subscriber.draining.set(false);
+        close(testRunId, subscriber);
+      }
+    }
+  }
+
+  private void drain(Long testRunId, Subscriber subscriber) {
+    do {
+      TestRunProgress progress;
+      while (!subscriber.closed && (progress = subscriber.pending.poll()) != null) {
+        subscriber.sendStartedAt = System.nanoTime();
+        send(testRunId, subscriber, progress);
+        subscriber.sendStartedAt = 0;
+      }
+      if (subscriber.closed) {
+        complete(subscriber);
+        return;
+      }
+      subscriber.draining.set(false);
+      // Events queued, or a close requested, after the loop but before the flag was cleared
+    } while ((subscriber.closed || !subscriber.pending.isEmpty())
+        && subscriber.draining.compareAndSet(false, true));
+  }
+
+  private void send(Long testRunId, Subscriber subscriber, TestRunProgress progress) {
+    try {
+      subscriber.emitter.send(SseEmitter.event().name(EVENT_NAME).data(progress));
+    } catch (IOException | IllegalStateException e) {
+      // The dashboard went away, its emitter is done
+      unsubscribe(testRunId, subscriber);
+    }
+  }
+
+  /**
+   * Stops sending to a dashboard and completes its emitter, right away if no write is running or
+   * else by the sender thread once the blocked write returns (the emitter is locked until then).
+   */
+  private void close(Long testRunId, Subscriber subscriber) {
+    unsubscribe(testRunId, subscriber);
+    if (subscriber.draining.compareAndSet(false, true)) {
+      complete(subscriber);
+    }
+  }
+
+  private static void complete(Subscriber subscriber) {
+    try {
+      subscriber.emitter.complete();
+    } catch (RuntimeException e) {
+      // Already completed by the container
+    }
+  }
+
+  private void unsubscribe(Long testRunId, Subscriber subscriber) {
+    subscriber.closed = true;
+    channels.computeIfPresent(
+        testRunId,
+        (id, channel) -> {
+          channel.subscribers.remove(subscriber);
+          return channel.subscribers.isEmpty() ? null : channel;
+        });
+  }
+}
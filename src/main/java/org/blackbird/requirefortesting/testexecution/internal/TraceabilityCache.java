@@ -0,0 +1,57 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidation of the traceability matrix cache. Pages are keyed by cursor and size, so which of
+ * them show a changed requirement, test case or result is unknown and the whole cache is cleared.
+ *
+ * <p>A clear does not wait for a page load still in flight, which could store a page read before
+ * the change afterwards. Keys therefore carry a generation that every clear advances, so such a
+ * page lands under a key that is no longer read.
+ */
+@Component
+@RequiredArgsConstructor
+class TraceabilityCache {
+
+  private final CacheManager cacheManager;
+  private final AtomicLong generation = new AtomicLong();
+
+  KeyGenerator matrixKeys() {
+    return (target, method, params) ->
+        new GenerationKey(generation.get(), SimpleKeyGenerator.generateKey(params));
+  }
+
+  void clear() {
+    generation.incrementAndGet();
+    Cache matrix = cacheManager.getCache(TraceabilityCacheConfig.TRACEABILITY_MATRIX);
+    if (matrix != null) {
+      matrix.clear();
+    }
+  }
+
+  /** Clears once the current transaction commits, right away if there is none. */
+  void clearAfterCommit() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      clear();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            clear();
+          }
+        });
+  }
+
+  private record GenerationKey(long generation, Object key) {}
+}
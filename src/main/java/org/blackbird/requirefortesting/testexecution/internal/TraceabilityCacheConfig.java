@@ -0,0 +1,38 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches pages of the traceability matrix. Local changes clear it through {@link
+ * TraceabilityCache}, the short TTL bounds how long changes made on other nodes stay invisible. The
+ * cache has to be used with the key generator declared here.
+ */
+@Configuration
+class TraceabilityCacheConfig {
+
+  static final String TRACEABILITY_MATRIX = "traceabilityMatrix";
+  static final String TRACEABILITY_MATRIX_KEYS = "traceabilityMatrixKeyGenerator";
+
+  @Bean(TRACEABILITY_MATRIX_KEYS)
+  KeyGenerator traceabilityMatrixKeyGenerator(TraceabilityCache traceabilityCache) {
+    return traceabilityCache.matrixKeys();
+  }
+
+  @Bean
+  CacheManagerCustomizer<CaffeineCacheManager> traceabilityCacheCustomizer() {
+    return cacheManager ->
+        cacheManager.registerCustomCache(
+            TRACEABILITY_MATRIX,
+            Caffeine.newBuilder()
+                .maximumSize(500)
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .recordStats()
+                .build());
+  }
+}
@@ -0,0 +1,28 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.shared.RequirementsChangedEvent;
+import org.blackbird.requirefortesting.testmanagement.model.TestCasesChangedEvent;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Clears the traceability matrix once requirement or test case changes have been committed. Result
+ * changes clear it directly, see {@link TraceabilityCache#clearAfterCommit()}.
+ */
+@Component
+@RequiredArgsConstructor
+class TraceabilityCacheInvalidationListener {
+
+  private final TraceabilityCache traceabilityCache;
+
+  @ApplicationModuleListener
+  void onTestCasesChanged(TestCasesChangedEvent event) {
+    traceabilityCache.clear();
+  }
+
+  @ApplicationModuleListener
+  void onRequirementsChanged(RequirementsChangedEvent event) {
+    traceabilityCache.clear();
+  }
+}
@@ -0,0 +1,93 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.shared.CursorPage;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TestExecutionRepository;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TraceabilityRow;
+import org.blackbird.requirefortesting.testexecution.model.TraceabilityEntry;
+import org.blackbird.requirefortesting.testexecution.model.TracedTestCase;
+import org.blackbird.requirefortesting.testexecution.service.TraceabilityService;
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class TraceabilityServiceImpl implements TraceabilityService {
+
+  private static final int MAX_PAGE_SIZE = 200;
+
+  private final TestExecutionRepository executionRepository;
+
+  /** Requirements ordered by id, the cursor is the id of the last requirement on the page. */
+  @Override
+  @Transactional(readOnly = true)
+  @Cacheable(
+      cacheNames = TraceabilityCacheConfig.TRACEABILITY_MATRIX,
+      keyGenerator = TraceabilityCacheConfig.TRACEABILITY_MATRIX_KEYS,
+      sync = true)
+  public CursorPage<TraceabilityEntry> getTraceabilityMatrix(String cursor, int size) {
+    if (size <= 0 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+    }
+
+    // Fetch one extra requirement to find out whether another page follows
+    List<TraceabilityEntry> entries =
+        toEntries(executionRepository.findTraceability(decodeCursor(cursor), size + 1));
+    if (entries.size() <= size) {
+      return new CursorPage<>(List.copyOf(entries), null);
+    }
+    List<TraceabilityEntry> page = entries.subList(0, size);
+    return new CursorPage<>(List.copyOf(page), String.valueOf(page.get(size - 1).requirementId()));
+  }
+
+  private static List<TraceabilityEntry> toEntries(List<TraceabilityRow> rows) {
+    Map<Long, List<TraceabilityRow>> byRequirement = new LinkedHashMap<>();
+    for (TraceabilityRow row : rows) {
+      byRequirement.computeIfAbsent(row.getRequirementId(), id -> new ArrayList<>()).add(row);
+    }
+
+    List<TraceabilityEntry> entries = new ArrayList<>(byRequirement.size());
+    byRequirement.forEach(
+        (requirementId, requirementRows) -> {
+          List<TracedTestCase> testCases =
+              requirementRows.stream()
+                  .filter(row -> row.getTestCaseId() != null)
+                  .map(
+                      row ->
+                          new TracedTestCase(
+                              row.getTestCaseId(),
+                              row.getTestCaseTitle(),
+                              row.getLatestResult() != null
+                                  ? TestResult.valueOf(row.getLatestResult())
+                                  : null))
+                  .toList();
+          long passed =
+              testCases.stream().filter(t -> t.latestResult() == TestResult.PASSED).count();
+          double coverage = testCases.isEmpty() ? 0 : passed * 100.0 / testCases.size();
+          entries.add(
+              new TraceabilityEntry(
+                  requirementId,
+                  requirementRows.get(0).getRequirementTitle(),
+                  testCases,
+                  coverage));
+        });
+    return entries;
+  }
+
+  private static long decodeCursor(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return 0;
+    }
+    try {
+      return Long.parseLong(cursor);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+  }
+}
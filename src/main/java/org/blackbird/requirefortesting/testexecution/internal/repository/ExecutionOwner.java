@@ -0,0 +1,12 @@
+package org.blackbird.requirefortesting.testexecution.internal.repository;
+
+/** The tester an execution is assigned to, with the run and test case it belongs to. */
+public interface ExecutionOwner {
+  Long getId();
+
+  Long getTesterId();
+
+  Long getTestRunId();
+
+  Long getTestCaseId();
+}
@@ -0,0 +1,16 @@
+package org.blackbird.requirefortesting.testexecution.internal.repository;
+
+/** The executions of a test run per result, as kept in <code>test_run_result_count</code>. */
+public interface RunResultCount {
+  long getTotal();
+
+  long getPassed();
+
+  long getFailed();
+
+  long getBlocked();
+
+  long getSkipped();
+
+  long getNotRun();
+}
@@ -1,17 +1,133 @@
 package org.blackbird.requirefortesting.testexecution.internal.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.blackbird.requirefortesting.testexecution.model.TestExecution;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TestExecutionRepository extends JpaRepository<TestExecution, Long> {
 
+  // Executions are rendered together with their run and test case, load them in the same query
+
+  @Override
+  @EntityGraph(attributePaths = {"testRun", "testCase"})
+  Optional<TestExecution> findById(Long id);
+
+  @EntityGraph(attributePaths = {"testRun", "testCase"})
   List<TestExecution> findByTesterId(Long testerId);
 
+  @EntityGraph(attributePaths = {"testRun", "testCase"})
   List<TestExecution> findByTestRunId(Long testRunId);
 
-  TestExecution findByTestRunIdAndTestCaseIdAndTesterId(
-      Long testRunId, Long testCaseId, Long testerId);
+  /**
+   * Creates the assignment or returns the existing one, atomically and in one round trip. The no-op
+   * <code>DO UPDATE</code> (instead of <code>DO NOTHING</code>) makes <code>RETURNING</code> yield
+   * the conflicting row too, even if a concurrent transaction has just inserted it.
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          INSERT INTO test_execution (id, test_run_id, test_case_id, tester_id)
+          VALUES (nextval('test_execution_seq'), :testRunId, :testCaseId, :testerId)
+          ON CONFLICT (test_run_id, test_case_id, tester_id)
+              DO UPDATE SET tester_id = EXCLUDED.tester_id
+          RETURNING *
+          """)
+  TestExecution upsertAssignment(
+      @Param("testRunId") Long testRunId,
+      @Param("testCaseId") Long testCaseId,
+      @Param("testerId") Long testerId);
+
+  @Query(
+      "SELECT e.id AS id, e.testerId AS testerId, e.testRun.id AS testRunId,"
+          + " e.testCase.id AS testCaseId FROM TestExecution e WHERE e.id IN :ids")
+  List<ExecutionOwner> findOwners(@Param("ids") Collection<Long> ids);
+
+  /** The counter row of a test run, absent until the run has an execution. */
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          SELECT total, passed, failed, blocked, skipped, not_run AS notRun
+          FROM test_run_result_count
+          WHERE test_run_id = :testRunId
+          """)
+  Optional<RunResultCount> findResultCount(@Param("testRunId") Long testRunId);
+
+  /**
+   * One page of the traceability matrix in a single statement: the requirements after <code>
+   * afterId</code>, each joined with its test cases and their latest result across all runs (the
+   * execution of the most recently started run, then the newest execution).
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          WITH page AS (
+              SELECT id, title FROM requirement WHERE id > :afterId ORDER BY id LIMIT :limit),
+          latest AS (
+              SELECT DISTINCT ON (e.test_case_id) e.test_case_id, e.test_result
+              FROM page p
+              JOIN test_case tc ON tc.requirement_id = p.id
+              JOIN test_execution e ON e.test_case_id = tc.id
+              JOIN test_run r ON r.id = e.test_run_id
+              WHERE e.test_result IS NOT NULL
+              ORDER BY e.test_case_id, r.start_time DESC, e.id DESC)
+          SELECT p.id AS requirementId, p.title AS requirementTitle, tc.id AS testCaseId,
+                 tc.title AS testCaseTitle, l.test_result AS latestResult
+          FROM page p
+          LEFT JOIN test_case tc ON tc.requirement_id = p.id
+          LEFT JOIN latest l ON l.test_case_id = tc.id
+          ORDER BY p.id, tc.id
+          """)
+  List<TraceabilityRow> findTraceability(@Param("afterId") long afterId, @Param("limit") int limit);
+
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          SELECT tc.id AS testCaseId, tc.requirement_id AS requirementId
+          FROM test_run_test_case rc
+          JOIN test_case tc ON tc.id = rc.test_case_id
+          WHERE rc.test_run_id = :testRunId
+            AND NOT EXISTS (SELECT 1 FROM test_execution e
+                            WHERE e.test_run_id = :testRunId AND e.test_case_id = tc.id)
+          ORDER BY tc.id
+          """)
+  List<UnassignedTestCase> findUnassignedTestCases(@Param("testRunId") Long testRunId);
+
+  @Query(
+      """
+      SELECT e.testerId AS testerId, COUNT(e) AS openExecutions
+      FROM TestExecution e
+      WHERE e.testerId IN :testerIds AND e.testResult IS NULL
+      GROUP BY e.testerId
+      """)
+  List<TesterLoad> countOpenExecutions(@Param("testerIds") Collection<Long> testerIds);
+
+  /**
+   * Copies the tester assignments of one run into another, without results and comments; returns
+   * the number of inserted rows.
+   */
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          INSERT INTO test_execution (id, test_run_id, test_case_id, tester_id)
+          SELECT nextval('test_execution_seq'), :targetTestRunId, test_case_id, tester_id
+          FROM test_execution
+          WHERE test_run_id = :sourceTestRunId
+          """)
+  int copyAssignments(
+      @Param("sourceTestRunId") Long sourceTestRunId,
+      @Param("targetTestRunId") Long targetTestRunId);
 }
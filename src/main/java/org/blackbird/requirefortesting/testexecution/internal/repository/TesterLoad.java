@@ -0,0 +1,8 @@
+package org.blackbird.requirefortesting.testexecution.internal.repository;
+
+/** Number of executions without a result assigned to a tester. */
+public interface TesterLoad {
+  Long getTesterId();
+
+  Long getOpenExecutions();
+}
@@ -0,0 +1,17 @@
+package org.blackbird.requirefortesting.testexecution.internal.repository;
+
+/**
+ * A requirement joined with one linked test case and its latest result. Test case columns are
+ * <code>null</code> for requirements without test cases, the result for unexecuted test cases.
+ */
+public interface TraceabilityRow {
+  Long getRequirementId();
+
+  String getRequirementTitle();
+
+  Long getTestCaseId();
+
+  String getTestCaseTitle();
+
+  String getLatestResult();
+}
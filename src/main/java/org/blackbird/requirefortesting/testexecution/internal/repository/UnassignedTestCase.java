@@ -0,0 +1,8 @@
+package org.blackbird.requirefortesting.testexecution.internal.repository;
+
+/** A test case of a test run that no tester has been assigned to yet. */
+public interface UnassignedTestCase {
+  Long getTestCaseId();
+
+  Long getRequirementId();
+}
@@ -0,0 +1,14 @@
+package org.blackbird.requirefortesting.testexecution.model;
+
+/** How the unassigned test cases of a test run are spread across testers. */
+public enum AssignmentStrategy {
+  /** Test cases in id order, one tester after the other. */
+  ROUND_ROBIN,
+  /** Each test case goes to the tester with the fewest open executions (across all runs). */
+  LEAST_LOADED,
+  /**
+   * All test cases of a requirement go to the same tester, larger requirements first, each to the
+   * tester with the fewest open executions.
+   */
+  REQUIREMENT_AFFINITY
+}
@@ -0,0 +1,16 @@
+package org.blackbird.requirefortesting.testexecution.model;
+
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Assigns every test case of a test run that has no execution yet to one of the given testers.
+ *
+ * @param testerIds testers to distribute the test cases over, at most {@value #MAX_TESTERS}
+ * @param strategy defaults to <b>ROUND_ROBIN</b>
+ */
+public record BulkAssignmentDto(
+    @Size(max = BulkAssignmentDto.MAX_TESTERS) List<Long> testerIds, AssignmentStrategy strategy) {
+
+  public static final int MAX_TESTERS = 1_000;
+}
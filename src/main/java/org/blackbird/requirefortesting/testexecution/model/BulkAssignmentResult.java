@@ -0,0 +1,11 @@
+package org.blackbird.requirefortesting.testexecution.model;
+
+import java.util.Map;
+
+/**
+ * Outcome of a bulk assignment.
+ *
+ * @param assigned number of executions created
+ * @param assignedPerTester number of executions created per tester id
+ */
+public record BulkAssignmentResult(int assigned, Map<Long, Integer> assignedPerTester) {}
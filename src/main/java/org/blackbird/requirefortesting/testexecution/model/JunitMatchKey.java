@@ -0,0 +1,9 @@
+package org.blackbird.requirefortesting.testexecution.model;
+
+/** Which part of a JUnit <code>testcase</code> element has to equal the title of a test case. */
+public enum JunitMatchKey {
+  /** The <code>name</code> attribute, e.g. <code>shouldLogin</code>. */
+  NAME,
+  /** <code>classname.name</code>, e.g. <code>com.example.LoginTest.shouldLogin</code>. */
+  QUALIFIED_NAME
+}
@@ -0,0 +1,20 @@
+package org.blackbird.requirefortesting.testexecution.model;
+
+/**
+ * Per-row outcome of a batch result submission.
+ *
+ * @param index position of the row in the request body
+ * @param executionId
+ * @param outcome
+ */
+public record SubmissionStatus(int index, Long executionId, Outcome outcome) {
+
+  public enum Outcome {
+    UPDATED,
+    /** The row has no execution id. */
+    INVALID,
+    NOT_FOUND,
+    /** The execution belongs to another tester. */
+    NOT_ASSIGNED
+  }
+}
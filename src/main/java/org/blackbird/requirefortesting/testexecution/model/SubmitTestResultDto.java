@@ -0,0 +1,6 @@
+package org.blackbird.requirefortesting.testexecution.model;
+
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+
+/** A single row of a batch result submission. */
+public record SubmitTestResultDto(Long executionId, TestResult testResult, String comment) {}
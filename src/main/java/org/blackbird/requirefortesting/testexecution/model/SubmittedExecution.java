@@ -0,0 +1,7 @@
+package org.blackbird.requirefortesting.testexecution.model;
+
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+
+/** An execution whose result was just submitted, as pushed to test run dashboards. */
+public record SubmittedExecution(
+    Long executionId, Long testCaseId, Long testerId, TestResult testResult, String comment) {}
@@ -16,7 +16,11 @@ import org.blackbird.requirefortesting.testmanagement.model.TestRun;
 public class TestExecution {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "test_execution_seq")
+  @SequenceGenerator(
+      name = "test_execution_seq",
+      sequenceName = "test_execution_seq",
+      allocationSize = 50)
   private Long id;
 
   @ManyToOne(optional = false, fetch = FetchType.LAZY)
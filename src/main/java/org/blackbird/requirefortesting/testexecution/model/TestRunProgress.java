@@ -0,0 +1,23 @@
+package org.blackbird.requirefortesting.testexecution.model;
+
+import java.util.List;
+import java.util.Map;
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+
+/**
+ * Progress of a test run as streamed to dashboards: sent once on connect with no executions, then
+ * again after every committed change to the run's executions.
+ *
+ * @param testRunId
+ * @param total number of executions in the run
+ * @param notRun executions without a result
+ * @param resultCounts executions per result
+ * @param submitted executions whose result was submitted since the previous event, empty for
+ *     changes that are not single submissions (assignments, imports, queued results)
+ */
+public record TestRunProgress(
+    Long testRunId,
+    long total,
+    long notRun,
+    Map<TestResult, Long> resultCounts,
+    List<SubmittedExecution> submitted) {}
@@ -0,0 +1,15 @@
+package org.blackbird.requirefortesting.testexecution.model;
+
+import java.util.List;
+
+/**
+ * One row of the traceability matrix.
+ *
+ * @param requirementId
+ * @param requirementTitle
+ * @param testCases linked test cases, ordered by id
+ * @param coverage percentage of the linked test cases whose latest result is <code>PASSED</code>, 0
+ *     without linked test cases
+ */
+public record TraceabilityEntry(
+    Long requirementId, String requirementTitle, List<TracedTestCase> testCases, double coverage) {}
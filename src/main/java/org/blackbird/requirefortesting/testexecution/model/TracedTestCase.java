@@ -0,0 +1,11 @@
+package org.blackbird.requirefortesting.testexecution.model;
+
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+
+/**
+ * A test case linked to a requirement in the traceability matrix.
+ *
+ * @param latestResult result of the most recent execution with a result, across all runs (ordered
+ *     by run start and execution id); <code>null</code> if it has never been executed
+ */
+public record TracedTestCase(Long testCaseId, String title, TestResult latestResult) {}
@@ -1,17 +1,40 @@
 package org.blackbird.requirefortesting.testexecution.service;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import org.blackbird.requirefortesting.shared.DataFormat;
+import org.blackbird.requirefortesting.shared.ImportResult;
+import org.blackbird.requirefortesting.testexecution.model.BulkAssignmentDto;
+import org.blackbird.requirefortesting.testexecution.model.BulkAssignmentResult;
+import org.blackbird.requirefortesting.testexecution.model.JunitMatchKey;
+import org.blackbird.requirefortesting.testexecution.model.SubmissionStatus;
+import org.blackbird.requirefortesting.testexecution.model.SubmitTestResultDto;
 import org.blackbird.requirefortesting.testexecution.model.TestExecution;
 import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface TestExecutionService {
 
   TestExecution assignTestCaseToTester(Long testRunId, Long testCaseId, Long testerId);
 
+  BulkAssignmentResult assignTestRun(Long testRunId, BulkAssignmentDto assignmentDto);
+
   TestExecution submitTestResult(
       Long executionId, Long testerId, TestResult result, String comment);
 
+  List<SubmissionStatus> submitTestResults(List<SubmitTestResultDto> submissions, Long testerId);
+
+  void enqueueTestResults(List<SubmitTestResultDto> submissions, Long testerId);
+
+  ImportResult importJunitReport(
+      Long testRunId, InputStream input, JunitMatchKey matchKey, Long testerId);
+
+  SseEmitter streamProgress(Long testRunId);
+
   List<TestExecution> getExecutionsForTester(Long testerId);
 
   List<TestExecution> getExecutionsForRun(Long testRunId);
+
+  void exportExecutions(OutputStream output, DataFormat format, Long testRunId);
 }
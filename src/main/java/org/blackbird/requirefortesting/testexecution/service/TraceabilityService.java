@@ -0,0 +1,8 @@
+package org.blackbird.requirefortesting.testexecution.service;
+
+import org.blackbird.requirefortesting.shared.CursorPage;
+import org.blackbird.requirefortesting.testexecution.model.TraceabilityEntry;
+
+public interface TraceabilityService {
+  CursorPage<TraceabilityEntry> getTraceabilityMatrix(String cursor, int size);
+}
@@ -1,15 +1,27 @@
 package org.blackbird.requirefortesting.testmanagement.api;
 
+import java.io.InputStream;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.shared.BulkResult;
+import org.blackbird.requirefortesting.shared.DataFormat;
+import org.blackbird.requirefortesting.shared.ImportResult;
 import org.blackbird.requirefortesting.shared.JwtService;
+import org.blackbird.requirefortesting.shared.SearchHit;
+import org.blackbird.requirefortesting.shared.StreamingExport;
+import org.blackbird.requirefortesting.shared.UserDirectory;
+import org.blackbird.requirefortesting.shared.WithCreator;
+import org.blackbird.requirefortesting.testmanagement.model.BulkTestCaseDto;
 import org.blackbird.requirefortesting.testmanagement.model.CreateOrUpdateTestCaseDto;
+import org.blackbird.requirefortesting.testmanagement.model.RequirementTestCasesDto;
 import org.blackbird.requirefortesting.testmanagement.model.TestCase;
 import org.blackbird.requirefortesting.testmanagement.model.TestCaseDto;
 import org.blackbird.requirefortesting.testmanagement.service.TestCaseService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/test-cases")
@@ -20,6 +32,7 @@ public class TestCaseController {
   private static final String AUTHORIZATION_HEADER = "Authorization";
 
   private final JwtService jwtUtil;
+  private final UserDirectory userDirectory;
 
   @PreAuthorize("hasRole('TEST_CASE_CREATOR')")
   @PostMapping
@@ -31,6 +44,30 @@ public class TestCaseController {
     return ResponseEntity.ok(testCase);
   }
 
+  @PreAuthorize("hasRole('TEST_CASE_CREATOR')")
+  @PostMapping("/bulk")
+  public ResponseEntity<BulkResult> bulkCreateOrUpdateTestCases(
+      @RequestHeader(AUTHORIZATION_HEADER) String authToken,
+      @RequestBody List<BulkTestCaseDto> testCases) {
+    Long userId = jwtUtil.extractUserId(authToken);
+    BulkResult result = testCaseService.bulkCreateOrUpdateTestCases(testCases, userId);
+    return ResponseEntity.ok(result);
+  }
+
+  @PreAuthorize("hasRole('TEST_CASE_CREATOR')")
+  @PostMapping(
+      value = "/import",
+      consumes = {"text/csv", "application/x-ndjson"})
+  public ResponseEntity<ImportResult> importTestCases(
+      @RequestHeader(AUTHORIZATION_HEADER) String authToken,
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+      InputStream body) {
+    Long userId = jwtUtil.extractUserId(authToken);
+    DataFormat format = DataFormat.fromContentType(contentType);
+    ImportResult result = testCaseService.importTestCases(body, format, userId);
+    return ResponseEntity.ok(result);
+  }
+
   @PreAuthorize("hasRole('TEST_CASE_CREATOR')")
   @PostMapping("/{id}")
   public ResponseEntity<Void> deleteTestCase(@PathVariable Long id) {
@@ -53,6 +90,13 @@ public class TestCaseController {
     return ResponseEntity.ok(testCases);
   }
 
+  /** Same as {@link #getAllTestCases()} with username and email of each creator inlined. */
+  @GetMapping(params = "expand=creator")
+  public ResponseEntity<List<WithCreator<TestCaseDto>>> getAllTestCasesWithCreators() {
+    List<TestCaseDto> testCases = testCaseService.getAllTestCases();
+    return ResponseEntity.ok(userDirectory.withCreators(testCases, TestCaseDto::createdBy));
+  }
+
   @GetMapping("/{id}")
   public ResponseEntity<TestCaseDto> getTestCase(@PathVariable Long id) {
     TestCaseDto testCase = testCaseService.getTestCase(id);
@@ -68,4 +112,31 @@ public class TestCaseController {
     }
     return ResponseEntity.ok(testCases);
   }
+
+  /** Test cases of several requirements at once, grouped by requirement in request order. */
+  @GetMapping("/by-requirements")
+  public ResponseEntity<List<RequirementTestCasesDto>> getTestCasesByRequirementIds(
+      @RequestParam List<Long> requirementIds,
+      @RequestParam(defaultValue = "20") int limitPerRequirement) {
+    return ResponseEntity.ok(
+        testCaseService.getTestCasesByRequirementIds(requirementIds, limitPerRequirement));
+  }
+
+  @GetMapping("/search")
+  public ResponseEntity<List<SearchHit>> searchTestCases(
+      @RequestParam("q") String query,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "20") int size) {
+    List<SearchHit> hits = testCaseService.searchTestCases(query, page, size);
+    return ResponseEntity.ok(hits);
+  }
+
+  @PreAuthorize("hasRole('TEST_CASE_CREATOR')")
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportTestCases(
+      @RequestParam(defaultValue = "NDJSON") DataFormat format,
+      @RequestParam(defaultValue = "false") boolean gzip) {
+    return StreamingExport.of(
+        format, gzip, output -> testCaseService.exportTestCases(output, format));
+  }
 }
@@ -3,8 +3,16 @@ package org.blackbird.requirefortesting.testmanagement.api;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.blackbird.requirefortesting.shared.JwtService;
+import org.blackbird.requirefortesting.shared.UserDirectory;
+import org.blackbird.requirefortesting.shared.WithCreator;
+import org.blackbird.requirefortesting.testmanagement.model.CloneTestRunDto;
 import org.blackbird.requirefortesting.testmanagement.model.CreateTestRunDto;
 import org.blackbird.requirefortesting.testmanagement.model.TestRun;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunCloneResult;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunDetailDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunMembershipDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunMembershipResult;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunSummaryDto;
 import org.blackbird.requirefortesting.testmanagement.service.TestRunService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,6 +26,7 @@ public class TestRunController {
   private static final String AUTHORIZATION_HEADER = "Authorization";
 
   private final JwtService jwtUtil;
+  private final UserDirectory userDirectory;
 
   @PreAuthorize("hasRole('TEST_MANAGER')")
   @PostMapping("/{userId}")
@@ -36,8 +45,11 @@ public class TestRunController {
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<TestRun> getTestRunById(@PathVariable Long id) {
-    TestRun testRun = testRunService.getTestRunById(id);
+  public ResponseEntity<TestRunDetailDto> getTestRunById(
+      @PathVariable Long id,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int size) {
+    TestRunDetailDto testRun = testRunService.getTestRunById(id, cursor, size);
     return ResponseEntity.ok(testRun);
   }
 
@@ -49,11 +61,18 @@ public class TestRunController {
   }
 
   @GetMapping
-  public ResponseEntity<List<TestRun>> getAllTestRuns() {
-    List<TestRun> testRuns = testRunService.getAllTestRuns();
+  public ResponseEntity<List<TestRunSummaryDto>> getAllTestRuns() {
+    List<TestRunSummaryDto> testRuns = testRunService.getAllTestRuns();
     return ResponseEntity.ok(testRuns);
   }
 
+  /** Same as {@link #getAllTestRuns()} with username and email of each creator inlined. */
+  @GetMapping(params = "expand=creator")
+  public ResponseEntity<List<WithCreator<TestRunSummaryDto>>> getAllTestRunsWithCreators() {
+    List<TestRunSummaryDto> testRuns = testRunService.getAllTestRuns();
+    return ResponseEntity.ok(userDirectory.withCreators(testRuns, TestRunSummaryDto::createdBy));
+  }
+
   @PreAuthorize("hasRole('TEST_MANAGER')")
   @PostMapping("/{testRunId}/test-cases/{testCaseId}")
   public ResponseEntity<Void> addTestCaseToTestRun(
@@ -62,11 +81,45 @@ public class TestRunController {
     return ResponseEntity.noContent().build();
   }
 
+  @PreAuthorize("hasRole('TEST_MANAGER')")
+  @PostMapping("/{testRunId}/test-cases/bulk")
+  public ResponseEntity<TestRunMembershipResult> addTestCasesToTestRun(
+      @PathVariable Long testRunId, @RequestBody TestRunMembershipDto selection) {
+    TestRunMembershipResult result = testRunService.addTestCases(testRunId, selection);
+    return ResponseEntity.ok(result);
+  }
+
+  @PreAuthorize("hasRole('TEST_MANAGER')")
+  @PostMapping("/{testRunId}/test-cases/bulk-remove")
+  public ResponseEntity<TestRunMembershipResult> removeTestCasesFromTestRun(
+      @PathVariable Long testRunId, @RequestBody TestRunMembershipDto selection) {
+    TestRunMembershipResult result = testRunService.removeTestCases(testRunId, selection);
+    return ResponseEntity.ok(result);
+  }
+
+  @PreAuthorize("hasRole('TEST_MANAGER')")
+  @PostMapping("/{id}/clone")
+  public ResponseEntity<TestRunCloneResult> cloneTestRun(
+      @RequestHeader(AUTHORIZATION_HEADER) String authToken,
+      @PathVariable Long id,
+      @RequestBody CloneTestRunDto cloneDto) {
+    Long userId = jwtUtil.extractUserId(authToken);
+    TestRunCloneResult result = testRunService.cloneTestRun(id, cloneDto, userId);
+    return ResponseEntity.ok(result);
+  }
+
+  /** Recomputes the result counters of all runs from their executions, for repair. */
+  @PreAuthorize("hasRole('TEST_MANAGER')")
+  @PostMapping("/result-counts/rebuild")
+  public ResponseEntity<Integer> rebuildResultCounts() {
+    return ResponseEntity.ok(testRunService.rebuildResultCounts());
+  }
+
   @GetMapping("/user/")
-  public ResponseEntity<List<TestRun>> getTestRunByUserId(
+  public ResponseEntity<List<TestRunSummaryDto>> getTestRunByUserId(
       @RequestHeader(AUTHORIZATION_HEADER) String authToken) {
     Long userId = jwtUtil.extractUserId(authToken);
-    List<TestRun> testRun = testRunService.getTestRunsByUserId(userId);
+    List<TestRunSummaryDto> testRun = testRunService.getTestRunsByUserId(userId);
     return ResponseEntity.ok(testRun);
   }
 }
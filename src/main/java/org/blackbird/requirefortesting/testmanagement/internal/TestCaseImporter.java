@@ -0,0 +1,85 @@
+package org.blackbird.requirefortesting.testmanagement.internal;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.shared.CopyRowWriter;
+import org.blackbird.requirefortesting.shared.DataFormat;
+import org.blackbird.requirefortesting.shared.ImportResult;
+import org.blackbird.requirefortesting.shared.ImportRowReader;
+import org.blackbird.requirefortesting.shared.Status;
+import org.blackbird.requirefortesting.testmanagement.internal.validation.TestCaseValidator;
+import org.blackbird.requirefortesting.testmanagement.model.CreateOrUpdateTestCaseDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads test cases without going through JPA: rows are validated while they are parsed, copied into
+ * a transaction-scoped staging table with <code>COPY</code> and moved into <code>test_case
+ * </code> with a single <code>INSERT ... SELECT</code>. Has to run inside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class TestCaseImporter {
+
+  private static final String CREATE_STAGING_TABLE =
+      """
+      CREATE TEMP TABLE test_case_import (
+          title varchar(255),
+          description text,
+          requirement_id bigint,
+          status varchar(255)
+      ) ON COMMIT DROP
+      """;
+
+  private static final String COPY_INTO_STAGING_TABLE =
+      "COPY test_case_import (title, description, requirement_id, status) FROM STDIN (FORMAT csv)";
+
+  private static final String MERGE_STAGING_TABLE =
+      """
+      INSERT INTO test_case (id, title, description, requirement_id, status, created_by,
+                             creation_date, updated_at)
+      SELECT nextval('test_case_seq'), title, description, requirement_id, status, ?,
+             LOCALTIMESTAMP, LOCALTIMESTAMP
+      FROM test_case_import
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final DataSource dataSource;
+
+  public ImportResult importTestCases(InputStream input, DataFormat format, Long userId) {
+    jdbcTemplate.execute(CREATE_STAGING_TABLE);
+
+    ImportResult.Collector collector = new ImportResult.Collector();
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try (CopyRowWriter copy = new CopyRowWriter(connection, COPY_INTO_STAGING_TABLE)) {
+      ImportRowReader.read(
+          input,
+          format,
+          CreateOrUpdateTestCaseDto.class,
+          (recordNumber, row) -> {
+            try {
+              TestCaseValidator.validate(row);
+              copy.writeRow(
+                  row.title(),
+                  row.description(),
+                  row.requirementId(),
+                  row.status() != null ? row.status() : Status.OPEN);
+            } catch (IllegalArgumentException e) {
+              collector.reject(recordNumber, e.getMessage());
+            }
+          },
+          collector::reject);
+    } catch (SQLException e) {
+      throw new IllegalStateException("Could not start COPY into staging table", e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+
+    int imported = jdbcTemplate.update(MERGE_STAGING_TABLE, userId);
+    return collector.toResult(imported);
+  }
+}
@@ -0,0 +1,24 @@
+package org.blackbird.requirefortesting.testmanagement.internal;
+
+import org.blackbird.requirefortesting.testmanagement.model.TestCase;
+import org.blackbird.requirefortesting.testmanagement.model.TestCaseDto;
+
+/** Maps test case entities to the DTO returned by the test case and test run endpoints. */
+final class TestCaseMapper {
+
+  private TestCaseMapper() {}
+
+  static TestCaseDto toDto(TestCase testCase) {
+    return TestCaseDto.builder()
+        .id(testCase.getId())
+        .title(testCase.getTitle())
+        .description(testCase.getDescription())
+        .requirementId(testCase.getRequirementId())
+        .status(testCase.getStatus())
+        .testResult(testCase.getTestResult())
+        .createdBy(testCase.getCreatedBy())
+        .updatedAt(testCase.getUpdatedAt())
+        .creationDate(testCase.getCreationDate())
+        .build();
+  }
+}
@@ -1,14 +1,34 @@
 package org.blackbird.requirefortesting.testmanagement.internal;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.shared.BulkResult;
+import org.blackbird.requirefortesting.shared.BulkResult.BulkRowError;
+import org.blackbird.requirefortesting.shared.DataFormat;
+import org.blackbird.requirefortesting.shared.ImportResult;
+import org.blackbird.requirefortesting.shared.RowExporter;
+import org.blackbird.requirefortesting.shared.SearchHit;
+import org.blackbird.requirefortesting.shared.SearchProjection;
 import org.blackbird.requirefortesting.shared.Status;
 import org.blackbird.requirefortesting.testmanagement.internal.repository.TestCaseRepository;
+import org.blackbird.requirefortesting.testmanagement.internal.validation.TestCaseValidator;
+import org.blackbird.requirefortesting.testmanagement.model.BulkTestCaseDto;
 import org.blackbird.requirefortesting.testmanagement.model.CreateOrUpdateTestCaseDto;
+import org.blackbird.requirefortesting.testmanagement.model.RequirementTestCasesDto;
 import org.blackbird.requirefortesting.testmanagement.model.TestCase;
 import org.blackbird.requirefortesting.testmanagement.model.TestCaseDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestCasesChangedEvent;
 import org.blackbird.requirefortesting.testmanagement.service.TestCaseService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,13 +36,32 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class TestCaseServiceImpl implements TestCaseService {
 
+  private static final int MAX_PAGE_SIZE = 200;
+  private static final int MAX_BULK_SIZE = 50_000;
+  private static final int BULK_CHUNK_SIZE = 500;
+  private static final int MAX_REQUIREMENT_IDS = 500;
+  private static final int MAX_TEST_CASES_PER_REQUIREMENT = 100;
+  private static final String EXPORT_SQL =
+      """
+      SELECT id, title, description, requirement_id AS "requirementId", status,
+             test_result AS "testResult", created_by AS "createdBy",
+             creation_date AS "creationDate", updated_at AS "updatedAt"
+      FROM test_case
+      ORDER BY id
+      """;
+
   private final TestCaseRepository testCaseRepository;
+  private final EntityManager entityManager;
+  private final TestCaseImporter testCaseImporter;
+  private final RowExporter rowExporter;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional
   public TestCase createTestCase(CreateOrUpdateTestCaseDto createTestCaseDto, Long userId) {
-    validateTestCaseDto(createTestCaseDto);
+    TestCaseValidator.validate(createTestCaseDto);
     TestCase savedTestCase = testCaseRepository.save(mapToTestCase(createTestCaseDto, userId));
+    eventPublisher.publishEvent(new TestCasesChangedEvent(1));
 
     return savedTestCase;
   }
@@ -30,7 +69,7 @@ public class TestCaseServiceImpl implements TestCaseService {
   @Override
   @Transactional
   public TestCaseDto updateTestCase(Long testCaseId, CreateOrUpdateTestCaseDto updateTestCaseDto) {
-    validateTestCaseDto(updateTestCaseDto);
+    TestCaseValidator.validate(updateTestCaseDto);
 
     TestCase testCaseFromDb =
         testCaseRepository.findById(testCaseId).orElseThrow(EntityNotFoundException::new);
@@ -41,8 +80,91 @@ public class TestCaseServiceImpl implements TestCaseService {
 
     updateTestCase(testCaseFromDb, updateTestCaseDto);
     TestCase savedTestCase = testCaseRepository.save(testCaseFromDb);
+    eventPublisher.publishEvent(new TestCasesChangedEvent(1));
+
+    return TestCaseMapper.toDto(savedTestCase);
+  }
+
+  @Override
+  @Transactional
+  public BulkResult bulkCreateOrUpdateTestCases(List<BulkTestCaseDto> rows, Long userId) {
+    if (rows == null || rows.isEmpty()) {
+      throw new IllegalArgumentException("Bulk request cannot be empty");
+    }
+    if (rows.size() > MAX_BULK_SIZE) {
+      throw new IllegalArgumentException("Bulk request cannot exceed " + MAX_BULK_SIZE + " rows");
+    }
+
+    int created = 0;
+    int updated = 0;
+    List<BulkRowError> errors = new ArrayList<>();
+
+    for (int chunkStart = 0; chunkStart < rows.size(); chunkStart += BULK_CHUNK_SIZE) {
+      List<BulkTestCaseDto> chunk =
+          rows.subList(chunkStart, Math.min(chunkStart + BULK_CHUNK_SIZE, rows.size()));
+      Map<Long, TestCase> existingTestCases = findExistingTestCases(chunk);
+      List<TestCase> newTestCases = new ArrayList<>();
+
+      for (int i = 0; i < chunk.size(); i++) {
+        BulkTestCaseDto row = chunk.get(i);
+        try {
+          if (row == null) {
+            throw new IllegalArgumentException("Test case data cannot be null");
+          }
+          CreateOrUpdateTestCaseDto testCaseDto = row.toCreateOrUpdateDto();
+          TestCaseValidator.validate(testCaseDto);
+          if (row.id() == null) {
+            newTestCases.add(mapToTestCase(testCaseDto, userId));
+            continue;
+          }
+          TestCase testCase = existingTestCases.get(row.id());
+          if (testCase == null) {
+            throw new EntityNotFoundException("Test case not found");
+          }
+          if (testCase.getStatus() == Status.CLOSED) {
+            throw new IllegalArgumentException("Cannot update a closed test case");
+          }
+          updateTestCase(testCase, testCaseDto);
+          updated++;
+        } catch (IllegalArgumentException | EntityNotFoundException e) {
+          errors.add(
+              new BulkRowError(chunkStart + i, row == null ? null : row.id(), e.getMessage()));
+        }
+      }
 
-    return mapToDto(savedTestCase);
+      testCaseRepository.saveAll(newTestCases);
+      created += newTestCases.size();
+      // Send the chunk as JDBC batches and keep the persistence context from growing
+      entityManager.flush();
+      entityManager.clear();
+    }
+
+    if (created + updated > 0) {
+      eventPublisher.publishEvent(new TestCasesChangedEvent(created + updated));
+    }
+    return new BulkResult(created, updated, errors);
+  }
+
+  @Override
+  @Transactional
+  public ImportResult importTestCases(InputStream input, DataFormat format, Long userId) {
+    if (input == null || format == null) {
+      throw new IllegalArgumentException("Import data and format must be provided");
+    }
+    ImportResult result = testCaseImporter.importTestCases(input, format, userId);
+    if (result.imported() > 0) {
+      eventPublisher.publishEvent(new TestCasesChangedEvent(result.imported()));
+    }
+    return result;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportTestCases(OutputStream output, DataFormat format) {
+    if (output == null || format == null) {
+      throw new IllegalArgumentException("Export target and format must be provided");
+    }
+    rowExporter.export(output, format, EXPORT_SQL);
   }
 
   @Override
@@ -56,19 +178,20 @@ public class TestCaseServiceImpl implements TestCaseService {
         testCaseRepository.findById(testCaseId).orElseThrow(EntityNotFoundException::new);
 
     testCaseRepository.delete(testCaseFromDb);
+    eventPublisher.publishEvent(new TestCasesChangedEvent(1));
   }
 
   @Override
   @Transactional(readOnly = true)
   public List<TestCaseDto> getAllTestCases() {
-    return testCaseRepository.findAll().stream().map(TestCaseServiceImpl::mapToDto).toList();
+    return testCaseRepository.findAll().stream().map(TestCaseMapper::toDto).toList();
   }
 
   @Override
   @Transactional(readOnly = true)
   public TestCaseDto getTestCase(Long id) {
     TestCase testCase = testCaseRepository.findById(id).orElseThrow(EntityNotFoundException::new);
-    return mapToDto(testCase);
+    return TestCaseMapper.toDto(testCase);
   }
 
   @Override
@@ -78,10 +201,81 @@ public class TestCaseServiceImpl implements TestCaseService {
       throw new IllegalArgumentException("Requirement case ID cannot be null or negative");
     }
     return testCaseRepository.findTestCasesByRequirementId(requirementId).stream()
-        .map(TestCaseServiceImpl::mapToDto)
+        .map(TestCaseMapper::toDto)
+        .toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<RequirementTestCasesDto> getTestCasesByRequirementIds(
+      List<Long> requirementIds, int limitPerRequirement) {
+    if (requirementIds == null
+        || requirementIds.isEmpty()
+        || requirementIds.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("At least one requirement id must be provided");
+    }
+    if (limitPerRequirement <= 0 || limitPerRequirement > MAX_TEST_CASES_PER_REQUIREMENT) {
+      throw new IllegalArgumentException(
+          "Limit per requirement must be between 1 and " + MAX_TEST_CASES_PER_REQUIREMENT);
+    }
+    List<Long> distinctIds = requirementIds.stream().distinct().toList();
+    if (distinctIds.size() > MAX_REQUIREMENT_IDS) {
+      throw new IllegalArgumentException(
+          "Cannot look up more than " + MAX_REQUIREMENT_IDS + " requirements at once");
+    }
+
+    // Fetch one extra test case per requirement to find out whether it has more
+    Map<Long, List<TestCaseDto>> testCases =
+        testCaseRepository
+            .findTestCasesByRequirementIds(distinctIds, limitPerRequirement + 1)
+            .stream()
+            .collect(
+                Collectors.groupingBy(
+                    TestCase::getRequirementId,
+                    Collectors.mapping(TestCaseMapper::toDto, Collectors.toList())));
+
+    return distinctIds.stream()
+        .map(
+            requirementId -> {
+              List<TestCaseDto> found = testCases.getOrDefault(requirementId, List.of());
+              boolean truncated = found.size() > limitPerRequirement;
+              return new RequirementTestCasesDto(
+                  requirementId,
+                  truncated ? List.copyOf(found.subList(0, limitPerRequirement)) : found,
+                  truncated);
+            })
         .toList();
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public List<SearchHit> searchTestCases(String query, int page, int size) {
+    if (query == null || query.isBlank()) {
+      throw new IllegalArgumentException("Search query cannot be empty");
+    }
+    if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException(
+          "Page must not be negative and size must be between 1 and " + MAX_PAGE_SIZE);
+    }
+    return testCaseRepository.search(query.strip(), size, (long) page * size).stream()
+        .map(SearchProjection::toSearchHit)
+        .toList();
+  }
+
+  private Map<Long, TestCase> findExistingTestCases(List<BulkTestCaseDto> rows) {
+    List<Long> ids =
+        rows.stream()
+            .filter(Objects::nonNull)
+            .map(BulkTestCaseDto::id)
+            .filter(Objects::nonNull)
+            .toList();
+    if (ids.isEmpty()) {
+      return Map.of();
+    }
+    return testCaseRepository.findAllById(ids).stream()
+        .collect(Collectors.toMap(TestCase::getId, Function.identity()));
+  }
+
   private static TestCase mapToTestCase(CreateOrUpdateTestCaseDto createTestCaseDto, Long userId) {
     return TestCase.builder()
         .title(createTestCaseDto.title())
@@ -92,21 +286,6 @@ public class TestCaseServiceImpl implements TestCaseService {
         .build();
   }
 
-  private static void validateTestCaseDto(CreateOrUpdateTestCaseDto testCaseDto) {
-    if (testCaseDto == null) {
-      throw new IllegalArgumentException("UpdateTestCaseDto cannot be null");
-    }
-    if (testCaseDto.title() == null || testCaseDto.title().isBlank()) {
-      throw new IllegalArgumentException("Title cannot be empty");
-    } else if (testCaseDto.title().length() > 255) {
-      throw new IllegalArgumentException("Title cannot exceed 255 characters");
-    }
-
-    if (testCaseDto.requirementId() == null || testCaseDto.requirementId() <= 0) {
-      throw new IllegalArgumentException("Requirement ID must be greater than 0");
-    }
-  }
-
   private static void updateTestCase(
       TestCase existingTestCase, CreateOrUpdateTestCaseDto updateTestCaseDto) {
 
@@ -126,18 +305,4 @@ public class TestCaseServiceImpl implements TestCaseService {
       existingTestCase.setRequirementId(updateTestCaseDto.requirementId());
     }
   }
-
-  private static TestCaseDto mapToDto(TestCase testCase) {
-    return TestCaseDto.builder()
-        .id(testCase.getId())
-        .title(testCase.getTitle())
-        .description(testCase.getDescription())
-        .requirementId(testCase.getRequirementId())
-        .status(testCase.getStatus())
-        .testResult(testCase.getTestResult())
-        .createdBy(testCase.getCreatedBy())
-        .updatedAt(testCase.getUpdatedAt())
-        .creationDate(testCase.getCreationDate())
-        .build();
-  }
 }
@@ -0,0 +1,95 @@
+package org.blackbird.requirefortesting.testmanagement.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunMembershipDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunMembershipResult;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Changes the test case set of a test run with one statement per request: the selected test cases
+ * are resolved, inserted into (or deleted from) <code>test_run_test_case</code> and counted in a
+ * single data-modifying CTE, so no entities are loaded. Has to run inside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class TestRunMembershipWriter {
+
+  private static final String REQUESTED_BY_IDS =
+      """
+      requested AS (SELECT DISTINCT id FROM unnest(CAST(? AS bigint[])) AS r(id)),
+      found AS (SELECT tc.id FROM test_case tc JOIN requested r ON r.id = tc.id),
+      """;
+
+  private static final String REQUESTED_BY_SELECTOR =
+      """
+      requested AS (SELECT 0 WHERE false),
+      found AS (SELECT id FROM test_case WHERE %s),
+      """;
+
+  private static final String INSERT_FOUND =
+      """
+      changed AS (INSERT INTO test_run_test_case (test_run_id, test_case_id)
+                  SELECT ?, id FROM found
+                  ON CONFLICT DO NOTHING
+                  RETURNING test_case_id)
+      """;
+
+  private static final String DELETE_FOUND =
+      """
+      changed AS (DELETE FROM test_run_test_case
+                  WHERE test_run_id = ? AND test_case_id IN (SELECT id FROM found)
+                  RETURNING test_case_id)
+      """;
+
+  private static final String COUNT =
+      """
+      SELECT (SELECT count(*) FROM requested), (SELECT count(*) FROM found),
+             (SELECT count(*) FROM changed)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public TestRunMembershipResult add(Long testRunId, TestRunMembershipDto selection) {
+    long[] counts = apply(testRunId, selection, INSERT_FOUND);
+    return new TestRunMembershipResult(counts[2], 0, counts[1] - counts[2], missing(counts));
+  }
+
+  public TestRunMembershipResult remove(Long testRunId, TestRunMembershipDto selection) {
+    long[] counts = apply(testRunId, selection, DELETE_FOUND);
+    return new TestRunMembershipResult(0, counts[2], counts[1] - counts[2], missing(counts));
+  }
+
+  /** Returns the number of requested ids (0 for selectors), found test cases and changed rows. */
+  private long[] apply(Long testRunId, TestRunMembershipDto selection, String change) {
+    List<Object> args = new ArrayList<>();
+    String requested;
+    if (selection.hasTestCaseIds()) {
+      requested = REQUESTED_BY_IDS;
+      args.add(selection.testCaseIds().toArray(Long[]::new));
+    } else {
+      List<String> conditions = new ArrayList<>();
+      if (selection.requirementId() != null) {
+        conditions.add("requirement_id = ?");
+        args.add(selection.requirementId());
+      }
+      if (selection.status() != null) {
+        conditions.add("status = ?");
+        args.add(selection.status().name());
+      }
+      requested = REQUESTED_BY_SELECTOR.formatted(String.join(" AND ", conditions));
+    }
+    args.add(testRunId);
+
+    return jdbcTemplate.queryForObject(
+        "WITH " + requested + change + COUNT,
+        (rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2), rs.getLong(3)},
+        args.toArray());
+  }
+
+  private static long missing(long[] counts) {
+    return Math.max(counts[0] - counts[1], 0);
+  }
+}
@@ -0,0 +1,49 @@
+package org.blackbird.requirefortesting.testmanagement.internal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes <code>test_run_result_count</code> from the executions, for repair after the counters
+ * have drifted (e.g. rows changed while the triggers were disabled). Writes to executions wait
+ * until the rebuild commits, otherwise their increments could be overwritten by counts taken before
+ * them. Locks the counter rows in run id order, like the triggers. Has to run inside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class TestRunResultCountRebuilder {
+
+  private static final String LOCK_EXECUTIONS = "LOCK TABLE test_execution IN SHARE MODE";
+
+  private static final String REBUILD =
+      """
+      INSERT INTO test_run_result_count AS c
+          (test_run_id, total, passed, failed, blocked, skipped, not_run)
+      SELECT r.id, count(e.id),
+             count(e.id) FILTER (WHERE e.test_result = 'PASSED'),
+             count(e.id) FILTER (WHERE e.test_result = 'FAILED'),
+             count(e.id) FILTER (WHERE e.test_result = 'BLOCKED'),
+             count(e.id) FILTER (WHERE e.test_result = 'SKIPPED'),
+             count(e.id) FILTER (WHERE e.id IS NOT NULL AND e.test_result IS NULL)
+      FROM test_run r
+      LEFT JOIN test_execution e ON e.test_run_id = r.id
+      GROUP BY r.id
+      ORDER BY r.id
+      ON CONFLICT (test_run_id) DO UPDATE SET
+          total = EXCLUDED.total,
+          passed = EXCLUDED.passed,
+          failed = EXCLUDED.failed,
+          blocked = EXCLUDED.blocked,
+          skipped = EXCLUDED.skipped,
+          not_run = EXCLUDED.not_run
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /** Returns the number of test runs whose counters were rewritten. */
+  public int rebuild() {
+    jdbcTemplate.execute(LOCK_EXECUTIONS);
+    return jdbcTemplate.update(REBUILD);
+  }
+}
@@ -1,19 +1,37 @@
 package org.blackbird.requirefortesting.testmanagement.internal;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.blackbird.requirefortesting.shared.Status;
 import org.blackbird.requirefortesting.testmanagement.internal.repository.TestCaseRepository;
 import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunRepository;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunResultCountRow;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunStatusCount;
 import org.blackbird.requirefortesting.testmanagement.internal.validation.TestRunValidator;
 import org.blackbird.requirefortesting.testmanagement.internal.validation.ValidationMessage;
+import org.blackbird.requirefortesting.testmanagement.model.CloneTestRunDto;
 import org.blackbird.requirefortesting.testmanagement.model.CreateTestRunDto;
 import org.blackbird.requirefortesting.testmanagement.model.TestCase;
 import org.blackbird.requirefortesting.testmanagement.model.TestRun;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunCloneResult;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunClonedEvent;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunDetailDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunMembershipDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunMembershipResult;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunResultCounts;
 import org.blackbird.requirefortesting.testmanagement.model.TestRunStatus;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunSummaryDto;
 import org.blackbird.requirefortesting.testmanagement.service.TestRunService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,8 +39,15 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class TestRunServiceImpl implements TestRunService {
 
+  private static final int MAX_PAGE_SIZE = 200;
+  private static final int MAX_BULK_SIZE = 50_000;
+  private static final Sort ID_SORT = Sort.by("id");
+
   private final TestRunRepository testRunRepository;
   private final TestCaseRepository testCaseRepository;
+  private final TestRunMembershipWriter testRunMembershipWriter;
+  private final TestRunResultCountRebuilder resultCountRebuilder;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Override
   @Transactional
@@ -66,42 +91,209 @@ public class TestRunServiceImpl implements TestRunService {
     if (testCaseId == null || testRunId == null) {
       throw new IllegalArgumentException("Test run ID and test case ID cannot be null");
     }
-    TestRun testRun =
-        testRunRepository.findById(testRunId).orElseThrow(EntityNotFoundException::new);
-    TestCase testCase =
-        testCaseRepository.findById(testCaseId).orElseThrow(EntityNotFoundException::new);
+    if (!testRunRepository.existsById(testRunId) || !testCaseRepository.existsById(testCaseId)) {
+      throw new EntityNotFoundException();
+    }
 
-    if (testRun.getTestCases() != null
-        && !testRun.getTestCases().isEmpty()
-        && testRun.getTestCases().contains(testCase)) {
+    // Primary key lookup on the join table instead of loading the run's whole test case set
+    if (testRunRepository.addTestCase(testRunId, testCaseId) == 0) {
       throw new IllegalStateException("Test case already exists in the test run");
     }
+  }
+
+  @Override
+  @Transactional
+  public TestRunMembershipResult addTestCases(Long testRunId, TestRunMembershipDto selection) {
+    validateMembershipChange(testRunId, selection);
+    return testRunMembershipWriter.add(testRunId, selection);
+  }
+
+  @Override
+  @Transactional
+  public TestRunMembershipResult removeTestCases(Long testRunId, TestRunMembershipDto selection) {
+    validateMembershipChange(testRunId, selection);
+    return testRunMembershipWriter.remove(testRunId, selection);
+  }
+
+  @Override
+  @Transactional
+  public TestRunCloneResult cloneTestRun(Long testRunId, CloneTestRunDto cloneDto, Long userId) {
+    TestRunValidator.validateNotNull(testRunId, ValidationMessage.NULL_TEST_ID.getMessage());
+    TestRunValidator.validateNotNull(cloneDto, ValidationMessage.NULL_TEST_RUN_DTO.getMessage());
+    TestRun source = findTestRunById(testRunId);
+    CreateTestRunDto testRunDto =
+        new CreateTestRunDto(
+            cloneDto.title() != null ? cloneDto.title() : source.getTitle(),
+            cloneDto.description() != null ? cloneDto.description() : source.getDescription(),
+            cloneDto.startDate(),
+            cloneDto.endDate(),
+            null);
+    TestRunValidator.validateForCreation(testRunDto);
+
+    // The run row has to exist before the join table rows referencing it are copied
+    TestRun clone = testRunRepository.saveAndFlush(mapToTestRun(testRunDto, userId));
+    int testCases = testRunRepository.copyTestCases(source.getId(), clone.getId());
+    eventPublisher.publishEvent(
+        new TestRunClonedEvent(source.getId(), clone.getId(), cloneDto.includeAssignments()));
 
-    testRun.getTestCases().add(testCase);
+    return new TestRunCloneResult(clone.getId(), testCases);
+  }
+
+  @Override
+  @Transactional
+  public int rebuildResultCounts() {
+    return resultCountRebuilder.rebuild();
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<TestRun> getAllTestRuns() {
-    return testRunRepository.findAll();
+  public List<TestRunSummaryDto> getAllTestRuns() {
+    return mapToSummaries(testRunRepository.findAll(ID_SORT));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<TestRun> getTestRunsByUserId(Long userId) {
-    return testRunRepository.findAllByCreatedBy(userId);
+  public List<TestRunSummaryDto> getTestRunsByUserId(Long userId) {
+    return mapToSummaries(testRunRepository.findAllByCreatedBy(userId, ID_SORT));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public TestRun getTestRunById(Long testRunId) {
-    return findTestRunById(testRunId);
+  public TestRunDetailDto getTestRunById(Long testRunId, String cursor, int size) {
+    TestRunValidator.validateNotNull(testRunId, ValidationMessage.NULL_TEST_ID.getMessage());
+    if (size <= 0 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+    }
+    TestRun testRun = findTestRunById(testRunId);
+    Map<Status, Long> statuses =
+        countTestCasesByStatus(List.of(testRunId)).getOrDefault(testRunId, Map.of());
+    TestRunResultCounts results =
+        findResultCounts(List.of(testRunId)).getOrDefault(testRunId, TestRunResultCounts.NONE);
+
+    // Fetch one extra row to find out whether another page follows without a count query
+    List<TestCase> testCases =
+        testRunRepository.findTestCases(testRunId, decodeCursor(cursor), Limit.of(size + 1));
+    String nextCursor = null;
+    if (testCases.size() > size) {
+      testCases = testCases.subList(0, size);
+      nextCursor = String.valueOf(testCases.get(size - 1).getId());
+    }
+
+    return TestRunDetailDto.builder()
+        .id(testRun.getId())
+        .title(testRun.getTitle())
+        .description(testRun.getDescription())
+        .startTime(testRun.getStartTime())
+        .endTime(testRun.getEndTime())
+        .status(testRun.getStatus())
+        .createdBy(testRun.getCreatedBy())
+        .testCaseCount(sum(statuses))
+        .testCaseStatuses(statuses)
+        .results(results)
+        .testCases(testCases.stream().map(TestCaseMapper::toDto).toList())
+        .nextCursor(nextCursor)
+        .build();
   }
 
   private TestRun findTestRunById(Long testRunId) {
     return testRunRepository.findById(testRunId).orElseThrow(EntityNotFoundException::new);
   }
 
+  /** Runs with their test case and result counts in three queries, however many runs there are. */
+  private List<TestRunSummaryDto> mapToSummaries(List<TestRun> testRuns) {
+    if (testRuns.isEmpty()) {
+      return List.of();
+    }
+    List<Long> testRunIds = testRuns.stream().map(TestRun::getId).toList();
+    Map<Long, Map<Status, Long>> statuses = countTestCasesByStatus(testRunIds);
+    Map<Long, TestRunResultCounts> results = findResultCounts(testRunIds);
+    return testRuns.stream()
+        .map(
+            testRun ->
+                mapToSummary(
+                    testRun,
+                    statuses.getOrDefault(testRun.getId(), Map.of()),
+                    results.getOrDefault(testRun.getId(), TestRunResultCounts.NONE)))
+        .toList();
+  }
+
+  private TestRunSummaryDto mapToSummary(
+      TestRun testRun, Map<Status, Long> statuses, TestRunResultCounts results) {
+    return TestRunSummaryDto.builder()
+        .id(testRun.getId())
+        .title(testRun.getTitle())
+        .description(testRun.getDescription())
+        .startTime(testRun.getStartTime())
+        .endTime(testRun.getEndTime())
+        .status(testRun.getStatus())
+        .createdBy(testRun.getCreatedBy())
+        .testCaseCount(sum(statuses))
+        .testCaseStatuses(statuses)
+        .results(results)
+        .build();
+  }
+
+  private Map<Long, Map<Status, Long>> countTestCasesByStatus(List<Long> testRunIds) {
+    Map<Long, Map<Status, Long>> statuses = new HashMap<>();
+    for (TestRunStatusCount count : testRunRepository.countTestCasesByStatus(testRunIds)) {
+      statuses
+          .computeIfAbsent(count.testRunId(), id -> new EnumMap<>(Status.class))
+          .put(count.status(), count.count());
+    }
+    return statuses;
+  }
+
+  private Map<Long, TestRunResultCounts> findResultCounts(List<Long> testRunIds) {
+    Map<Long, TestRunResultCounts> results = new HashMap<>();
+    for (TestRunResultCountRow row : testRunRepository.findResultCounts(testRunIds)) {
+      results.put(
+          row.getTestRunId(),
+          new TestRunResultCounts(
+              row.getTotal(),
+              row.getPassed(),
+              row.getFailed(),
+              row.getBlocked(),
+              row.getSkipped(),
+              row.getNotRun()));
+    }
+    return results;
+  }
+
+  private static long sum(Map<Status, Long> statuses) {
+    return statuses.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  private static long decodeCursor(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return 0;
+    }
+    try {
+      return Long.parseLong(cursor);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+  }
+
+  private void validateMembershipChange(Long testRunId, TestRunMembershipDto selection) {
+    TestRunValidator.validateNotNull(testRunId, ValidationMessage.NULL_TEST_ID.getMessage());
+    if (selection == null || selection.hasTestCaseIds() == selection.hasSelector()) {
+      throw new IllegalArgumentException(
+          "Either test case IDs or a requirement/status selector must be provided");
+    }
+    if (selection.hasTestCaseIds()) {
+      if (selection.testCaseIds().size() > MAX_BULK_SIZE) {
+        throw new IllegalArgumentException(
+            "Bulk request cannot exceed " + MAX_BULK_SIZE + " test case IDs");
+      }
+      if (selection.testCaseIds().stream().anyMatch(Objects::isNull)) {
+        throw new IllegalArgumentException("Test case IDs cannot contain null");
+      }
+    }
+    if (!testRunRepository.existsById(testRunId)) {
+      throw new EntityNotFoundException();
+    }
+  }
+
   private void updateTestRunFields(TestRun existingTestRun, CreateTestRunDto testRunDto) {
     if (testRunDto.title() != null) {
       TestRunValidator.validateTitle(testRunDto.title());
@@ -1,6 +1,9 @@
 package org.blackbird.requirefortesting.testmanagement.internal.repository;
 
+import java.util.Collection;
 import java.util.List;
+import org.blackbird.requirefortesting.shared.SearchProjection;
+import org.blackbird.requirefortesting.shared.SearchSql;
 import org.blackbird.requirefortesting.testmanagement.model.TestCase;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,4 +14,29 @@ import org.springframework.stereotype.Repository;
 public interface TestCaseRepository extends JpaRepository<TestCase, Long> {
   @Query("SELECT t FROM TestCase t WHERE t.requirementId = :requirementId")
   List<TestCase> findTestCasesByRequirementId(@Param("requirementId") Long requirementId);
+
+  /**
+   * The first <code>limit</code> test cases (by id) of every given requirement in one statement,
+   * each requirement read as a bounded range of the (requirement_id, id) index.
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          SELECT t.*
+          FROM unnest(ARRAY[:requirementIds]) AS r(id)
+          CROSS JOIN LATERAL (SELECT * FROM test_case tc
+                              WHERE tc.requirement_id = r.id
+                              ORDER BY tc.id
+                              LIMIT :limit) t
+          ORDER BY t.requirement_id, t.id
+          """)
+  List<TestCase> findTestCasesByRequirementIds(
+      @Param("requirementIds") Collection<Long> requirementIds, @Param("limit") int limit);
+
+  @Query(
+      nativeQuery = true,
+      value = SearchSql.SELECT_RANKED + "FROM test_case t" + SearchSql.MATCHING_PAGE)
+  List<SearchProjection> search(
+      @Param("query") String query, @Param("limit") int limit, @Param("offset") long offset);
 }
@@ -1,11 +1,76 @@
 package org.blackbird.requirefortesting.testmanagement.internal.repository;
 
+import java.util.Collection;
 import java.util.List;
+import org.blackbird.requirefortesting.testmanagement.model.TestCase;
 import org.blackbird.requirefortesting.testmanagement.model.TestRun;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TestRunRepository extends JpaRepository<TestRun, Long> {
-  List<TestRun> findAllByCreatedBy(Long createdBy);
+  List<TestRun> findAllByCreatedBy(Long createdBy, Sort sort);
+
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          SELECT test_run_id AS testRunId, total, passed, failed, blocked, skipped,
+                 not_run AS notRun
+          FROM test_run_result_count
+          WHERE test_run_id IN :testRunIds
+          """)
+  List<TestRunResultCountRow> findResultCounts(@Param("testRunIds") Collection<Long> testRunIds);
+
+  @Query(
+      """
+      SELECT new org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunStatusCount(
+                 r.id, c.status, COUNT(c))
+      FROM TestRun r JOIN r.testCases c
+      WHERE r.id IN :testRunIds
+      GROUP BY r.id, c.status
+      """)
+  List<TestRunStatusCount> countTestCasesByStatus(@Param("testRunIds") Collection<Long> testRunIds);
+
+  @Query(
+      """
+      SELECT c FROM TestRun r JOIN r.testCases c
+      WHERE r.id = :testRunId AND c.id > :afterId
+      ORDER BY c.id
+      """)
+  List<TestCase> findTestCases(
+      @Param("testRunId") Long testRunId, @Param("afterId") long afterId, Limit limit);
+
+  /** Adds the membership unless it already exists; returns the number of inserted rows. */
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          INSERT INTO test_run_test_case (test_run_id, test_case_id)
+          VALUES (:testRunId, :testCaseId)
+          ON CONFLICT DO NOTHING
+          """)
+  int addTestCase(@Param("testRunId") Long testRunId, @Param("testCaseId") Long testCaseId);
+
+  /** Copies the test case set of one run into another; returns the number of inserted rows. */
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          INSERT INTO test_run_test_case (test_run_id, test_case_id)
+          SELECT :targetTestRunId, test_case_id
+          FROM test_run_test_case
+          WHERE test_run_id = :sourceTestRunId
+          ON CONFLICT DO NOTHING
+          """)
+  int copyTestCases(
+      @Param("sourceTestRunId") Long sourceTestRunId,
+      @Param("targetTestRunId") Long targetTestRunId);
 }
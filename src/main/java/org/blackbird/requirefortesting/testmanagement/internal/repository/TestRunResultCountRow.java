@@ -0,0 +1,18 @@
+package org.blackbird.requirefortesting.testmanagement.internal.repository;
+
+/** A row of <code>test_run_result_count</code>. */
+public interface TestRunResultCountRow {
+  Long getTestRunId();
+
+  long getTotal();
+
+  long getPassed();
+
+  long getFailed();
+
+  long getBlocked();
+
+  long getSkipped();
+
+  long getNotRun();
+}
@@ -0,0 +1,6 @@
+package org.blackbird.requirefortesting.testmanagement.internal.repository;
+
+import org.blackbird.requirefortesting.shared.Status;
+
+/** Number of test cases with a given status in a test run. */
+public record TestRunStatusCount(Long testRunId, Status status, Long count) {}
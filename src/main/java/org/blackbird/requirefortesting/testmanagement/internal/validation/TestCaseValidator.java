@@ -0,0 +1,22 @@
+package org.blackbird.requirefortesting.testmanagement.internal.validation;
+
+import org.blackbird.requirefortesting.testmanagement.model.CreateOrUpdateTestCaseDto;
+
+public class TestCaseValidator {
+  private static final int MAX_TITLE_LENGTH = 255;
+
+  public static void validate(CreateOrUpdateTestCaseDto testCaseDto) {
+    if (testCaseDto == null) {
+      throw new IllegalArgumentException("UpdateTestCaseDto cannot be null");
+    }
+    if (testCaseDto.title() == null || testCaseDto.title().isBlank()) {
+      throw new IllegalArgumentException("Title cannot be empty");
+    } else if (testCaseDto.title().length() > MAX_TITLE_LENGTH) {
+      throw new IllegalArgumentException("Title cannot exceed 255 characters");
+    }
+
+    if (testCaseDto.requirementId() == null || testCaseDto.requirementId() <= 0) {
+      throw new IllegalArgumentException("Requirement ID must be greater than 0");
+    }
+  }
+}
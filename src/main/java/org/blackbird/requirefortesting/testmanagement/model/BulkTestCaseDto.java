@@ -0,0 +1,15 @@
+package org.blackbird.requirefortesting.testmanagement.model;
+
+import org.blackbird.requirefortesting.shared.Status;
+
+/**
+ * A single row of a bulk request. Rows with an <code>id</code> update the existing test case, rows
+ * without one are created.
+ */
+public record BulkTestCaseDto(
+    Long id, String title, String description, Long requirementId, Status status) {
+
+  public CreateOrUpdateTestCaseDto toCreateOrUpdateDto() {
+    return new CreateOrUpdateTestCaseDto(title, description, requirementId, status);
+  }
+}
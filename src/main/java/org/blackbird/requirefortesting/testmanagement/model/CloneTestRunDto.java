@@ -0,0 +1,20 @@
+package org.blackbird.requirefortesting.testmanagement.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for cloning a Test Run. <code>title</code> and <code>description</code>
+ * default to the ones of the cloned run, the dates have to be given as for a new run.
+ *
+ * @param title
+ * @param description
+ * @param startDate
+ * @param endDate
+ * @param includeAssignments also copy the tester assignments (without their results)
+ */
+public record CloneTestRunDto(
+    String title,
+    String description,
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    boolean includeAssignments) {}
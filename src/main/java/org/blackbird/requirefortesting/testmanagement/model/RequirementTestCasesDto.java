@@ -0,0 +1,13 @@
+package org.blackbird.requirefortesting.testmanagement.model;
+
+import java.util.List;
+
+/**
+ * The test cases of one requirement in a batched lookup.
+ *
+ * @param requirementId
+ * @param testCases test cases ordered by id, at most the requested limit
+ * @param truncated whether the requirement has more test cases than returned
+ */
+public record RequirementTestCasesDto(
+    Long requirementId, List<TestCaseDto> testCases, boolean truncated) {}
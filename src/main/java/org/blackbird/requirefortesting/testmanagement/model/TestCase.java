@@ -1,6 +1,6 @@
 package org.blackbird.requirefortesting.testmanagement.model;
 
-import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -12,7 +12,10 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
-@Table(name = "test_case")
+// Backs the lookups by requirement, ordered by id
+@Table(
+    name = "test_case",
+    indexes = {@Index(name = "idx_test_case_requirement_id_id", columnList = "requirement_id, id")})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,7 +25,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public class TestCase {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "test_case_seq")
+  @SequenceGenerator(name = "test_case_seq", sequenceName = "test_case_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false, length = 255)
@@ -55,6 +59,6 @@ public class TestCase {
 
   @ManyToMany(mappedBy = "testCases", fetch = FetchType.LAZY)
   @Builder.Default
-  @JsonBackReference
+  @JsonIgnore
   private Set<TestRun> testRuns = new HashSet<>();
 }
@@ -0,0 +1,4 @@
+package org.blackbird.requirefortesting.testmanagement.model;
+
+/** Published after test cases have been created, updated, imported or deleted. */
+public record TestCasesChangedEvent(long affectedRows) {}
@@ -1,6 +1,6 @@
 package org.blackbird.requirefortesting.testmanagement.model;
 
-import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -17,7 +17,8 @@ import lombok.*;
 public class TestRun {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "test_run_seq")
+  @SequenceGenerator(name = "test_run_seq", sequenceName = "test_run_seq", allocationSize = 50)
   private Long id;
 
   @Column(nullable = false, length = 255)
@@ -45,6 +46,6 @@ public class TestRun {
       joinColumns = @JoinColumn(name = "test_run_id"),
       inverseJoinColumns = @JoinColumn(name = "test_case_id"))
   @Builder.Default
-  @JsonManagedReference
+  @JsonIgnore
   private Set<TestCase> testCases = new HashSet<>();
 }
@@ -0,0 +1,9 @@
+package org.blackbird.requirefortesting.testmanagement.model;
+
+/**
+ * Outcome of cloning a test run.
+ *
+ * @param testRunId id of the new test run
+ * @param testCases number of test cases copied into the new run
+ */
+public record TestRunCloneResult(Long testRunId, long testCases) {}
@@ -0,0 +1,8 @@
+package org.blackbird.requirefortesting.testmanagement.model;
+
+/**
+ * Published synchronously, inside the cloning transaction, once a test run and its test case set
+ * have been copied.
+ */
+public record TestRunClonedEvent(
+    Long sourceTestRunId, Long testRunId, boolean includeAssignments) {}
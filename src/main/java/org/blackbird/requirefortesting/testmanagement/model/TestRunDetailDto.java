@@ -0,0 +1,30 @@
+package org.blackbird.requirefortesting.testmanagement.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import org.blackbird.requirefortesting.shared.Status;
+
+/**
+ * A single test run with one page of its test cases, ordered by id. <code>nextCursor</code> has to
+ * be passed back to fetch the following page and is <code>null</code> on the last page.
+ *
+ * @param testCaseCount number of test cases in the run
+ * @param testCaseStatuses number of test cases per status, statuses without test cases are left out
+ * @param results number of executions per result
+ */
+@Builder
+public record TestRunDetailDto(
+    Long id,
+    String title,
+    String description,
+    LocalDateTime startTime,
+    LocalDateTime endTime,
+    TestRunStatus status,
+    Long createdBy,
+    long testCaseCount,
+    Map<Status, Long> testCaseStatuses,
+    TestRunResultCounts results,
+    List<TestCaseDto> testCases,
+    String nextCursor) {}
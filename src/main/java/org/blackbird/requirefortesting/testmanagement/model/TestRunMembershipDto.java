@@ -0,0 +1,24 @@
+package org.blackbird.requirefortesting.testmanagement.model;
+
+import java.util.List;
+import org.blackbird.requirefortesting.shared.Status;
+
+/**
+ * Selects the test cases of a bulk membership change. Either <code>testCaseIds</code> is given, or
+ * a selector made of <code>requirementId</code> and/or <code>status</code> (e.g. all test cases of
+ * a requirement, all <b>OPEN</b> test cases), never both.
+ *
+ * @param testCaseIds ids of the test cases to add or remove, duplicates are ignored
+ * @param requirementId selects the test cases of this requirement
+ * @param status selects the test cases with this status
+ */
+public record TestRunMembershipDto(List<Long> testCaseIds, Long requirementId, Status status) {
+
+  public boolean hasTestCaseIds() {
+    return testCaseIds != null && !testCaseIds.isEmpty();
+  }
+
+  public boolean hasSelector() {
+    return requirementId != null || status != null;
+  }
+}
@@ -0,0 +1,13 @@
+package org.blackbird.requirefortesting.testmanagement.model;
+
+/**
+ * Outcome of a bulk membership change. <code>skipped</code> counts test cases that were already
+ * (or, for removals, not) part of the test run, <code>missing</code> counts requested ids without a
+ * test case.
+ *
+ * @param added test cases added to the test run
+ * @param removed test cases removed from the test run
+ * @param skipped selected test cases left unchanged
+ * @param missing requested ids without a test case
+ */
+public record TestRunMembershipResult(long added, long removed, long skipped, long missing) {}
@@ -0,0 +1,14 @@
+package org.blackbird.requirefortesting.testmanagement.model;
+
+/**
+ * Executions of a test run per result, read from the incrementally maintained counter row.
+ *
+ * @param total number of executions in the run
+ * @param notRun executions without a result yet
+ */
+public record TestRunResultCounts(
+    long total, long passed, long failed, long blocked, long skipped, long notRun) {
+
+  /** Counts of a run without executions. */
+  public static final TestRunResultCounts NONE = new TestRunResultCounts(0, 0, 0, 0, 0, 0);
+}
@@ -0,0 +1,26 @@
+package org.blackbird.requirefortesting.testmanagement.model;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.Builder;
+import org.blackbird.requirefortesting.shared.Status;
+
+/**
+ * A test run without its test cases, as returned by the listings.
+ *
+ * @param testCaseCount number of test cases in the run
+ * @param testCaseStatuses number of test cases per status, statuses without test cases are left out
+ * @param results number of executions per result
+ */
+@Builder
+public record TestRunSummaryDto(
+    Long id,
+    String title,
+    String description,
+    LocalDateTime startTime,
+    LocalDateTime endTime,
+    TestRunStatus status,
+    Long createdBy,
+    long testCaseCount,
+    Map<Status, Long> testCaseStatuses,
+    TestRunResultCounts results) {}
@@ -1,13 +1,27 @@
 package org.blackbird.requirefortesting.testmanagement.service;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import org.blackbird.requirefortesting.shared.BulkResult;
+import org.blackbird.requirefortesting.shared.DataFormat;
+import org.blackbird.requirefortesting.shared.ImportResult;
+import org.blackbird.requirefortesting.shared.SearchHit;
+import org.blackbird.requirefortesting.testmanagement.model.BulkTestCaseDto;
 import org.blackbird.requirefortesting.testmanagement.model.CreateOrUpdateTestCaseDto;
+import org.blackbird.requirefortesting.testmanagement.model.RequirementTestCasesDto;
 import org.blackbird.requirefortesting.testmanagement.model.TestCase;
 import org.blackbird.requirefortesting.testmanagement.model.TestCaseDto;
 
 public interface TestCaseService {
   TestCase createTestCase(CreateOrUpdateTestCaseDto createTestCaseDto, Long userId);
 
+  BulkResult bulkCreateOrUpdateTestCases(List<BulkTestCaseDto> rows, Long userId);
+
+  ImportResult importTestCases(InputStream input, DataFormat format, Long userId);
+
+  void exportTestCases(OutputStream output, DataFormat format);
+
   void deleteTestCase(Long testCaseId);
 
   TestCaseDto updateTestCase(Long testCaseId, CreateOrUpdateTestCaseDto updateTestCaseDto);
@@ -17,4 +31,9 @@ public interface TestCaseService {
   TestCaseDto getTestCase(Long id);
 
   List<TestCaseDto> getTestCasesByRequirementId(Long requirementId);
+
+  List<RequirementTestCasesDto> getTestCasesByRequirementIds(
+      List<Long> requirementIds, int limitPerRequirement);
+
+  List<SearchHit> searchTestCases(String query, int page, int size);
 }
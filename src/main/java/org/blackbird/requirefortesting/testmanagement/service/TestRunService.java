@@ -1,8 +1,14 @@
 package org.blackbird.requirefortesting.testmanagement.service;
 
 import java.util.List;
+import org.blackbird.requirefortesting.testmanagement.model.CloneTestRunDto;
 import org.blackbird.requirefortesting.testmanagement.model.CreateTestRunDto;
 import org.blackbird.requirefortesting.testmanagement.model.TestRun;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunCloneResult;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunDetailDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunMembershipDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunMembershipResult;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunSummaryDto;
 
 public interface TestRunService {
   TestRun create(CreateTestRunDto testRunDto, Long userId);
@@ -11,11 +17,19 @@ public interface TestRunService {
 
   void delete(Long testRunId);
 
-  List<TestRun> getAllTestRuns();
+  List<TestRunSummaryDto> getAllTestRuns();
 
-  List<TestRun> getTestRunsByUserId(Long userId);
+  List<TestRunSummaryDto> getTestRunsByUserId(Long userId);
 
-  TestRun getTestRunById(Long testRunId);
+  TestRunDetailDto getTestRunById(Long testRunId, String cursor, int size);
 
   void addTestCase(Long testRunId, Long testCaseId);
+
+  TestRunMembershipResult addTestCases(Long testRunId, TestRunMembershipDto selection);
+
+  TestRunMembershipResult removeTestCases(Long testRunId, TestRunMembershipDto selection);
+
+  int rebuildResultCounts();
+
+  TestRunCloneResult cloneTestRun(Long testRunId, CloneTestRunDto cloneDto, Long userId);
 }
@@ -0,0 +1,154 @@
+-- PostgreSQL specific schema objects that Hibernate's ddl-auto cannot express.
+-- Executed after Hibernate has updated the schema (spring.jpa.defer-datasource-initialization),
+-- so every statement has to be idempotent.
+
+-- Full-text search over requirements and test cases
+ALTER TABLE requirement
+    ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')) STORED;
+CREATE INDEX IF NOT EXISTS idx_requirement_search_vector ON requirement USING GIN (search_vector);
+
+ALTER TABLE test_case
+    ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')) STORED;
+CREATE INDEX IF NOT EXISTS idx_test_case_search_vector ON test_case USING GIN (search_vector);
+
+-- Keyset listing of requirements compares (updated_at, id) rows, which needs updated_at on every
+-- row. All write paths set it, rows written before auditing did are backfilled once.
+UPDATE requirement SET updated_at = COALESCE(created_at, LOCALTIMESTAMP) WHERE updated_at IS NULL;
+ALTER TABLE requirement ALTER COLUMN updated_at SET NOT NULL;
+
+-- Pooled id sequences (allocationSize 50). Tables created before the switch from IDENTITY still
+-- carry their old ids, so move every sequence past the highest existing id, never backwards.
+SELECT setval('requirement_seq', GREATEST((SELECT last_value FROM requirement_seq), (SELECT COALESCE(MAX(id), 0) + 50 FROM requirement)));
+SELECT setval('test_case_seq', GREATEST((SELECT last_value FROM test_case_seq), (SELECT COALESCE(MAX(id), 0) + 50 FROM test_case)));
+SELECT setval('test_run_seq', GREATEST((SELECT last_value FROM test_run_seq), (SELECT COALESCE(MAX(id), 0) + 50 FROM test_run)));
+SELECT setval('test_execution_seq', GREATEST((SELECT last_value FROM test_execution_seq), (SELECT COALESCE(MAX(id), 0) + 50 FROM test_execution)));
+
+-- Run membership is a set: the primary key backs INSERT ... ON CONFLICT DO NOTHING in
+-- TestRunRepository. Older schemas created the join table without one, so drop duplicate rows and
+-- add it once. (Single quoted DO body, the script splitter does not understand dollar quoting.)
+DO 'BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = ''test_run_test_case''::regclass AND contype = ''p'') THEN
+        DELETE FROM test_run_test_case a USING test_run_test_case b
+        WHERE a.ctid < b.ctid AND a.test_run_id = b.test_run_id AND a.test_case_id = b.test_case_id;
+        ALTER TABLE test_run_test_case ADD PRIMARY KEY (test_run_id, test_case_id);
+    END IF;
+END';
+
+-- One execution per (run, test case, tester): backs the upsert in TestExecutionRepository. Older
+-- schemas may hold duplicates from concurrent assignments, keep the one with a result (else the
+-- oldest) and create the index once.
+DO 'BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_class WHERE relname = ''idx_test_execution_assignment'') THEN
+        DELETE FROM test_execution a USING test_execution b
+        WHERE a.test_run_id = b.test_run_id AND a.test_case_id = b.test_case_id
+          AND a.tester_id = b.tester_id
+          AND (a.test_result IS NULL, a.id) > (b.test_result IS NULL, b.id);
+        CREATE UNIQUE INDEX idx_test_execution_assignment
+            ON test_execution (test_run_id, test_case_id, tester_id);
+    END IF;
+END';
+-- Lookups by run use the leading column of the index above, lookups by tester need their own
+CREATE INDEX IF NOT EXISTS idx_test_execution_tester_id ON test_execution (tester_id);
+
+-- Result counts per test run, so progress is a single row read instead of counting executions.
+-- Kept in step by the statement level triggers below in the writing transaction, whichever path
+-- (JPA, upserts, batch writers) changed the executions. Filled from scratch when first created,
+-- TestRunResultCountRebuilder repairs it later.
+DO 'BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_class WHERE relname = ''test_run_result_count'') THEN
+        CREATE TABLE test_run_result_count (
+            test_run_id bigint PRIMARY KEY REFERENCES test_run (id) ON DELETE CASCADE,
+            total bigint NOT NULL DEFAULT 0,
+            passed bigint NOT NULL DEFAULT 0,
+            failed bigint NOT NULL DEFAULT 0,
+            blocked bigint NOT NULL DEFAULT 0,
+            skipped bigint NOT NULL DEFAULT 0,
+            not_run bigint NOT NULL DEFAULT 0);
+        INSERT INTO test_run_result_count
+        SELECT test_run_id, count(*),
+               count(*) FILTER (WHERE test_result = ''PASSED''),
+               count(*) FILTER (WHERE test_result = ''FAILED''),
+               count(*) FILTER (WHERE test_result = ''BLOCKED''),
+               count(*) FILTER (WHERE test_result = ''SKIPPED''),
+               count(*) FILTER (WHERE test_result IS NULL)
+        FROM test_execution
+        GROUP BY test_run_id;
+    END IF;
+END';
+
+-- Adds the rows a statement inserted (or the new versions of updated rows) and subtracts the rows
+-- it deleted (or the old versions), once per statement and run rather than once per row. Counter
+-- rows are locked in run id order, existing ones up front and new ones by the sorted insert, so
+-- statements touching several runs (batch submissions, write-behind flushes) cannot deadlock.
+CREATE OR REPLACE FUNCTION test_run_result_count_apply() RETURNS trigger LANGUAGE plpgsql AS '
+BEGIN
+    IF TG_OP = ''UPDATE'' THEN
+        PERFORM 1 FROM test_run_result_count
+        WHERE test_run_id IN (SELECT test_run_id FROM old_rows
+                              UNION SELECT test_run_id FROM new_rows)
+        ORDER BY test_run_id
+        FOR UPDATE;
+    ELSIF TG_OP = ''DELETE'' THEN
+        PERFORM 1 FROM test_run_result_count
+        WHERE test_run_id IN (SELECT test_run_id FROM old_rows)
+        ORDER BY test_run_id
+        FOR UPDATE;
+    END IF;
+    IF TG_OP IN (''INSERT'', ''UPDATE'') THEN
+        INSERT INTO test_run_result_count AS c
+            (test_run_id, total, passed, failed, blocked, skipped, not_run)
+        SELECT test_run_id, count(*),
+               count(*) FILTER (WHERE test_result = ''PASSED''),
+               count(*) FILTER (WHERE test_result = ''FAILED''),
+               count(*) FILTER (WHERE test_result = ''BLOCKED''),
+               count(*) FILTER (WHERE test_result = ''SKIPPED''),
+               count(*) FILTER (WHERE test_result IS NULL)
+        FROM new_rows
+        GROUP BY test_run_id
+        ORDER BY test_run_id
+        ON CONFLICT (test_run_id) DO UPDATE SET
+            total = c.total + EXCLUDED.total,
+            passed = c.passed + EXCLUDED.passed,
+            failed = c.failed + EXCLUDED.failed,
+            blocked = c.blocked + EXCLUDED.blocked,
+            skipped = c.skipped + EXCLUDED.skipped,
+            not_run = c.not_run + EXCLUDED.not_run;
+    END IF;
+    IF TG_OP IN (''UPDATE'', ''DELETE'') THEN
+        UPDATE test_run_result_count c SET
+            total = c.total - d.total,
+            passed = c.passed - d.passed,
+            failed = c.failed - d.failed,
+            blocked = c.blocked - d.blocked,
+            skipped = c.skipped - d.skipped,
+            not_run = c.not_run - d.not_run
+        FROM (SELECT test_run_id, count(*) AS total,
+                     count(*) FILTER (WHERE test_result = ''PASSED'') AS passed,
+                     count(*) FILTER (WHERE test_result = ''FAILED'') AS failed,
+                     count(*) FILTER (WHERE test_result = ''BLOCKED'') AS blocked,
+                     count(*) FILTER (WHERE test_result = ''SKIPPED'') AS skipped,
+                     count(*) FILTER (WHERE test_result IS NULL) AS not_run
+              FROM old_rows
+              GROUP BY test_run_id) d
+        WHERE c.test_run_id = d.test_run_id;
+    END IF;
+    RETURN NULL;
+END';
+-- Transition tables need one trigger per event
+CREATE OR REPLACE TRIGGER test_execution_result_count_insert AFTER INSERT ON test_execution
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION test_run_result_count_apply();
+CREATE OR REPLACE TRIGGER test_execution_result_count_update AFTER UPDATE ON test_execution
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION test_run_result_count_apply();
+CREATE OR REPLACE TRIGGER test_execution_result_count_delete AFTER DELETE ON test_execution
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION test_run_result_count_apply();
+
+-- The traceability matrix looks up the executions of a requirement's test cases across all runs
+CREATE INDEX IF NOT EXISTS idx_test_execution_test_case_id ON test_execution (test_case_id);
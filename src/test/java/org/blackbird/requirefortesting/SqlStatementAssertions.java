@@ -0,0 +1,55 @@
+package org.blackbird.requirefortesting;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Pins the number of SQL statements an endpoint or service call executes, so N+1 regressions fail
+ * the build. Needs {@link SqlStatementCountingConfiguration} in the test context, e.g.:
+ *
+ * <pre>{@code
+ * assertStatementCount(2, () -> mockMvc.perform(get("/api/test-runs")).andExpect(status().isOk()));
+ * }</pre>
+ *
+ * Entities saved earlier in the same test transaction are flushed by the first query of the call
+ * and would be counted too, so flush and clear the persistence context before the call.
+ */
+public final class SqlStatementAssertions {
+
+  private SqlStatementAssertions() {}
+
+  /** Runs the action and fails unless it executed exactly <code>expected</code> statements. */
+  public static <T> T assertStatementCount(long expected, Callable<T> action) throws Exception {
+    return assertStatementCount(expected, expected, action);
+  }
+
+  /** Runs the action and fails if it executed more than <code>max</code> statements. */
+  public static <T> T assertStatementCountAtMost(long max, Callable<T> action) throws Exception {
+    return assertStatementCount(0, max, action);
+  }
+
+  private static <T> T assertStatementCount(long min, long max, Callable<T> action)
+      throws Exception {
+    SqlStatementCounter.start();
+    T result;
+    List<String> statements;
+    try {
+      result = action.call();
+    } finally {
+      statements = SqlStatementCounter.stopAndCollect();
+    }
+    if (statements.size() < min || statements.size() > max) {
+      String expected = min == max ? String.valueOf(max) : "at most " + max;
+      fail(
+          "Expected "
+              + expected
+              + " SQL statements but "
+              + statements.size()
+              + " were executed:\n  "
+              + String.join("\n  ", statements));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,120 @@
+package org.blackbird.requirefortesting;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Counts the SQL statements executed on the current thread. The data source is wrapped so every
+ * {@code execute*} call on a statement is recorded by the counter opened with {@link #start()}; a
+ * batch counts as one statement. See {@link SqlStatementAssertions} for pinning counts in tests.
+ */
+public final class SqlStatementCounter {
+
+  private static final ThreadLocal<List<String>> CURRENT = new ThreadLocal<>();
+
+  private SqlStatementCounter() {}
+
+  public static DataSource wrap(DataSource dataSource) {
+    return new DelegatingDataSource(dataSource) {
+      @Override
+      public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+      }
+
+      @Override
+      public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+      }
+    };
+  }
+
+  /** Starts counting on the current thread, discarding any previous count. */
+  public static void start() {
+    CURRENT.set(new ArrayList<>());
+  }
+
+  /** Returns the number of statements executed since {@link #start()} and stops counting. */
+  public static long stop() {
+    return stopAndCollect().size();
+  }
+
+  /** Returns the statements executed since {@link #start()}, in order, and stops counting. */
+  public static List<String> stopAndCollect() {
+    List<String> statements = CURRENT.get();
+    CURRENT.remove();
+    return statements == null ? List.of() : statements;
+  }
+
+  private static void record(String sql) {
+    List<String> statements = CURRENT.get();
+    if (statements != null) {
+      statements.add(sql);
+    }
+  }
+
+  private static Connection countingConnection(Connection connection) {
+    return proxy(
+        connection,
+        Connection.class,
+        (target, method, args) -> {
+          Object result = invoke(target, method, args);
+          // prepareStatement/prepareCall get the SQL up front, plain statements on execute
+          String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+          if (result instanceof CallableStatement statement) {
+            return countingStatement(statement, CallableStatement.class, sql);
+          }
+          if (result instanceof PreparedStatement statement) {
+            return countingStatement(statement, PreparedStatement.class, sql);
+          }
+          if (result instanceof Statement statement) {
+            return countingStatement(statement, Statement.class, sql);
+          }
+          return result;
+        });
+  }
+
+  private static <S extends Statement> S countingStatement(
+      S statement, Class<S> type, String preparedSql) {
+    return proxy(
+        statement,
+        type,
+        (target, method, args) -> {
+          if (method.getName().startsWith("execute")) {
+            boolean hasSql = args != null && args.length > 0 && args[0] instanceof String;
+            record(hasSql ? (String) args[0] : preparedSql);
+          }
+          return invoke(target, method, args);
+        });
+  }
+
+  private interface Handler {
+    Object handle(Object target, Method method, Object[] args) throws Throwable;
+  }
+
+  private static <T> T proxy(T target, Class<T> type, Handler handler) {
+    InvocationHandler invocationHandler =
+        (proxy, method, args) -> handler.handle(target, method, args);
+    return type.cast(
+        Proxy.newProxyInstance(
+            SqlStatementCounter.class.getClassLoader(), new Class<?>[] {type}, invocationHandler));
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
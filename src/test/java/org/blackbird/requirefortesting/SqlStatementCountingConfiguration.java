@@ -0,0 +1,21 @@
+package org.blackbird.requirefortesting;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/** Wraps the application data source with {@link SqlStatementCounter}. */
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlStatementCountingConfiguration {
+
+  @Bean
+  static BeanPostProcessor sqlStatementCountingPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource ? SqlStatementCounter.wrap(dataSource) : bean;
+      }
+    };
+  }
+}
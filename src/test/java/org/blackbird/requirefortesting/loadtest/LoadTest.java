@@ -0,0 +1,232 @@
+package org.blackbird.requirefortesting.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import org.blackbird.requirefortesting.SqlStatementCounter;
+import org.blackbird.requirefortesting.SqlStatementCountingConfiguration;
+import org.blackbird.requirefortesting.TestPostgreSQLContainer;
+import org.blackbird.requirefortesting.loadtest.LoadTestReport.OperationSummary;
+import org.blackbird.requirefortesting.loadtest.LoadTestSeeder.Dataset;
+import org.blackbird.requirefortesting.loadtest.LoadTestSeeder.Tester;
+import org.blackbird.requirefortesting.security.internal.PostgresUserDetailsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Local HTTP load test against the Testcontainers Postgres. Disabled unless {@code -Dloadtest=true}
+ * is set; dataset and traffic are configured through {@code loadtest.*} properties (see {@link
+ * LoadTestSettings}), e.g.
+ *
+ * <pre>
+ * mvn test -Dtest=LoadTest -Dloadtest=true -Dloadtest.users=100 -Dloadtest.durationSeconds=120
+ * </pre>
+ *
+ * <p>Every virtual user logs in as its own tester and then loops over a weighted mix of listing,
+ * assigning and result submission requests. Throughput, latency percentiles and SQL statements per
+ * request are printed per operation and written to {@code target/loadtest-report.json}.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "spring.jpa.show-sql=false")
+@Import({SqlStatementCountingConfiguration.class, LoadTest.StatementsPerRequestConfig.class})
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class LoadTest {
+
+  static final String OPERATION_HEADER = "X-Load-Operation";
+
+  private static final LoadTestReport REPORT = new LoadTestReport();
+
+  @LocalServerPort private int port;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PostgresUserDetailsService userDetailsService;
+  @Autowired private ObjectMapper objectMapper;
+
+  private HttpClient httpClient;
+
+  @DynamicPropertySource
+  static void registerPgProperties(DynamicPropertyRegistry registry) {
+    TestPostgreSQLContainer.configureProperties(registry);
+  }
+
+  @TestConfiguration(proxyBeanMethods = false)
+  static class StatementsPerRequestConfig {
+
+    /** Counts the statements of each request, including those of the security filters. */
+    @Bean
+    FilterRegistrationBean<OncePerRequestFilter> statementsPerRequestFilter() {
+      FilterRegistrationBean<OncePerRequestFilter> registration =
+          new FilterRegistrationBean<>(
+              new OncePerRequestFilter() {
+                @Override
+                protected void doFilterInternal(
+                    HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                  SqlStatementCounter.start();
+                  try {
+                    chain.doFilter(request, response);
+                  } finally {
+                    long statements = SqlStatementCounter.stop();
+                    String operation = request.getHeader(OPERATION_HEADER);
+                    if (operation != null) {
+                      REPORT.recordStatements(operation, statements);
+                    }
+                  }
+                }
+              });
+      registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+      return registration;
+    }
+  }
+
+  @Test
+  void mixedTraffic() throws Exception {
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    long seedStart = System.nanoTime();
+    Dataset dataset = new LoadTestSeeder(jdbcTemplate, userDetailsService).seed(settings);
+    System.out.printf(
+        "Seeded %d requirements, %d test cases, %d runs and %d testers in %d ms%n",
+        dataset.requirementIds().size(),
+        dataset.testCaseIds().size(),
+        dataset.runIds().size(),
+        dataset.testers().size(),
+        Duration.ofNanos(System.nanoTime() - seedStart).toMillis());
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      httpClient = HttpClient.newBuilder().executor(executor).build();
+      long deadline =
+          System.nanoTime() + settings.warmup().toNanos() + settings.duration().toNanos();
+      List<Runnable> users = new ArrayList<>();
+      for (Tester tester : dataset.testers()) {
+        users.add(() -> runVirtualUser(tester, dataset, deadline));
+      }
+      users.forEach(executor::submit);
+
+      Thread.sleep(settings.warmup().toMillis());
+      REPORT.startRecording();
+      Thread.sleep(settings.duration().toMillis());
+      REPORT.stopRecording();
+    }
+
+    List<OperationSummary> summaries = REPORT.summarize(settings.duration());
+    System.out.println(LoadTestReport.format(summaries));
+    Path reportFile = Path.of("target", "loadtest-report.json");
+    Files.createDirectories(reportFile.getParent());
+    objectMapper
+        .writerWithDefaultPrettyPrinter()
+        .writeValue(reportFile.toFile(), Map.of("settings", settings, "operations", summaries));
+
+    assertThat(summaries).isNotEmpty();
+  }
+
+  private void runVirtualUser(Tester tester, Dataset dataset, long deadline) {
+    try {
+      String token = login(tester);
+      while (System.nanoTime() < deadline) {
+        int dice = ThreadLocalRandom.current().nextInt(100);
+        if (dice < 30) {
+          send("listRequirements", get("/api/requirements/page?size=50", token));
+        } else if (dice < 50) {
+          send(
+              "listTestCases",
+              get("/api/test-cases/requirement/" + pick(dataset.requirementIds()), token));
+        } else if (dice < 60) {
+          send("listAssigned", get("/api/test-executions/assigned", token));
+        } else if (dice < 75) {
+          String path =
+              "/api/test-executions/runs/%d/cases/%d/assign/%d"
+                  .formatted(pick(dataset.runIds()), pick(dataset.testCaseIds()), tester.id());
+          send("assign", post(path, token, "{}"));
+        } else if (dice < 97 && !tester.executionIds().isEmpty()) {
+          String path = "/api/test-executions/%d/result".formatted(pick(tester.executionIds()));
+          String body = "{\"testResult\":\"PASSED\",\"comment\":\"load test\"}";
+          send("submitResult", request(path, token).PUT(ofString(body)).build());
+        } else {
+          token = login(tester);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private String login(Tester tester) throws IOException, InterruptedException {
+    String body =
+        objectMapper.writeValueAsString(
+            Map.of("username", tester.username(), "password", LoadTestSeeder.PASSWORD));
+    HttpResponse<String> response = send("login", post("/api/auth/login", null, body));
+    JsonNode json = objectMapper.readTree(response.body());
+    return json.path("token").asText();
+  }
+
+  private HttpResponse<String> send(String operation, HttpRequest request)
+      throws IOException, InterruptedException {
+    HttpRequest tagged =
+        HttpRequest.newBuilder(request, (name, value) -> true)
+            .header(OPERATION_HEADER, operation)
+            .build();
+    long start = System.nanoTime();
+    HttpResponse<String> response = httpClient.send(tagged, HttpResponse.BodyHandlers.ofString());
+    REPORT.recordRequest(operation, System.nanoTime() - start, response.statusCode() / 100 == 2);
+    return response;
+  }
+
+  private HttpRequest.Builder request(String path, String token) {
+    HttpRequest.Builder builder =
+        HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header("Content-Type", "application/json");
+    if (token != null) {
+      builder.header("Authorization", "Bearer " + token);
+    }
+    return builder;
+  }
+
+  private HttpRequest get(String path, String token) {
+    return request(path, token).GET().build();
+  }
+
+  private HttpRequest post(String path, String token, String body) {
+    return request(path, token).POST(ofString(body)).build();
+  }
+
+  private static HttpRequest.BodyPublisher ofString(String body) {
+    return HttpRequest.BodyPublishers.ofString(body);
+  }
+
+  private static Long pick(List<Long> ids) {
+    return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+  }
+}
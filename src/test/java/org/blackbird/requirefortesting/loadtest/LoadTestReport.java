@@ -0,0 +1,124 @@
+package org.blackbird.requirefortesting.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects client-side latencies and server-side statement counts per operation. Samples are only
+ * recorded while {@link #recording} is on, so the warmup phase does not distort the numbers.
+ */
+class LoadTestReport {
+
+  private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+  private final AtomicBoolean recording = new AtomicBoolean();
+
+  void startRecording() {
+    recording.set(true);
+  }
+
+  void stopRecording() {
+    recording.set(false);
+  }
+
+  void recordRequest(String operation, long latencyNanos, boolean success) {
+    if (recording.get()) {
+      stats(operation).recordRequest(latencyNanos, success);
+    }
+  }
+
+  void recordStatements(String operation, long statements) {
+    if (recording.get()) {
+      stats(operation).statements.add(statements);
+      stats(operation).statementSamples.increment();
+    }
+  }
+
+  private OperationStats stats(String operation) {
+    return operations.computeIfAbsent(operation, key -> new OperationStats());
+  }
+
+  record OperationSummary(
+      String operation,
+      long requests,
+      long errors,
+      double throughputPerSecond,
+      double p50Millis,
+      double p99Millis,
+      double p999Millis,
+      double statementsPerRequest) {}
+
+  List<OperationSummary> summarize(Duration duration) {
+    return operations.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .map(entry -> entry.getValue().summarize(entry.getKey(), duration))
+        .toList();
+  }
+
+  static String format(List<OperationSummary> summaries) {
+    StringBuilder table = new StringBuilder();
+    table.append(
+        String.format(
+            "%-22s %9s %7s %10s %9s %9s %9s %10s%n",
+            "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "sql/req"));
+    for (OperationSummary summary : summaries) {
+      table.append(
+          String.format(
+              "%-22s %9d %7d %10.1f %9.2f %9.2f %9.2f %10.2f%n",
+              summary.operation(),
+              summary.requests(),
+              summary.errors(),
+              summary.throughputPerSecond(),
+              summary.p50Millis(),
+              summary.p99Millis(),
+              summary.p999Millis(),
+              summary.statementsPerRequest()));
+    }
+    return table.toString();
+  }
+
+  private static final class OperationStats {
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder statementSamples = new LongAdder();
+    private long[] latencies = new long[1024];
+    private int size;
+
+    private synchronized void recordRequest(long latencyNanos, boolean success) {
+      if (size == latencies.length) {
+        latencies = Arrays.copyOf(latencies, size * 2);
+      }
+      latencies[size++] = latencyNanos;
+      if (!success) {
+        errors.increment();
+      }
+    }
+
+    private synchronized OperationSummary summarize(String operation, Duration duration) {
+      long[] sorted = Arrays.copyOf(latencies, size);
+      Arrays.sort(sorted);
+      long samples = statementSamples.sum();
+      return new OperationSummary(
+          operation,
+          size,
+          errors.sum(),
+          size / (duration.toMillis() / 1000.0),
+          percentileMillis(sorted, 0.50),
+          percentileMillis(sorted, 0.99),
+          percentileMillis(sorted, 0.999),
+          samples == 0 ? 0 : (double) statements.sum() / samples);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+      if (sorted.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(percentile * sorted.length) - 1;
+      return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+  }
+}
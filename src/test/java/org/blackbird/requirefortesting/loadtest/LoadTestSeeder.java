@@ -0,0 +1,127 @@
+package org.blackbird.requirefortesting.loadtest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.blackbird.requirefortesting.security.internal.PostgresUserDetailsService;
+import org.blackbird.requirefortesting.security.model.CreateUserDto;
+import org.blackbird.requirefortesting.shared.Role;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds the synthetic dataset with set-based SQL so even large datasets load in seconds. Testers
+ * are registered through the regular service so they can log in.
+ */
+class LoadTestSeeder {
+
+  static final String PASSWORD = "password";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PostgresUserDetailsService userDetailsService;
+
+  LoadTestSeeder(JdbcTemplate jdbcTemplate, PostgresUserDetailsService userDetailsService) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.userDetailsService = userDetailsService;
+  }
+
+  record Tester(Long id, String username, List<Long> executionIds) {}
+
+  record Dataset(
+      List<Long> requirementIds, List<Long> testCaseIds, List<Long> runIds, List<Tester> testers) {}
+
+  Dataset seed(LoadTestSettings settings) {
+    String prefix = "lt" + Long.toString(System.currentTimeMillis(), 36);
+
+    List<Tester> registered = new ArrayList<>();
+    for (int i = 0; i < settings.users(); i++) {
+      String username = prefix + "tester" + i;
+      Long id =
+          userDetailsService
+              .registerUser(
+                  new CreateUserDto(username, PASSWORD, username + "@example.com", Role.TESTER))
+              .getId();
+      registered.add(new Tester(id, username, new ArrayList<>()));
+    }
+    Long createdBy = registered.getFirst().id();
+
+    List<Long> requirementIds =
+        jdbcTemplate.queryForList(
+            """
+            INSERT INTO requirement
+                (id, title, description, priority, status, created_by, created_at, updated_at)
+            SELECT nextval('requirement_seq'), 'Load requirement ' || g, 'Synthetic requirement',
+                   (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + g % 3], 'OPEN', ?,
+                   LOCALTIMESTAMP, LOCALTIMESTAMP - g * INTERVAL '1 second'
+            FROM generate_series(1, ?) g
+            RETURNING id
+            """,
+            Long.class, createdBy, settings.requirements());
+
+    List<Long> testCaseIds =
+        jdbcTemplate.queryForList(
+            """
+            INSERT INTO test_case
+                (id, title, description, requirement_id, status, created_by, creation_date,
+                 updated_at)
+            SELECT nextval('test_case_seq'), 'Load test case ' || r || '-' || g,
+                   'Synthetic test case', r, 'OPEN', ?, LOCALTIMESTAMP, LOCALTIMESTAMP
+            FROM unnest(?::bigint[]) r, generate_series(1, ?) g
+            RETURNING id
+            """,
+            Long.class,
+            createdBy,
+            requirementIds.toArray(Long[]::new),
+            settings.testCasesPerRequirement());
+
+    List<Long> runIds =
+        jdbcTemplate.queryForList(
+            """
+            INSERT INTO test_run (id, title, description, start_time, end_time, status, created_by)
+            SELECT nextval('test_run_seq'), 'Load run ' || g, 'Synthetic run', LOCALTIMESTAMP,
+                   LOCALTIMESTAMP + INTERVAL '30 days', 'IN_PROGRESS', ?
+            FROM generate_series(1, ?) g
+            RETURNING id
+            """,
+            Long.class,
+            createdBy,
+            settings.runs());
+
+    Long[] testCaseArray = testCaseIds.toArray(Long[]::new);
+    for (Long runId : runIds) {
+      jdbcTemplate.update(
+          """
+          INSERT INTO test_run_test_case (test_run_id, test_case_id)
+          SELECT ?, c FROM unnest(?::bigint[]) c ORDER BY random() LIMIT ?
+          """,
+          runId,
+          testCaseArray,
+          settings.testCasesPerRun());
+    }
+
+    // One execution per linked test case, assigned to the testers round robin
+    Long[] testerIds = registered.stream().map(Tester::id).toArray(Long[]::new);
+    Map<Long, Tester> testersById = new HashMap<>();
+    registered.forEach(tester -> testersById.put(tester.id(), tester));
+    jdbcTemplate.query(
+        """
+        INSERT INTO test_execution (id, test_run_id, test_case_id, tester_id)
+        SELECT nextval('test_execution_seq'), l.test_run_id, l.test_case_id,
+               (?::bigint[])[1 + ((row_number() OVER ()) % ?)::int]
+        FROM test_run_test_case l
+        WHERE l.test_run_id = ANY(?::bigint[])
+        RETURNING id, tester_id
+        """,
+        resultSet -> {
+          testersById
+              .get(resultSet.getLong("tester_id"))
+              .executionIds()
+              .add(resultSet.getLong("id"));
+        },
+        testerIds,
+        testerIds.length,
+        runIds.toArray(Long[]::new));
+
+    return new Dataset(requirementIds, testCaseIds, runIds, registered);
+  }
+}
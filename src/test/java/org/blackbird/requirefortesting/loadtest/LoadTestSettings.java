@@ -0,0 +1,25 @@
+package org.blackbird.requirefortesting.loadtest;
+
+import java.time.Duration;
+
+/** Dataset size and traffic shape of a load test run, read from {@code loadtest.*} properties. */
+record LoadTestSettings(
+    int requirements,
+    int testCasesPerRequirement,
+    int runs,
+    int testCasesPerRun,
+    int users,
+    Duration warmup,
+    Duration duration) {
+
+  static LoadTestSettings fromSystemProperties() {
+    return new LoadTestSettings(
+        Integer.getInteger("loadtest.requirements", 1_000),
+        Integer.getInteger("loadtest.testCasesPerRequirement", 5),
+        Integer.getInteger("loadtest.runs", 20),
+        Integer.getInteger("loadtest.testCasesPerRun", 200),
+        Integer.getInteger("loadtest.users", 50),
+        Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 10)),
+        Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 60)));
+  }
+}
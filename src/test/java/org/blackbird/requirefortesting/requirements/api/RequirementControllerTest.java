@@ -1,6 +1,7 @@
 package org.blackbird.requirefortesting.requirements.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -148,4 +149,22 @@ class RequirementControllerTest {
     Optional<Requirement> deleted = requirementRepository.findById(existing.getId());
     assertThat(deleted).isNotPresent();
   }
+
+  @Test
+  void test_exportRequirements_shouldAuthorizeAsyncDispatch() throws Exception {
+    MvcResult result =
+        mockMvc
+            .perform(
+                get("/api/requirements/export")
+                    .param("format", "CSV")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + generateValidJwtToken()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    // The JWT is not read again on the ASYNC dispatch that completes the stream
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, startsWith("text/csv")));
+  }
 }
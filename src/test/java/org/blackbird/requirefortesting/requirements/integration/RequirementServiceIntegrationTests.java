@@ -1,11 +1,13 @@
 package org.blackbird.requirefortesting.requirements.integration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
 import java.util.Optional;
 import org.blackbird.requirefortesting.TestPostgreSQLContainer;
 import org.blackbird.requirefortesting.requirements.internal.RequirementServiceImpl;
@@ -13,6 +15,7 @@ import org.blackbird.requirefortesting.requirements.internal.repository.Requirem
 import org.blackbird.requirefortesting.requirements.model.CreateOrUpdateRequirementDto;
 import org.blackbird.requirefortesting.requirements.model.Requirement;
 import org.blackbird.requirefortesting.shared.Priority;
+import org.blackbird.requirefortesting.shared.SearchHit;
 import org.blackbird.requirefortesting.shared.Status;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -236,6 +239,22 @@ public class RequirementServiceIntegrationTests {
         "Should throw exception for non-existent requirement ID");
   }
 
+  @Test
+  @Transactional
+  void test_searchRequirements_shouldEscapeMarkupInSnippet() {
+    createRequirement(
+        "Markup", "<img src=x onerror=alert(1)> shows the quarkbanner & more", Priority.LOW);
+    requirementRepository.flush();
+
+    List<SearchHit> hits = requirementServiceImpl.searchRequirements("quarkbanner", 0, 10);
+
+    assertEquals(1, hits.size());
+    String snippet = hits.get(0).snippet();
+    assertTrue(snippet.contains("&lt;img src=x onerror=alert(1)&gt;"), snippet);
+    assertTrue(snippet.contains("<mark>quarkbanner</mark>"), snippet);
+    assertFalse(snippet.replace("<mark>", "").replace("</mark>", "").contains("<"), snippet);
+  }
+
   private Requirement createRequirement(String title, String description, Priority priority) {
     CreateOrUpdateRequirementDto requirementDto =
         new CreateOrUpdateRequirementDto(title, description, priority, null);
@@ -0,0 +1,112 @@
+package org.blackbird.requirefortesting.requirements.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.blackbird.requirefortesting.requirements.model.RequirementUpdatedEvent;
+import org.blackbird.requirefortesting.requirements.model.RequirementsBulkChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+class RequirementCacheInvalidationTests {
+
+  private Cache requirements;
+  private Cache lists;
+  private RequirementCache requirementCache;
+  private JdbcTemplate jdbcTemplate;
+  private RequirementCacheInvalidationListener invalidationListener;
+  private RequirementCacheNotificationListener notificationListener;
+
+  @BeforeEach
+  void setUp() {
+    ConcurrentMapCacheManager cacheManager =
+        new ConcurrentMapCacheManager(
+            RequirementCacheConfig.REQUIREMENTS, RequirementCacheConfig.REQUIREMENT_LISTS);
+    requirements = cacheManager.getCache(RequirementCacheConfig.REQUIREMENTS);
+    lists = cacheManager.getCache(RequirementCacheConfig.REQUIREMENT_LISTS);
+
+    requirementCache = new RequirementCache(cacheManager);
+    requirements.put(requirementKey(1L), "first");
+    requirements.put(requirementKey(2L), "second");
+    lists.put(listKey(), "list");
+
+    jdbcTemplate = mock(JdbcTemplate.class);
+    invalidationListener = new RequirementCacheInvalidationListener(requirementCache, jdbcTemplate);
+    notificationListener =
+        new RequirementCacheNotificationListener(
+            mock(JdbcConnectionDetails.class), requirementCache);
+  }
+
+  private Object requirementKey(Long id) {
+    return requirementCache.requirementKeys().generate(this, null, id);
+  }
+
+  private Object listKey() {
+    return requirementCache.listKeys().generate(this, null);
+  }
+
+  @Test
+  void updateEvent_shouldEvictLocallyAndNotifyOtherNodes() {
+    invalidationListener.onUpdated(new RequirementUpdatedEvent(1L));
+
+    assertThat(requirements.get(requirementKey(1L))).isNull();
+    assertThat(requirements.get(requirementKey(2L))).isNotNull();
+    assertThat(lists.get(listKey())).isNull();
+    verify(jdbcTemplate)
+        .query(
+            eq("SELECT pg_notify(?, ?)"),
+            any(RowCallbackHandler.class),
+            eq("requirement_cache"),
+            eq("1"));
+  }
+
+  @Test
+  void bulkEvent_shouldClearEverythingAndNotifyOtherNodes() {
+    invalidationListener.onBulkChanged(new RequirementsBulkChangedEvent(10));
+
+    assertThat(requirements.get(requirementKey(2L))).isNull();
+    verify(jdbcTemplate)
+        .query(
+            eq("SELECT pg_notify(?, ?)"),
+            any(RowCallbackHandler.class),
+            eq("requirement_cache"),
+            eq("*"));
+  }
+
+  @Test
+  void loadFinishingAfterClear_shouldNotBeServed() {
+    // A load keyed before the change puts its (stale) result back after the invalidation
+    Object staleListKey = listKey();
+    Object staleRequirementKey = requirementKey(2L);
+    invalidationListener.onBulkChanged(new RequirementsBulkChangedEvent(1));
+    lists.put(staleListKey, "stale list");
+    requirements.put(staleRequirementKey, "stale");
+
+    assertThat(lists.get(listKey())).isNull();
+    assertThat(requirements.get(requirementKey(2L))).isNull();
+  }
+
+  @Test
+  void notification_shouldEvictTheNotifiedRequirement() {
+    notificationListener.handle("2");
+
+    assertThat(requirements.get(requirementKey(1L))).isNotNull();
+    assertThat(requirements.get(requirementKey(2L))).isNull();
+    assertThat(lists.get(listKey())).isNull();
+  }
+
+  @Test
+  void invalidNotification_shouldBeIgnored() {
+    notificationListener.handle("not-an-id");
+
+    assertThat(requirements.get(requirementKey(1L))).isNotNull();
+  }
+}
@@ -0,0 +1,125 @@
+package org.blackbird.requirefortesting.requirements.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.blackbird.requirefortesting.requirements.internal.RequirementServiceImpl;
+import org.blackbird.requirefortesting.requirements.internal.repository.RequirementRepository;
+import org.blackbird.requirefortesting.requirements.model.BulkRequirementDto;
+import org.blackbird.requirefortesting.requirements.model.Requirement;
+import org.blackbird.requirefortesting.requirements.model.RequirementsBulkChangedEvent;
+import org.blackbird.requirefortesting.shared.BulkResult;
+import org.blackbird.requirefortesting.shared.BulkResult.BulkRowError;
+import org.blackbird.requirefortesting.shared.Priority;
+import org.blackbird.requirefortesting.shared.Status;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class RequirementServiceBulkTests {
+
+  @Mock private RequirementRepository requirementRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private EntityManager entityManager;
+  @InjectMocks private RequirementServiceImpl requirementService;
+
+  @Test
+  void test_bulkWithMixedRows_shouldPersistValidRowsAndReportErrors() {
+    Requirement open =
+        Requirement.builder()
+            .id(10L)
+            .title("Open")
+            .priority(Priority.LOW)
+            .status(Status.OPEN)
+            .build();
+    Requirement closed =
+        Requirement.builder()
+            .id(11L)
+            .title("Closed")
+            .priority(Priority.LOW)
+            .status(Status.CLOSED)
+            .build();
+    when(requirementRepository.findAllById(List.of(10L, 11L, 12L)))
+        .thenReturn(List.of(open, closed));
+
+    List<BulkRequirementDto> rows =
+        List.of(
+            new BulkRequirementDto(null, "New Requirement", null, Priority.HIGH, null),
+            new BulkRequirementDto(null, "Invalid @#$", null, null, null),
+            new BulkRequirementDto(10L, "Renamed", null, Priority.MEDIUM, null),
+            new BulkRequirementDto(11L, "Renamed", null, null, null),
+            new BulkRequirementDto(12L, "Missing", null, null, null));
+
+    BulkResult result = requirementService.bulkCreateOrUpdateRequirements(rows, 1L);
+
+    assertThat(result.created()).isEqualTo(1);
+    assertThat(result.updated()).isEqualTo(1);
+    assertThat(result.errors()).extracting(BulkRowError::index).containsExactly(1, 3, 4);
+    assertThat(open.getTitle()).isEqualTo("Renamed");
+    assertThat(closed.getTitle()).isEqualTo("Closed");
+    verify(entityManager).flush();
+    verify(entityManager).clear();
+    verify(eventPublisher).publishEvent(new RequirementsBulkChangedEvent(2));
+  }
+
+  @Test
+  void test_bulkWithOverlongRows_shouldReportThemAndPersistTheRest() {
+    Requirement open =
+        Requirement.builder()
+            .id(10L)
+            .title("Open")
+            .description("Unchanged")
+            .priority(Priority.LOW)
+            .status(Status.OPEN)
+            .build();
+    when(requirementRepository.findAllById(List.of(10L))).thenReturn(List.of(open));
+
+    List<BulkRequirementDto> rows =
+        List.of(
+            new BulkRequirementDto(null, "First", null, null, null),
+            new BulkRequirementDto(null, "A".repeat(256), null, null, null),
+            new BulkRequirementDto(10L, "Renamed", "D".repeat(501), null, null),
+            new BulkRequirementDto(null, "Last", "D".repeat(500), null, null));
+
+    BulkResult result = requirementService.bulkCreateOrUpdateRequirements(rows, 1L);
+
+    assertThat(result.created()).isEqualTo(2);
+    assertThat(result.updated()).isZero();
+    assertThat(result.errors()).extracting(BulkRowError::index).containsExactly(1, 2);
+    assertThat(open.getTitle()).isEqualTo("Open");
+    assertThat(open.getDescription()).isEqualTo("Unchanged");
+  }
+
+  @Test
+  void test_bulkWithManyRows_shouldFlushPerChunk() {
+    List<BulkRequirementDto> rows = new ArrayList<>();
+    for (int i = 0; i < 1200; i++) {
+      rows.add(new BulkRequirementDto(null, "Requirement " + i, null, null, null));
+    }
+
+    BulkResult result = requirementService.bulkCreateOrUpdateRequirements(rows, 1L);
+
+    assertThat(result.created()).isEqualTo(1200);
+    assertThat(result.errors()).isEmpty();
+    verify(requirementRepository, times(3)).saveAll(anyList());
+    verify(entityManager, times(3)).clear();
+  }
+
+  @Test
+  void test_bulkWithEmptyList_shouldThrowException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> requirementService.bulkCreateOrUpdateRequirements(List.of(), 1L));
+  }
+}
@@ -11,6 +11,7 @@ import org.blackbird.requirefortesting.requirements.internal.RequirementServiceI
 import org.blackbird.requirefortesting.requirements.internal.repository.RequirementRepository;
 import org.blackbird.requirefortesting.requirements.model.CreateOrUpdateRequirementDto;
 import org.blackbird.requirefortesting.requirements.model.Requirement;
+import org.blackbird.requirefortesting.requirements.model.RequirementCreatedEvent;
 import org.blackbird.requirefortesting.shared.Priority;
 import org.blackbird.requirefortesting.shared.Status;
 import org.junit.jupiter.api.Test;
@@ -19,11 +20,13 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class RequirementServiceCreateTests {
 
   @Mock private RequirementRepository requirementRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
   @InjectMocks private RequirementServiceImpl requirementService;
 
   @Test
@@ -34,11 +37,14 @@ class RequirementServiceCreateTests {
 
     CreateOrUpdateRequirementDto createRequirement =
         new CreateOrUpdateRequirementDto(title, description, priority, null);
+    when(requirementRepository.save(ArgumentMatchers.any(Requirement.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
 
     assertDoesNotThrow(
         () -> {
           requirementService.createRequirement(createRequirement, 1L);
         });
+    verify(eventPublisher).publishEvent(ArgumentMatchers.any(RequirementCreatedEvent.class));
   }
 
   @Test
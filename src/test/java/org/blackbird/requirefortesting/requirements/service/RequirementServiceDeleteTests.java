@@ -12,6 +12,7 @@ import java.util.Optional;
 import org.blackbird.requirefortesting.requirements.internal.RequirementServiceImpl;
 import org.blackbird.requirefortesting.requirements.internal.repository.RequirementRepository;
 import org.blackbird.requirefortesting.requirements.model.Requirement;
+import org.blackbird.requirefortesting.requirements.model.RequirementDeletedEvent;
 import org.blackbird.requirefortesting.shared.Priority;
 import org.blackbird.requirefortesting.shared.Status;
 import org.junit.jupiter.api.Test;
@@ -19,11 +20,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class RequirementServiceDeleteTests {
 
   @Mock private RequirementRepository requirementRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
   @InjectMocks private RequirementServiceImpl requirementService;
 
   @Test
@@ -44,6 +47,7 @@ class RequirementServiceDeleteTests {
     assertDoesNotThrow(() -> requirementService.deleteRequirement(id));
     verify(requirementRepository, times(1)).findById(id);
     verify(requirementRepository, times(1)).delete(existingRequirement);
+    verify(eventPublisher).publishEvent(new RequirementDeletedEvent(id));
   }
 
   @Test
@@ -0,0 +1,108 @@
+package org.blackbird.requirefortesting.requirements.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.blackbird.requirefortesting.requirements.internal.RequirementServiceImpl;
+import org.blackbird.requirefortesting.requirements.internal.repository.RequirementRepository;
+import org.blackbird.requirefortesting.requirements.model.Requirement;
+import org.blackbird.requirefortesting.requirements.model.RequirementDto;
+import org.blackbird.requirefortesting.shared.CursorPage;
+import org.blackbird.requirefortesting.shared.Priority;
+import org.blackbird.requirefortesting.shared.Status;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+@ExtendWith(MockitoExtension.class)
+class RequirementServicePageTests {
+
+  @Mock private RequirementRepository requirementRepository;
+  @InjectMocks private RequirementServiceImpl requirementService;
+
+  private static List<Requirement> requirements(int count) {
+    LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+    return LongStream.rangeClosed(1, count)
+        .mapToObj(
+            id ->
+                Requirement.builder()
+                    .id(100 - id)
+                    .title("Requirement " + id)
+                    .priority(Priority.HIGH)
+                    .status(Status.OPEN)
+                    .createdBy(1L)
+                    .updatedAt(now.minusMinutes(id))
+                    .build())
+        .toList();
+  }
+
+  @Test
+  void test_getPageWithMoreRowsThanSize_shouldReturnNextCursor() {
+    when(requirementRepository.findBy(any(Specification.class), any())).thenReturn(requirements(3));
+
+    CursorPage<RequirementDto> page =
+        requirementService.getRequirementsPage(Status.OPEN, null, null, null, 2);
+
+    assertThat(page.items()).hasSize(2);
+    assertThat(page.nextCursor()).isNotBlank();
+  }
+
+  @Test
+  void test_getLastPage_shouldReturnNullCursor() {
+    when(requirementRepository.findBy(any(Specification.class), any())).thenReturn(requirements(2));
+
+    CursorPage<RequirementDto> page =
+        requirementService.getRequirementsPage(null, Priority.HIGH, 1L, null, 2);
+
+    assertThat(page.items()).hasSize(2);
+    assertThat(page.nextCursor()).isNull();
+  }
+
+  @Test
+  void test_getPageWithReturnedCursor_shouldAcceptCursor() {
+    when(requirementRepository.findBy(any(Specification.class), any())).thenReturn(requirements(3));
+    String cursor = requirementService.getRequirementsPage(null, null, null, null, 2).nextCursor();
+
+    assertDoesNotThrow(() -> requirementService.getRequirementsPage(null, null, null, cursor, 2));
+  }
+
+  @Test
+  void test_getPageWithCursorWithoutUpdatedAt_shouldThrowException() {
+    String cursor =
+        Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString("|5".getBytes(StandardCharsets.UTF_8));
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> requirementService.getRequirementsPage(null, null, null, cursor, 10));
+  }
+
+  @Test
+  void test_getPageWithMalformedCursor_shouldThrowException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> requirementService.getRequirementsPage(null, null, null, "not-a-cursor", 10));
+  }
+
+  @Test
+  void test_getPageWithInvalidSize_shouldThrowException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> requirementService.getRequirementsPage(null, null, null, null, 0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> requirementService.getRequirementsPage(null, null, null, null, 1000));
+  }
+}
@@ -0,0 +1,76 @@
+package org.blackbird.requirefortesting.requirements.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.blackbird.requirefortesting.requirements.internal.RequirementServiceImpl;
+import org.blackbird.requirefortesting.requirements.internal.repository.RequirementRepository;
+import org.blackbird.requirefortesting.shared.SearchHit;
+import org.blackbird.requirefortesting.shared.SearchProjection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RequirementServiceSearchTests {
+
+  @Mock private RequirementRepository requirementRepository;
+  @InjectMocks private RequirementServiceImpl requirementService;
+
+  private static SearchProjection projection(Long id, String title, String snippet, double rank) {
+    return new SearchProjection() {
+      public Long getId() {
+        return id;
+      }
+
+      public String getTitle() {
+        return title;
+      }
+
+      public String getSnippet() {
+        return snippet;
+      }
+
+      public Double getRank() {
+        return rank;
+      }
+    };
+  }
+
+  @Test
+  void test_searchWithValidQuery_shouldReturnRankedHits() {
+    when(requirementRepository.search("login", 20, 40L))
+        .thenReturn(
+            List.of(
+                projection(1L, "Login", "<mark>Login</mark> with password", 0.9),
+                projection(2L, "Logout", "after <mark>login</mark>", 0.2)));
+
+    List<SearchHit> hits = requirementService.searchRequirements("  login ", 2, 20);
+
+    assertThat(hits).extracting(SearchHit::id).containsExactly(1L, 2L);
+    assertThat(hits.get(0).snippet()).contains("<mark>Login</mark>");
+    verify(requirementRepository).search("login", 20, 40L);
+  }
+
+  @Test
+  void test_searchWithBlankQuery_shouldThrowException() {
+    assertThrows(
+        IllegalArgumentException.class, () -> requirementService.searchRequirements(" ", 0, 20));
+    assertThrows(
+        IllegalArgumentException.class, () -> requirementService.searchRequirements(null, 0, 20));
+  }
+
+  @Test
+  void test_searchWithInvalidPaging_shouldThrowException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> requirementService.searchRequirements("login", -1, 20));
+    assertThrows(
+        IllegalArgumentException.class, () -> requirementService.searchRequirements("login", 0, 0));
+  }
+}
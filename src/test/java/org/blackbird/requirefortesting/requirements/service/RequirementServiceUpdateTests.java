@@ -18,11 +18,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class RequirementServiceUpdateTests {
 
   @Mock private RequirementRepository requirementRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
   @InjectMocks private RequirementServiceImpl requirementService;
 
   @Test
@@ -0,0 +1,61 @@
+package org.blackbird.requirefortesting.security.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.blackbird.requirefortesting.security.internal.repository.UserRepository;
+import org.blackbird.requirefortesting.security.model.User;
+import org.blackbird.requirefortesting.shared.UserSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class CachedUserDirectoryTests {
+
+  @Mock private UserRepository userRepository;
+  private CachedUserDirectory userDirectory;
+
+  @BeforeEach
+  void setUp() {
+    userDirectory =
+        new CachedUserDirectory(
+            userRepository, new ConcurrentMapCacheManager(UserCacheConfig.USER_DIRECTORY));
+  }
+
+  @Test
+  void test_findUsers_loadsOnlyUncachedUsers() {
+    when(userRepository.findAllById(List.of(1L, 2L)))
+        .thenReturn(List.of(user(1L, "alice"), user(2L, "bob")));
+    userDirectory.findUsers(List.of(1L, 2L));
+
+    when(userRepository.findAllById(List.of(3L))).thenReturn(List.of(user(3L, "carol")));
+    Map<Long, UserSummary> users = userDirectory.findUsers(List.of(1L, 2L, 3L));
+
+    assertThat(users).containsOnlyKeys(1L, 2L, 3L);
+    assertThat(users.get(2L)).isEqualTo(new UserSummary(2L, "bob", "bob@example.com"));
+    verify(userRepository).findAllById(List.of(1L, 2L));
+    verify(userRepository).findAllById(List.of(3L));
+    verifyNoMoreInteractions(userRepository);
+  }
+
+  @Test
+  void test_findUsers_leavesOutUnknownUsers() {
+    when(userRepository.findAllById(List.of(1L, 9L))).thenReturn(List.of(user(1L, "alice")));
+
+    Map<Long, UserSummary> users = userDirectory.findUsers(List.of(1L, 9L));
+
+    assertThat(users).containsOnlyKeys(1L);
+  }
+
+  private static User user(Long id, String username) {
+    return User.builder().id(id).username(username).email(username + "@example.com").build();
+  }
+}
@@ -0,0 +1,77 @@
+package org.blackbird.requirefortesting.security.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import java.util.Base64;
+import java.util.List;
+import org.blackbird.requirefortesting.security.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class JwtUtilTests {
+
+  private static final String SECRET = "testSecretKey1234567890123456789012345678901234567890";
+
+  private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000);
+
+  private final User user =
+      User.builder()
+          .id(7L)
+          .username("john")
+          .authorities(List.of(new SimpleGrantedAuthority("ROLE_TESTER")))
+          .build();
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void extractUserId_shouldAcceptBearerPrefixAndRepeatedCalls() {
+    String token = jwtUtil.generateToken(user);
+
+    assertThat(jwtUtil.extractUserId("Bearer " + token)).isEqualTo(7L);
+    assertThat(jwtUtil.extractUserId(token)).isEqualTo(7L);
+    assertThat(jwtUtil.extractUsername(token)).isEqualTo("john");
+  }
+
+  @Test
+  void extractUserId_shouldUseClaimsOfCurrentAuthentication() {
+    String token = jwtUtil.generateToken(user);
+    JwtAuthenticationToken authentication =
+        new JwtAuthenticationToken(
+            "john", token, Jwts.claims().subject("john").add("userId", 42L).build(), List.of());
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+
+    assertThat(jwtUtil.extractUserId("Bearer " + token)).isEqualTo(42L);
+  }
+
+  @Test
+  void tamperedPayload_shouldBeRejectedEvenIfSignatureWasVerifiedBefore() {
+    String token = jwtUtil.generateToken(user);
+    jwtUtil.extractUserId(token);
+
+    String[] parts = token.split("\\.");
+    String forgedPayload =
+        Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString("{\"sub\":\"admin\",\"userId\":1}".getBytes());
+    String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+    assertThrows(JwtException.class, () -> jwtUtil.extractUserId(forged));
+  }
+
+  @Test
+  void expiredToken_shouldBeRejected() {
+    JwtUtil expiringJwtUtil = new JwtUtil(SECRET, -1_000);
+    String token = expiringJwtUtil.generateToken(user);
+
+    assertThrows(ExpiredJwtException.class, () -> expiringJwtUtil.extractUserId(token));
+  }
+}
@@ -0,0 +1,103 @@
+package org.blackbird.requirefortesting.security.internal.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.blackbird.requirefortesting.security.internal.JwtAuthenticationToken;
+import org.blackbird.requirefortesting.security.internal.JwtUtil;
+import org.blackbird.requirefortesting.security.internal.PostgresUserDetailsService;
+import org.blackbird.requirefortesting.security.model.JwtPrincipal;
+import org.blackbird.requirefortesting.security.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class JwtAuthenticationFilterTests {
+
+  private JwtUtil jwtUtil;
+  private PostgresUserDetailsService userDetailsService;
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    jwtUtil = new JwtUtil("testSecretKey1234567890123456789012345678901234567890", 60_000);
+    userDetailsService = mock(PostgresUserDetailsService.class);
+    List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_TESTER"));
+    user =
+        User.builder()
+            .id(7L)
+            .username("john")
+            .password("secret")
+            .email("john@example.com")
+            .enabled(true)
+            .authorities(authorities)
+            .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  private MockHttpServletRequest requestWithToken(String token) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader("Authorization", "Bearer " + token);
+    return request;
+  }
+
+  @Test
+  void statelessMode_shouldAuthenticateFromClaimsWithoutLoadingUser() throws Exception {
+    JwtAuthenticationFilter filter = new JwtAuthenticationFilter(userDetailsService, jwtUtil, true);
+
+    filter.doFilter(
+        requestWithToken(jwtUtil.generateToken(user)),
+        new MockHttpServletResponse(),
+        new MockFilterChain());
+
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    assertThat(authentication.getPrincipal()).isEqualTo(new JwtPrincipal(7L, "john"));
+    assertThat(((JwtAuthenticationToken) authentication).getClaims().getSubject())
+        .isEqualTo("john");
+    assertThat(authentication.getAuthorities())
+        .extracting(GrantedAuthority::getAuthority)
+        .containsExactly("ROLE_TESTER");
+    verifyNoInteractions(userDetailsService);
+  }
+
+  @Test
+  void userMode_shouldLoadUserThroughCache() throws Exception {
+    when(userDetailsService.loadCachedUserByUsername("john")).thenReturn(user);
+    JwtAuthenticationFilter filter =
+        new JwtAuthenticationFilter(userDetailsService, jwtUtil, false);
+
+    filter.doFilter(
+        requestWithToken(jwtUtil.generateToken(user)),
+        new MockHttpServletResponse(),
+        new MockFilterChain());
+
+    assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal())
+        .isEqualTo(user);
+    verify(userDetailsService).loadCachedUserByUsername("john");
+  }
+
+  @Test
+  void invalidToken_shouldLeaveRequestUnauthenticated() throws Exception {
+    JwtAuthenticationFilter filter = new JwtAuthenticationFilter(userDetailsService, jwtUtil, true);
+
+    filter.doFilter(
+        requestWithToken("not-a-token"), new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+  }
+}
@@ -0,0 +1,86 @@
+package org.blackbird.requirefortesting.shared;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ImportRowReaderTests {
+
+  record Row(String title, String description, Priority priority) {}
+
+  private static InputStream stream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void shouldReadCsvWithHeaderAndSkipUnmappableRows() {
+    String csv =
+        """
+        title,description,priority,unknown
+        Login,"Multi, line
+        description",high,x
+        Logout,,NOPE,y
+        Search,,,z
+        """;
+    List<Row> rows = new ArrayList<>();
+    List<Long> errors = new ArrayList<>();
+
+    ImportRowReader.read(
+        stream(csv),
+        DataFormat.CSV,
+        Row.class,
+        (recordNumber, row) -> rows.add(row),
+        (recordNumber, message) -> errors.add(recordNumber));
+
+    assertThat(rows)
+        .containsExactly(
+            new Row("Login", "Multi, line\ndescription", Priority.HIGH),
+            new Row("Search", null, null));
+    assertThat(errors).containsExactly(2L);
+  }
+
+  @Test
+  void shouldReadNdjson() {
+    String ndjson =
+        """
+        {"title":"Login","priority":"LOW"}
+        {"title":"Logout","description":"Ends the session"}
+        """;
+    List<Row> rows = new ArrayList<>();
+
+    ImportRowReader.read(
+        stream(ndjson),
+        DataFormat.NDJSON,
+        Row.class,
+        (recordNumber, row) -> rows.add(row),
+        (recordNumber, message) -> {});
+
+    assertThat(rows).extracting(Row::title).containsExactly("Login", "Logout");
+  }
+
+  @Test
+  void shouldRejectMalformedInput() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            ImportRowReader.read(
+                stream("{\"title\": \"Login\"}\n{\"title\": "),
+                DataFormat.NDJSON,
+                Row.class,
+                (recordNumber, row) -> {},
+                (recordNumber, message) -> {}));
+  }
+
+  @Test
+  void shouldResolveFormatFromContentType() {
+    assertThat(DataFormat.fromContentType("text/csv; charset=UTF-8")).isEqualTo(DataFormat.CSV);
+    assertThat(DataFormat.fromContentType("application/x-ndjson")).isEqualTo(DataFormat.NDJSON);
+    assertThrows(IllegalArgumentException.class, () -> DataFormat.fromContentType("text/plain"));
+  }
+}
@@ -0,0 +1,86 @@
+package org.blackbird.requirefortesting.shared;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RowExporterTests {
+
+  private PreparedStatement statement;
+  private RowExporter rowExporter;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    DataSource dataSource = mock(DataSource.class);
+    Connection connection = mock(Connection.class);
+    statement = mock(PreparedStatement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.prepareStatement(anyString())).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.getMetaData()).thenReturn(metaData);
+    when(resultSet.next()).thenReturn(true, true, false);
+
+    when(metaData.getColumnCount()).thenReturn(3);
+    when(metaData.getColumnLabel(1)).thenReturn("id");
+    when(metaData.getColumnLabel(2)).thenReturn("title");
+    when(metaData.getColumnLabel(3)).thenReturn("updatedAt");
+    when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+    when(metaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+    when(metaData.getColumnType(3)).thenReturn(Types.TIMESTAMP);
+
+    when(resultSet.getLong(1)).thenReturn(1L, 2L);
+    when(resultSet.getString(1)).thenReturn("1", "2");
+    when(resultSet.getString(2)).thenReturn("Login, \"fast\"", (String) null);
+    when(resultSet.getObject(3, LocalDateTime.class))
+        .thenReturn(LocalDateTime.of(2025, 1, 2, 3, 4, 5), (LocalDateTime) null);
+
+    rowExporter = new RowExporter(dataSource);
+  }
+
+  @Test
+  void shouldWriteOneJsonObjectPerLine() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    rowExporter.export(output, DataFormat.NDJSON, "SELECT 1");
+
+    assertThat(output.toString(StandardCharsets.UTF_8))
+        .isEqualTo(
+            """
+            {"id":1,"title":"Login, \\"fast\\"","updatedAt":"2025-01-02T03:04:05"}
+            {"id":2,"title":null,"updatedAt":null}
+            """);
+    verify(statement).setFetchSize(1000);
+  }
+
+  @Test
+  void shouldWriteCsvWithHeaderAndQuoteSpecialCharacters() {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    rowExporter.export(output, DataFormat.CSV, "SELECT 1");
+
+    assertThat(output.toString(StandardCharsets.UTF_8))
+        .isEqualTo(
+            """
+            id,title,updatedAt
+            1,"Login, ""fast\"\"",2025-01-02T03:04:05
+            2,,
+            """);
+  }
+}
@@ -0,0 +1,54 @@
+package org.blackbird.requirefortesting.shared;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class UserDirectoryTests {
+
+  record Item(Long id, Long createdBy) {}
+
+  private final List<Collection<Long>> lookups = new ArrayList<>();
+
+  private final UserDirectory userDirectory =
+      userIds -> {
+        lookups.add(userIds);
+        return Map.of(1L, new UserSummary(1L, "alice", "alice@example.com"));
+      };
+
+  @Test
+  void test_withCreators_resolvesAllCreatorsInOneLookup() {
+    List<WithCreator<Item>> items =
+        userDirectory.withCreators(
+            Arrays.asList(new Item(10L, 1L), new Item(11L, 1L), new Item(12L, 2L)),
+            Item::createdBy);
+
+    assertThat(lookups).hasSize(1);
+    assertThat(lookups.get(0)).containsExactly(1L, 2L);
+    assertThat(items)
+        .extracting(WithCreator::item)
+        .extracting(Item::id)
+        .containsExactly(10L, 11L, 12L);
+    assertThat(items.get(1).creator().username()).isEqualTo("alice");
+    assertThat(items.get(2).creator()).isNull();
+  }
+
+  @Test
+  void test_withCreator_serializesItemPropertiesAtTopLevel() throws Exception {
+    WithCreator<Item> item =
+        new WithCreator<>(new Item(10L, 1L), new UserSummary(1L, "alice", "alice@example.com"));
+
+    String json = new ObjectMapper().writeValueAsString(item);
+
+    assertThat(json)
+        .isEqualTo(
+            "{\"id\":10,\"createdBy\":1,"
+                + "\"creator\":{\"id\":1,\"username\":\"alice\",\"email\":\"alice@example.com\"}}");
+  }
+}
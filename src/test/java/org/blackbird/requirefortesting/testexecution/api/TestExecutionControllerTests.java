@@ -0,0 +1,74 @@
+package org.blackbird.requirefortesting.testexecution.api;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+import org.blackbird.requirefortesting.TestPostgreSQLContainer;
+import org.blackbird.requirefortesting.security.internal.JwtUtil;
+import org.blackbird.requirefortesting.security.model.User;
+import org.blackbird.requirefortesting.testexecution.service.TestExecutionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TestExecutionControllerTests {
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private JwtUtil jwtUtil;
+
+  @MockitoBean private TestExecutionService executionService;
+
+  @DynamicPropertySource
+  static void registerPgProperties(DynamicPropertyRegistry registry) {
+    TestPostgreSQLContainer.configureProperties(registry);
+  }
+
+  private String generateValidJwtToken() {
+    User testUser =
+        User.builder()
+            .id(1L)
+            .username("testuser")
+            .email("test@example.com")
+            .authorities(List.of(new SimpleGrantedAuthority("ROLE_TESTER")))
+            .enabled(true)
+            .build();
+
+    return jwtUtil.generateToken(testUser);
+  }
+
+  @Test
+  void test_streamProgress_shouldAuthorizeAsyncDispatch() throws Exception {
+    SseEmitter emitter = new SseEmitter();
+    when(executionService.streamProgress(7L)).thenReturn(emitter);
+
+    MvcResult result =
+        mockMvc
+            .perform(
+                get("/api/test-executions/runs/{testRunId}/progress", 7L)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + generateValidJwtToken()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    emitter.send(SseEmitter.event().name("progress").data("{\"testRunId\":7}"));
+    emitter.complete();
+
+    // The JWT is not read again on the ASYNC dispatch that completes the stream
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().string(containsString("event:progress")));
+  }
+}
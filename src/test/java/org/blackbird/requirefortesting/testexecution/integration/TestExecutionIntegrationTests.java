@@ -0,0 +1,242 @@
+package org.blackbird.requirefortesting.testexecution.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.blackbird.requirefortesting.TestPostgreSQLContainer;
+import org.blackbird.requirefortesting.requirements.internal.repository.RequirementRepository;
+import org.blackbird.requirefortesting.requirements.model.Requirement;
+import org.blackbird.requirefortesting.shared.BulkResult.BulkRowError;
+import org.blackbird.requirefortesting.shared.ImportResult;
+import org.blackbird.requirefortesting.shared.Priority;
+import org.blackbird.requirefortesting.shared.Status;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TestExecutionRepository;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TraceabilityRow;
+import org.blackbird.requirefortesting.testexecution.model.JunitMatchKey;
+import org.blackbird.requirefortesting.testexecution.model.TestExecution;
+import org.blackbird.requirefortesting.testexecution.service.TestExecutionService;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestCaseRepository;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunRepository;
+import org.blackbird.requirefortesting.testmanagement.model.TestCase;
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+import org.blackbird.requirefortesting.testmanagement.model.TestRun;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+public class TestExecutionIntegrationTests {
+  @Autowired private TestExecutionService executionService;
+  @Autowired private TestExecutionRepository executionRepository;
+  @Autowired private RequirementRepository requirementRepository;
+  @Autowired private TestCaseRepository testCaseRepository;
+  @Autowired private TestRunRepository testRunRepository;
+  @Autowired private EntityManager entityManager;
+
+  @DynamicPropertySource
+  static void registerPgProperties(DynamicPropertyRegistry registry) {
+    TestPostgreSQLContainer.configureProperties(registry);
+  }
+
+  @Test
+  @Transactional
+  void test_importJunitReport_shouldUpsertMatchedAndRejectUnmatchedTestCases() {
+    TestCase login = saveTestCase(1L, "shouldLogin");
+    TestCase loginCopy = saveTestCase(1L, "shouldLogin");
+    TestCase logout = saveTestCase(1L, "shouldLogout");
+    TestCase notInRun = saveTestCase(1L, "shouldRegister");
+    TestRun testRun = saveTestRun(LocalDateTime.now(), login, loginCopy, logout);
+    TestExecution assigned =
+        executionRepository.upsertAssignment(testRun.getId(), logout.getId(), 7L);
+
+    ImportResult result =
+        importReport(
+            testRun,
+            """
+            <testsuite name="AccountTest">
+              <testcase name="shouldLogin"><failure message="expected 200"/></testcase>
+              <testcase name="shouldRegister"/>
+              <testcase name="shouldLogin"/>
+              <testcase name="shouldResetPassword"/>
+              <testcase name="shouldLogout"><skipped/></testcase>
+            </testsuite>
+            """);
+
+    // Both test cases titled shouldLogin get the rerun's result, shouldLogout is recorded
+    // on its existing assignment
+    assertEquals(3, result.imported());
+    assertEquals(
+        List.of(
+            new BulkRowError(2, null, "No test case titled 'shouldRegister' in the test run"),
+            new BulkRowError(4, null, "No test case titled 'shouldResetPassword' in the test run")),
+        result.errors());
+    Map<Long, TestExecution> executions = executionsByTestCase(testRun);
+    assertEquals(3, executions.size());
+    assertEquals(TestResult.PASSED, executions.get(login.getId()).getTestResult());
+    assertEquals(TestResult.PASSED, executions.get(loginCopy.getId()).getTestResult());
+    assertEquals(assigned.getId(), executions.get(logout.getId()).getId());
+    assertEquals(TestResult.SKIPPED, executions.get(logout.getId()).getTestResult());
+    assertFalse(executions.containsKey(notInRun.getId()));
+  }
+
+  @Test
+  @Transactional
+  void test_importJunitReportTwice_shouldUpdateTheFirstImport() {
+    TestCase login = saveTestCase(1L, "shouldLogin");
+    TestRun testRun = saveTestRun(LocalDateTime.now(), login);
+    importReport(
+        testRun,
+        """
+        <testsuite>
+          <testcase name="shouldLogin"><error type="TimeoutException"/></testcase>
+        </testsuite>
+        """);
+
+    ImportResult result =
+        importReport(testRun, "<testsuite><testcase name=\"shouldLogin\"/></testsuite>");
+
+    assertEquals(new ImportResult(1, 0, List.of()), result);
+    TestExecution execution = executionsByTestCase(testRun).get(login.getId());
+    assertEquals(TestResult.PASSED, execution.getTestResult());
+    assertNull(execution.getComment());
+  }
+
+  @Test
+  @Transactional
+  void test_repeatedUpsertAssignment_shouldReturnTheExistingExecution() {
+    TestCase login = saveTestCase(1L, "shouldLogin");
+    TestRun testRun = saveTestRun(LocalDateTime.now(), login);
+    TestExecution created =
+        executionRepository.upsertAssignment(testRun.getId(), login.getId(), 7L);
+    executionService.submitTestResult(created.getId(), 7L, TestResult.FAILED, "expected 200");
+    entityManager.flush();
+    entityManager.clear();
+
+    TestExecution existing =
+        executionRepository.upsertAssignment(testRun.getId(), login.getId(), 7L);
+    TestExecution otherTester =
+        executionRepository.upsertAssignment(testRun.getId(), login.getId(), 8L);
+
+    assertEquals(created.getId(), existing.getId());
+    assertEquals(testRun.getId(), existing.getTestRun().getId());
+    assertEquals(login.getId(), existing.getTestCase().getId());
+    assertEquals(7L, existing.getTesterId());
+    assertEquals(TestResult.FAILED, existing.getTestResult());
+    assertEquals("expected 200", existing.getComment());
+    assertNotEquals(created.getId(), otherTester.getId());
+    assertNull(otherTester.getTestResult());
+    assertEquals(2, executionRepository.findByTestRunId(testRun.getId()).size());
+  }
+
+  @Test
+  @Transactional
+  void test_findTraceability_shouldJoinTheLatestResultOfEachTestCase() {
+    Requirement login = saveRequirement("Login");
+    Requirement logout = saveRequirement("Logout");
+    TestCase rerun = saveTestCase(login.getId(), "Valid login");
+    TestCase twoTesters = saveTestCase(login.getId(), "Wrong password");
+    TestCase reopened = saveTestCase(login.getId(), "Locked account");
+    TestCase neverRun = saveTestCase(login.getId(), "Expired password");
+    LocalDateTime now = LocalDateTime.now();
+    TestRun earlier = saveTestRun(now.minusDays(2), rerun, reopened);
+    TestRun later = saveTestRun(now.minusDays(1), rerun, twoTesters, reopened);
+    // Saved out of start order, the run's start time decides before the execution id
+    saveExecution(later, rerun, 7L, TestResult.FAILED);
+    saveExecution(earlier, rerun, 7L, TestResult.PASSED);
+    saveExecution(later, twoTesters, 7L, TestResult.PASSED);
+    saveExecution(later, twoTesters, 8L, TestResult.BLOCKED);
+    saveExecution(earlier, reopened, 7L, TestResult.PASSED);
+    saveExecution(later, reopened, 7L, null);
+    entityManager.flush();
+
+    List<TraceabilityRow> rows = executionRepository.findTraceability(login.getId() - 1, 2);
+
+    assertEquals(
+        List.of(
+            List.of(login.getId(), rerun.getId(), "FAILED"),
+            List.of(login.getId(), twoTesters.getId(), "BLOCKED"),
+            List.of(login.getId(), reopened.getId(), "PASSED"),
+            Arrays.asList(login.getId(), neverRun.getId(), null),
+            Arrays.asList(logout.getId(), null, null)),
+        rows.stream()
+            .map(r -> Arrays.asList(r.getRequirementId(), r.getTestCaseId(), r.getLatestResult()))
+            .toList());
+    assertEquals("Valid login", rows.get(0).getTestCaseTitle());
+    assertEquals("Logout", rows.get(4).getRequirementTitle());
+    assertNull(rows.get(4).getTestCaseTitle());
+  }
+
+  private ImportResult importReport(TestRun testRun, String report) {
+    ImportResult result =
+        executionService.importJunitReport(
+            testRun.getId(),
+            new ByteArrayInputStream(report.getBytes(StandardCharsets.UTF_8)),
+            JunitMatchKey.NAME,
+            7L);
+    // The report is written past the persistence context
+    entityManager.clear();
+    return result;
+  }
+
+  private Requirement saveRequirement(String title) {
+    return requirementRepository.save(
+        Requirement.builder().title(title).priority(Priority.HIGH).createdBy(1L).build());
+  }
+
+  private void saveExecution(
+      TestRun testRun, TestCase testCase, Long testerId, TestResult testResult) {
+    executionRepository.save(
+        TestExecution.builder()
+            .testRun(testRun)
+            .testCase(testCase)
+            .testerId(testerId)
+            .testResult(testResult)
+            .build());
+  }
+
+  private TestCase saveTestCase(Long requirementId, String title) {
+    return testCaseRepository.save(
+        TestCase.builder()
+            .title(title)
+            .requirementId(requirementId)
+            .status(Status.OPEN)
+            .createdBy(1L)
+            .build());
+  }
+
+  private TestRun saveTestRun(LocalDateTime startTime, TestCase... testCases) {
+    TestRun testRun =
+        testRunRepository.save(
+            TestRun.builder()
+                .title("Run")
+                .startTime(startTime)
+                .endTime(startTime.plusDays(1))
+                .status(TestRunStatus.PLANNED)
+                .createdBy(1L)
+                .testCases(new HashSet<>(List.of(testCases)))
+                .build());
+    entityManager.flush();
+    return testRun;
+  }
+
+  private Map<Long, TestExecution> executionsByTestCase(TestRun testRun) {
+    return executionRepository.findByTestRunId(testRun.getId()).stream()
+        .collect(Collectors.toMap(e -> e.getTestCase().getId(), Function.identity()));
+  }
+}
@@ -0,0 +1,79 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import org.blackbird.requirefortesting.testexecution.internal.AssignmentPlanner.Assignment;
+import org.blackbird.requirefortesting.testexecution.internal.repository.UnassignedTestCase;
+import org.blackbird.requirefortesting.testexecution.model.AssignmentStrategy;
+import org.junit.jupiter.api.Test;
+
+class AssignmentPlannerTests {
+
+  private record TestCaseRow(Long getTestCaseId, Long getRequirementId)
+      implements UnassignedTestCase {}
+
+  private static final List<UnassignedTestCase> TEST_CASES =
+      List.of(
+          new TestCaseRow(1L, 100L),
+          new TestCaseRow(2L, 200L),
+          new TestCaseRow(3L, 100L),
+          new TestCaseRow(4L, 300L),
+          new TestCaseRow(5L, 100L));
+
+  @Test
+  void test_roundRobin_shouldAlternateTestersInTestCaseOrder() {
+    List<Assignment> plan =
+        AssignmentPlanner.plan(
+            TEST_CASES, List.of(10L, 20L), Map.of(), AssignmentStrategy.ROUND_ROBIN);
+
+    assertEquals(
+        List.of(
+            new Assignment(1L, 10L),
+            new Assignment(2L, 20L),
+            new Assignment(3L, 10L),
+            new Assignment(4L, 20L),
+            new Assignment(5L, 10L)),
+        plan);
+  }
+
+  @Test
+  void test_leastLoaded_shouldFillUpTheLeastBusyTesterFirst() {
+    List<Assignment> plan =
+        AssignmentPlanner.plan(
+            TEST_CASES, List.of(10L, 20L), Map.of(10L, 3L), AssignmentStrategy.LEAST_LOADED);
+
+    assertEquals(
+        List.of(
+            new Assignment(1L, 20L),
+            new Assignment(2L, 20L),
+            new Assignment(3L, 20L),
+            new Assignment(4L, 10L),
+            new Assignment(5L, 20L)),
+        plan);
+  }
+
+  @Test
+  void test_requirementAffinity_shouldKeepRequirementsTogether() {
+    List<Assignment> plan =
+        AssignmentPlanner.plan(
+            TEST_CASES, List.of(10L, 20L), Map.of(), AssignmentStrategy.REQUIREMENT_AFFINITY);
+
+    assertEquals(
+        List.of(
+            new Assignment(1L, 10L),
+            new Assignment(3L, 10L),
+            new Assignment(5L, 10L),
+            new Assignment(2L, 20L),
+            new Assignment(4L, 20L)),
+        plan);
+  }
+
+  @Test
+  void test_planWithoutTestCases_shouldBeEmpty() {
+    for (AssignmentStrategy strategy : AssignmentStrategy.values()) {
+      assertEquals(List.of(), AssignmentPlanner.plan(List.of(), List.of(10L), Map.of(), strategy));
+    }
+  }
+}
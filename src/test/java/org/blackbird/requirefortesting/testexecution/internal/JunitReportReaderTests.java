@@ -0,0 +1,105 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.blackbird.requirefortesting.testexecution.internal.JunitReportReader.JunitTestCase;
+import org.blackbird.requirefortesting.testexecution.model.JunitMatchKey;
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+import org.junit.jupiter.api.Test;
+
+class JunitReportReaderTests {
+
+  private static final String REPORT =
+      """
+      <?xml version="1.0" encoding="UTF-8"?>
+      <testsuites>
+        <testsuite name="LoginTest" tests="4">
+          <testcase name="shouldLogin" classname="com.example.LoginTest" time="0.1"/>
+          <testcase name="shouldRejectPassword" classname="com.example.LoginTest">
+            <failure message="expected 401" type="AssertionError">stack trace</failure>
+            <system-out>log output</system-out>
+          </testcase>
+          <testcase name="shouldConnect" classname="com.example.LoginTest">
+            <error type="java.net.ConnectException">stack trace</error>
+          </testcase>
+          <testcase name="shouldLogout" classname="com.example.LoginTest">
+            <skipped/>
+          </testcase>
+        </testsuite>
+      </testsuites>
+      """;
+
+  private static List<JunitTestCase> read(String report, JunitMatchKey matchKey) {
+    List<JunitTestCase> testCases = new ArrayList<>();
+    JunitReportReader.read(
+        new ByteArrayInputStream(report.getBytes(StandardCharsets.UTF_8)),
+        matchKey,
+        testCases::add);
+    return testCases;
+  }
+
+  @Test
+  void test_readReport_shouldMapOutcomesToTestResults() {
+    List<JunitTestCase> testCases = read(REPORT, JunitMatchKey.NAME);
+
+    assertEquals(
+        List.of(
+            new JunitTestCase(1, "shouldLogin", TestResult.PASSED, null),
+            new JunitTestCase(2, "shouldRejectPassword", TestResult.FAILED, "expected 401"),
+            new JunitTestCase(3, "shouldConnect", TestResult.BLOCKED, "java.net.ConnectException"),
+            new JunitTestCase(4, "shouldLogout", TestResult.SKIPPED, null)),
+        testCases);
+  }
+
+  @Test
+  void test_readReportByQualifiedName_shouldPrefixClassName() {
+    List<JunitTestCase> testCases = read(REPORT, JunitMatchKey.QUALIFIED_NAME);
+
+    assertEquals("com.example.LoginTest.shouldLogin", testCases.get(0).key());
+  }
+
+  @Test
+  void test_readSingleSuiteWithLongMessage_shouldTruncateComment() {
+    String message = "x".repeat(JunitReportReader.MAX_COMMENT_LENGTH + 10);
+    String report =
+        "<testsuite><testcase name=\"a\"><failure message=\""
+            + message
+            + "\"/></testcase></testsuite>";
+
+    JunitTestCase testCase = read(report, JunitMatchKey.NAME).get(0);
+
+    assertEquals(JunitReportReader.MAX_COMMENT_LENGTH, testCase.comment().length());
+    assertEquals(TestResult.FAILED, testCase.result());
+  }
+
+  @Test
+  void test_readReportWithoutClassName_shouldFallBackToName() {
+    JunitTestCase testCase =
+        read("<testsuite><testcase name=\"a\"/></testsuite>", JunitMatchKey.QUALIFIED_NAME).get(0);
+
+    assertEquals("a", testCase.key());
+    assertNull(testCase.comment());
+  }
+
+  @Test
+  void test_readMalformedReport_shouldThrowException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> read("<testsuite><testcase name=\"a\">", JunitMatchKey.NAME));
+  }
+
+  @Test
+  void test_readReportWithDoctype_shouldThrowException() {
+    String report =
+        "<!DOCTYPE testsuite [<!ENTITY x SYSTEM \"file:///etc/passwd\">]>"
+            + "<testsuite><testcase name=\"&x;\"/></testsuite>";
+
+    assertThrows(IllegalArgumentException.class, () -> read(report, JunitMatchKey.NAME));
+  }
+}
@@ -0,0 +1,265 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.blackbird.requirefortesting.shared.TooManyRequestsException;
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ResultWriteBehindQueueTests {
+
+  // Long enough that the writer thread never flushes on its own during a test
+  private static final long FLUSH_INTERVAL_MILLIS = 3_600_000;
+
+  @Mock private TestExecutionBatchWriter batchWriter;
+  @Mock private TraceabilityCache traceabilityCache;
+  @Mock private TestRunProgressBroadcaster progressBroadcaster;
+  @Mock private PlatformTransactionManager transactionManager;
+  @TempDir private Path journalDirectory;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ResultWriteBehindQueue queue;
+
+  private ResultWriteBehindQueue queue(boolean enabled, int capacity) {
+    return queue(enabled, capacity, new ObjectMapper());
+  }
+
+  private ResultWriteBehindQueue queue(boolean enabled, int capacity, ObjectMapper objectMapper) {
+    return new ResultWriteBehindQueue(
+        batchWriter,
+        traceabilityCache,
+        progressBroadcaster,
+        transactionManager,
+        objectMapper,
+        meterRegistry,
+        enabled,
+        capacity,
+        100,
+        FLUSH_INTERVAL_MILLIS,
+        5,
+        journalDirectory.toString());
+  }
+
+  private static QueuedResult result(Long executionId, TestResult testResult) {
+    return new QueuedResult(executionId, 1L, testResult, null);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (queue != null) {
+      queue.stop();
+    }
+  }
+
+  @Test
+  void test_flushRepeatedSubmissions_shouldWriteOnlyTheLatest() {
+    queue = queue(true, 10);
+    queue.start();
+
+    queue.enqueue(List.of(result(1L, TestResult.FAILED), result(2L, TestResult.PASSED)));
+    queue.enqueue(List.of(result(1L, TestResult.PASSED)));
+
+    assertEquals(2, queue.flush());
+    verify(batchWriter)
+        .updateQueuedResults(List.of(result(1L, TestResult.PASSED), result(2L, TestResult.PASSED)));
+    verify(progressBroadcaster).allRunsChanged();
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  void test_enqueueIntoFullQueue_shouldThrowException() {
+    queue = queue(true, 2);
+    queue.start();
+    queue.enqueue(List.of(result(1L, TestResult.PASSED), result(2L, TestResult.PASSED)));
+
+    TooManyRequestsException exception =
+        assertThrows(
+            TooManyRequestsException.class,
+            () -> queue.enqueue(List.of(result(3L, TestResult.PASSED))));
+
+    assertEquals(5, exception.getRetryAfterSeconds());
+    assertEquals(2.0, meterRegistry.get("test_execution.result_queue.depth").gauge().value());
+    // Replacing a queued result does not need room
+    queue.enqueue(List.of(result(1L, TestResult.FAILED)));
+  }
+
+  @Test
+  void test_failedFlush_shouldRequeueResults() {
+    queue = queue(true, 10);
+    queue.start();
+    queue.enqueue(List.of(result(1L, TestResult.PASSED)));
+    doThrow(new QueryTimeoutException("timeout")).when(batchWriter).updateQueuedResults(any());
+
+    assertEquals(0, queue.flush());
+    assertEquals(1, queue.size());
+    assertEquals(1, meterRegistry.get("test_execution.result_queue.flush").timer().count());
+  }
+
+  @Test
+  void test_startAfterCrash_shouldRecoverJournaledResults() {
+    ResultWriteBehindQueue crashed = queue(true, 10);
+    crashed.start();
+    crashed.enqueue(List.of(result(1L, TestResult.FAILED), result(2L, TestResult.PASSED)));
+    crashed.enqueue(List.of(result(1L, TestResult.BLOCKED)));
+
+    queue = queue(true, 10);
+    queue.start();
+
+    assertEquals(2, queue.size());
+    queue.flush();
+    verify(batchWriter)
+        .updateQueuedResults(
+            List.of(result(1L, TestResult.BLOCKED), result(2L, TestResult.PASSED)));
+  }
+
+  @Test
+  void test_startAfterFailedFlush_shouldRecoverRequeuedResults() {
+    ResultWriteBehindQueue crashed = queue(true, 10);
+    crashed.start();
+    crashed.enqueue(List.of(result(1L, TestResult.PASSED)));
+    doThrow(new QueryTimeoutException("timeout")).when(batchWriter).updateQueuedResults(any());
+    crashed.flush();
+    reset(batchWriter);
+
+    queue = queue(true, 10);
+    queue.start();
+
+    assertEquals(1, queue.size());
+    queue.flush();
+    verify(batchWriter).updateQueuedResults(List.of(result(1L, TestResult.PASSED)));
+  }
+
+  @Test
+  void test_failedFlushWithoutJournaledRequeue_shouldKeepRotatedJournal() throws Exception {
+    ObjectMapper objectMapper = spy(new ObjectMapper());
+    ResultWriteBehindQueue crashed = queue(true, 10, objectMapper);
+    crashed.start();
+    crashed.enqueue(List.of(result(1L, TestResult.PASSED)));
+    doThrow(new JsonMappingException(null, "disk full"))
+        .when(objectMapper)
+        .writeValueAsBytes(any());
+    doThrow(new QueryTimeoutException("timeout")).when(batchWriter).updateQueuedResults(any());
+
+    assertEquals(0, crashed.flush());
+    assertTrue(Files.exists(journalDirectory.resolve("results.journal.flushing")));
+
+    // The next flush appends to the kept file, a failure of it must not lose either result
+    reset(objectMapper);
+    crashed.enqueue(List.of(result(2L, TestResult.FAILED)));
+    assertEquals(0, crashed.flush());
+    reset(batchWriter);
+
+    queue = queue(true, 10);
+    queue.start();
+
+    assertEquals(2, queue.size());
+    queue.flush();
+    verify(batchWriter)
+        .updateQueuedResults(List.of(result(1L, TestResult.PASSED), result(2L, TestResult.FAILED)));
+  }
+
+  @Test
+  void test_enqueueBeforeStartOrAfterStop_shouldThrowException() {
+    queue = queue(true, 10);
+
+    assertThrows(
+        TooManyRequestsException.class,
+        () -> queue.enqueue(List.of(result(1L, TestResult.PASSED))));
+    queue.start();
+    queue.enqueue(List.of(result(1L, TestResult.PASSED)));
+    queue.stop();
+    assertThrows(
+        TooManyRequestsException.class,
+        () -> queue.enqueue(List.of(result(2L, TestResult.PASSED))));
+
+    verify(batchWriter).updateQueuedResults(List.of(result(1L, TestResult.PASSED)));
+  }
+
+  @Test
+  void test_concurrentEnqueues_shouldAllBeJournaled() throws Exception {
+    ResultWriteBehindQueue crashed = queue(true, 1_000);
+    crashed.start();
+    ExecutorService submitters = Executors.newFixedThreadPool(8);
+    List<Future<?>> submissions = new ArrayList<>();
+    // Fewer than a batch, so the writer thread does not flush them
+    for (long executionId = 1; executionId <= 90; executionId++) {
+      QueuedResult queued = result(executionId, TestResult.PASSED);
+      submissions.add(submitters.submit(() -> crashed.enqueue(List.of(queued))));
+    }
+    for (Future<?> submission : submissions) {
+      submission.get();
+    }
+    submitters.shutdown();
+
+    queue = queue(true, 1_000);
+    queue.start();
+
+    assertEquals(90, queue.size());
+  }
+
+  @Test
+  void test_enabledWithoutJournalDirectory_shouldThrowException() {
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            new ResultWriteBehindQueue(
+                batchWriter,
+                traceabilityCache,
+                progressBroadcaster,
+                transactionManager,
+                new ObjectMapper(),
+                meterRegistry,
+                true,
+                10,
+                100,
+                FLUSH_INTERVAL_MILLIS,
+                5,
+                ""));
+  }
+
+  @Test
+  void test_enqueueWhileDisabled_shouldWriteImmediately() {
+    queue = queue(false, 10);
+    queue.start();
+
+    queue.enqueue(List.of(result(1L, TestResult.PASSED)));
+
+    verify(batchWriter).updateQueuedResults(List.of(result(1L, TestResult.PASSED)));
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  void test_flushEmptyQueue_shouldNotWrite() {
+    queue = queue(true, 10);
+    queue.start();
+
+    assertEquals(0, queue.flush());
+    verify(batchWriter, never()).updateQueuedResults(any());
+  }
+}
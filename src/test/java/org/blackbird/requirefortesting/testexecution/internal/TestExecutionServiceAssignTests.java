@@ -0,0 +1,71 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
+import java.util.Optional;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TestExecutionRepository;
+import org.blackbird.requirefortesting.testexecution.model.TestExecution;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestCaseRepository;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunRepository;
+import org.blackbird.requirefortesting.testmanagement.model.TestCase;
+import org.blackbird.requirefortesting.testmanagement.model.TestRun;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TestExecutionServiceAssignTests {
+
+  @Mock private TestExecutionRepository executionRepository;
+  @Mock private TestRunRepository testRunRepository;
+  @Mock private TestCaseRepository testCaseRepository;
+  @Mock private TestRunProgressBroadcaster progressBroadcaster;
+  @InjectMocks private TestExecutionServiceImpl executionService;
+
+  @Test
+  void test_assignWithNullId_shouldThrowException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> executionService.assignTestCaseToTester(1L, null, 3L));
+  }
+
+  @Test
+  void test_assignToNotFoundTestRun_shouldThrowException() {
+    when(testRunRepository.findById(1L)).thenReturn(Optional.empty());
+
+    assertThrows(
+        EntityNotFoundException.class, () -> executionService.assignTestCaseToTester(1L, 2L, 3L));
+    verify(executionRepository, never()).upsertAssignment(any(), any(), any());
+  }
+
+  @Test
+  void test_assignNotFoundTestCase_shouldThrowException() {
+    when(testRunRepository.findById(1L)).thenReturn(Optional.of(new TestRun()));
+    when(testCaseRepository.findById(2L)).thenReturn(Optional.empty());
+
+    assertThrows(
+        EntityNotFoundException.class, () -> executionService.assignTestCaseToTester(1L, 2L, 3L));
+    verify(executionRepository, never()).upsertAssignment(any(), any(), any());
+  }
+
+  @Test
+  void test_assign_shouldReturnUpsertedExecution() {
+    TestExecution execution = TestExecution.builder().id(7L).testerId(3L).build();
+
+    when(testRunRepository.findById(1L)).thenReturn(Optional.of(new TestRun()));
+    when(testCaseRepository.findById(2L)).thenReturn(Optional.of(new TestCase()));
+    when(executionRepository.upsertAssignment(1L, 2L, 3L)).thenReturn(execution);
+
+    assertSame(execution, executionService.assignTestCaseToTester(1L, 2L, 3L));
+    verify(progressBroadcaster).executionsChanged(1L, List.of());
+  }
+}
@@ -0,0 +1,115 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TestExecutionRepository;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TesterLoad;
+import org.blackbird.requirefortesting.testexecution.internal.repository.UnassignedTestCase;
+import org.blackbird.requirefortesting.testexecution.model.AssignmentStrategy;
+import org.blackbird.requirefortesting.testexecution.model.BulkAssignmentDto;
+import org.blackbird.requirefortesting.testexecution.model.BulkAssignmentResult;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TestExecutionServiceBulkAssignTests {
+
+  @Mock private TestExecutionRepository executionRepository;
+  @Mock private TestRunRepository testRunRepository;
+  @Mock private TestExecutionBatchWriter batchWriter;
+  @Mock private TestRunProgressBroadcaster progressBroadcaster;
+  @InjectMocks private TestExecutionServiceImpl executionService;
+
+  private record TestCaseRow(Long getTestCaseId, Long getRequirementId)
+      implements UnassignedTestCase {}
+
+  private record Load(Long getTesterId, Long getOpenExecutions) implements TesterLoad {}
+
+  @Test
+  void test_assignTestRunWithoutTesters_shouldThrowException() {
+    BulkAssignmentDto assignmentDto = new BulkAssignmentDto(List.of(), null);
+
+    assertThrows(
+        IllegalArgumentException.class, () -> executionService.assignTestRun(1L, assignmentDto));
+  }
+
+  @Test
+  void test_assignTestRunWithNullTester_shouldThrowException() {
+    BulkAssignmentDto assignmentDto = new BulkAssignmentDto(Arrays.asList(10L, null), null);
+
+    assertThrows(
+        IllegalArgumentException.class, () -> executionService.assignTestRun(1L, assignmentDto));
+  }
+
+  @Test
+  void test_assignTestRunWithTooManyTesters_shouldThrowException() {
+    List<Long> testerIds =
+        LongStream.rangeClosed(1, BulkAssignmentDto.MAX_TESTERS + 1).boxed().toList();
+    BulkAssignmentDto assignmentDto = new BulkAssignmentDto(testerIds, null);
+
+    assertThrows(
+        IllegalArgumentException.class, () -> executionService.assignTestRun(1L, assignmentDto));
+    verify(batchWriter, never()).lockTestRun(any());
+  }
+
+  @Test
+  void test_assignNotFoundTestRun_shouldThrowException() {
+    BulkAssignmentDto assignmentDto = new BulkAssignmentDto(List.of(10L), null);
+
+    when(testRunRepository.existsById(1L)).thenReturn(false);
+
+    assertThrows(
+        EntityNotFoundException.class, () -> executionService.assignTestRun(1L, assignmentDto));
+    verify(batchWriter, never()).insertAssignments(any(), anyList());
+  }
+
+  @Test
+  void test_assignTestRunRoundRobin_shouldNotLoadTesterWorkload() {
+    BulkAssignmentDto assignmentDto = new BulkAssignmentDto(List.of(10L, 20L, 10L), null);
+
+    when(testRunRepository.existsById(1L)).thenReturn(true);
+    when(executionRepository.findUnassignedTestCases(1L))
+        .thenReturn(List.of(new TestCaseRow(1L, 100L), new TestCaseRow(2L, 100L)));
+    when(batchWriter.insertAssignments(eq(1L), anyList())).thenReturn(2);
+
+    BulkAssignmentResult result = executionService.assignTestRun(1L, assignmentDto);
+
+    assertEquals(new BulkAssignmentResult(2, Map.of(10L, 1, 20L, 1)), result);
+    verify(batchWriter).lockTestRun(1L);
+    verify(executionRepository, never()).countOpenExecutions(any());
+    verify(progressBroadcaster).executionsChanged(1L, List.of());
+  }
+
+  @Test
+  void test_assignTestRunLeastLoaded_shouldReportTestersWithoutAssignments() {
+    BulkAssignmentDto assignmentDto =
+        new BulkAssignmentDto(List.of(10L, 20L), AssignmentStrategy.LEAST_LOADED);
+
+    when(testRunRepository.existsById(1L)).thenReturn(true);
+    when(executionRepository.findUnassignedTestCases(1L))
+        .thenReturn(List.of(new TestCaseRow(1L, 100L)));
+    when(executionRepository.countOpenExecutions(List.of(10L, 20L)))
+        .thenReturn(List.of(new Load(20L, 5L)));
+    when(batchWriter.insertAssignments(eq(1L), anyList())).thenReturn(1);
+
+    BulkAssignmentResult result = executionService.assignTestRun(1L, assignmentDto);
+
+    assertEquals(new BulkAssignmentResult(1, Map.of(10L, 1, 20L, 0)), result);
+  }
+}
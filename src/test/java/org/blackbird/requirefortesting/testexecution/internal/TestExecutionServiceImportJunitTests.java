@@ -0,0 +1,62 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import org.blackbird.requirefortesting.shared.ImportResult;
+import org.blackbird.requirefortesting.testexecution.model.JunitMatchKey;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TestExecutionServiceImportJunitTests {
+
+  @Mock private TestRunRepository testRunRepository;
+  @Mock private JunitReportImporter junitReportImporter;
+  @Mock private TraceabilityCache traceabilityCache;
+  @Mock private TestRunProgressBroadcaster progressBroadcaster;
+  @InjectMocks private TestExecutionServiceImpl executionService;
+
+  private final InputStream report = new ByteArrayInputStream(new byte[0]);
+
+  @Test
+  void test_importWithoutMatchKey_shouldThrowException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> executionService.importJunitReport(1L, report, null, 2L));
+  }
+
+  @Test
+  void test_importIntoUnknownTestRun_shouldThrowException() {
+    when(testRunRepository.existsById(1L)).thenReturn(false);
+
+    assertThrows(
+        EntityNotFoundException.class,
+        () -> executionService.importJunitReport(1L, report, JunitMatchKey.NAME, 2L));
+    verify(junitReportImporter, never()).importReport(any(), any(), any(), any());
+  }
+
+  @Test
+  void test_importReport_shouldDelegateToImporter() {
+    ImportResult result = new ImportResult(3, 0, List.of());
+    when(testRunRepository.existsById(1L)).thenReturn(true);
+    when(junitReportImporter.importReport(report, JunitMatchKey.QUALIFIED_NAME, 1L, 2L))
+        .thenReturn(result);
+
+    assertSame(
+        result, executionService.importJunitReport(1L, report, JunitMatchKey.QUALIFIED_NAME, 2L));
+    verify(progressBroadcaster).executionsChanged(1L, List.of());
+  }
+}
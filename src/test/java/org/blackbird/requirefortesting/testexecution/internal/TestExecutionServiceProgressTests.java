@@ -0,0 +1,66 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.util.Optional;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TestExecutionRepository;
+import org.blackbird.requirefortesting.testexecution.model.SubmittedExecution;
+import org.blackbird.requirefortesting.testexecution.model.TestExecution;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunRepository;
+import org.blackbird.requirefortesting.testmanagement.model.TestCase;
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+import org.blackbird.requirefortesting.testmanagement.model.TestRun;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TestExecutionServiceProgressTests {
+
+  @Mock private TestExecutionRepository executionRepository;
+  @Mock private TestRunRepository testRunRepository;
+  @Mock private TestRunProgressBroadcaster progressBroadcaster;
+  @Mock private TraceabilityCache traceabilityCache;
+  @InjectMocks private TestExecutionServiceImpl executionService;
+
+  @Test
+  void test_streamProgressOfUnknownTestRun_shouldThrowException() {
+    when(testRunRepository.existsById(1L)).thenReturn(false);
+
+    assertThrows(EntityNotFoundException.class, () -> executionService.streamProgress(1L));
+    verify(progressBroadcaster, never()).subscribe(any());
+  }
+
+  @Test
+  void test_streamProgress_shouldSubscribe() {
+    when(testRunRepository.existsById(1L)).thenReturn(true);
+
+    executionService.streamProgress(1L);
+
+    verify(progressBroadcaster).subscribe(1L);
+  }
+
+  @Test
+  void test_submitResult_shouldPublishProgress() {
+    TestRun testRun = new TestRun();
+    testRun.setId(7L);
+    TestCase testCase = new TestCase();
+    testCase.setId(100L);
+    TestExecution execution =
+        TestExecution.builder().id(10L).testRun(testRun).testCase(testCase).testerId(1L).build();
+    when(executionRepository.findById(10L)).thenReturn(Optional.of(execution));
+    when(executionRepository.save(execution)).thenReturn(execution);
+
+    executionService.submitTestResult(10L, 1L, TestResult.PASSED, "ok");
+
+    verify(progressBroadcaster)
+        .executionSubmitted(7L, new SubmittedExecution(10L, 100L, 1L, TestResult.PASSED, "ok"));
+  }
+}
@@ -0,0 +1,111 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.blackbird.requirefortesting.testexecution.internal.repository.ExecutionOwner;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TestExecutionRepository;
+import org.blackbird.requirefortesting.testexecution.model.SubmissionStatus;
+import org.blackbird.requirefortesting.testexecution.model.SubmissionStatus.Outcome;
+import org.blackbird.requirefortesting.testexecution.model.SubmitTestResultDto;
+import org.blackbird.requirefortesting.testexecution.model.SubmittedExecution;
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TestExecutionServiceSubmitResultsTests {
+
+  @Mock private TestExecutionRepository executionRepository;
+  @Mock private TestExecutionBatchWriter batchWriter;
+  @Mock private ResultWriteBehindQueue resultQueue;
+  @Mock private TraceabilityCache traceabilityCache;
+  @Mock private TestRunProgressBroadcaster progressBroadcaster;
+  @InjectMocks private TestExecutionServiceImpl executionService;
+
+  private record Owner(Long getId, Long getTesterId, Long getTestRunId, Long getTestCaseId)
+      implements ExecutionOwner {}
+
+  @Test
+  void test_submitEmptyBatch_shouldThrowException() {
+    assertThrows(
+        IllegalArgumentException.class, () -> executionService.submitTestResults(List.of(), 1L));
+  }
+
+  @Test
+  void test_submitTooManyResults_shouldThrowException() {
+    List<SubmitTestResultDto> submissions =
+        Collections.nCopies(1_001, new SubmitTestResultDto(1L, TestResult.PASSED, null));
+
+    assertThrows(
+        IllegalArgumentException.class, () -> executionService.submitTestResults(submissions, 1L));
+  }
+
+  @Test
+  void test_submitResults_shouldOnlyUpdateOwnedExecutions() {
+    SubmitTestResultDto owned = new SubmitTestResultDto(10L, TestResult.PASSED, "ok");
+    SubmitTestResultDto foreign = new SubmitTestResultDto(11L, TestResult.FAILED, null);
+    SubmitTestResultDto missing = new SubmitTestResultDto(12L, TestResult.BLOCKED, null);
+    SubmitTestResultDto invalid = new SubmitTestResultDto(null, TestResult.SKIPPED, null);
+
+    when(executionRepository.findOwners(List.of(10L, 11L, 12L)))
+        .thenReturn(List.of(new Owner(10L, 1L, 7L, 100L), new Owner(11L, 2L, 7L, 101L)));
+
+    List<SubmissionStatus> statuses =
+        executionService.submitTestResults(
+            Arrays.asList(owned, foreign, missing, invalid, null), 1L);
+
+    assertEquals(
+        List.of(
+            new SubmissionStatus(0, 10L, Outcome.UPDATED),
+            new SubmissionStatus(1, 11L, Outcome.NOT_ASSIGNED),
+            new SubmissionStatus(2, 12L, Outcome.NOT_FOUND),
+            new SubmissionStatus(3, null, Outcome.INVALID),
+            new SubmissionStatus(4, null, Outcome.INVALID)),
+        statuses);
+    verify(batchWriter).updateResults(List.of(owned), 1L);
+    verify(progressBroadcaster)
+        .executionsChanged(
+            7L, List.of(new SubmittedExecution(10L, 100L, 1L, TestResult.PASSED, "ok")));
+  }
+
+  @Test
+  void test_submitResultsWithoutOwnedExecutions_shouldNotWrite() {
+    when(executionRepository.findOwners(List.of(11L)))
+        .thenReturn(List.of(new Owner(11L, 2L, 7L, 101L)));
+
+    executionService.submitTestResults(
+        List.of(new SubmitTestResultDto(11L, TestResult.PASSED, null)), 1L);
+
+    verify(batchWriter, never()).updateResults(any(), any());
+    verify(progressBroadcaster, never()).executionsChanged(any(), any());
+  }
+
+  @Test
+  void test_enqueueResultWithoutExecutionId_shouldThrowException() {
+    List<SubmitTestResultDto> submissions =
+        List.of(new SubmitTestResultDto(null, TestResult.PASSED, null));
+
+    assertThrows(
+        IllegalArgumentException.class, () -> executionService.enqueueTestResults(submissions, 1L));
+    verify(resultQueue, never()).enqueue(any());
+  }
+
+  @Test
+  void test_enqueueResults_shouldQueueThemForTheTester() {
+    executionService.enqueueTestResults(
+        List.of(new SubmitTestResultDto(10L, TestResult.FAILED, "crash")), 1L);
+
+    verify(resultQueue).enqueue(List.of(new QueuedResult(10L, 1L, TestResult.FAILED, "crash")));
+  }
+}
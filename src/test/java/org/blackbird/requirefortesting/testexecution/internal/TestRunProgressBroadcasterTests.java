@@ -0,0 +1,146 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TestExecutionRepository;
+import org.blackbird.requirefortesting.testexecution.model.SubmittedExecution;
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+class TestRunProgressBroadcasterTests {
+
+  @Mock private TestExecutionRepository executionRepository;
+
+  private TestRunProgressBroadcaster broadcaster;
+
+  /** Records its events; each write blocks until released, like a client that stopped reading. */
+  private static final class RecordingEmitter extends SseEmitter {
+    private final CountDownLatch released;
+    private final List<SseEventBuilder> events = new CopyOnWriteArrayList<>();
+    private volatile boolean completed;
+
+    private RecordingEmitter(CountDownLatch released) {
+      this.released = released;
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) {
+      events.add(builder);
+      try {
+        released.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    @Override
+    public synchronized void complete() {
+      completed = true;
+    }
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+      Thread.sleep(20);
+    }
+    assertThat(condition.getAsBoolean()).isTrue();
+  }
+
+  @BeforeEach
+  void setUp() {
+    broadcaster = new TestRunProgressBroadcaster(executionRepository, 60_000, 2, 50);
+  }
+
+  @AfterEach
+  void tearDown() {
+    broadcaster.shutdown();
+  }
+
+  @Test
+  void test_subscribeToWatchedRun_shouldReloadCounts() {
+    broadcaster.subscribe(7L);
+    broadcaster.subscribe(7L);
+
+    verify(executionRepository, timeout(1_000).times(2)).findResultCount(7L);
+  }
+
+  @Test
+  void test_executionsChanged_shouldReloadCounts() {
+    broadcaster.subscribe(7L);
+    verify(executionRepository, timeout(1_000)).findResultCount(7L);
+
+    broadcaster.executionSubmitted(
+        7L, new SubmittedExecution(10L, 100L, 1L, TestResult.PASSED, null));
+
+    verify(executionRepository, timeout(1_000).times(2)).findResultCount(7L);
+  }
+
+  @Test
+  void test_allRunsChanged_shouldReloadEveryWatchedRun() {
+    broadcaster.subscribe(7L);
+    broadcaster.subscribe(8L);
+    verify(executionRepository, timeout(1_000)).findResultCount(8L);
+
+    broadcaster.allRunsChanged();
+
+    verify(executionRepository, timeout(1_000).times(2)).findResultCount(7L);
+    verify(executionRepository, timeout(1_000).times(2)).findResultCount(8L);
+  }
+
+  @Test
+  void test_changesWithoutDashboard_shouldNotLoadCounts() {
+    broadcaster.executionsChanged(7L, List.of());
+    broadcaster.allRunsChanged();
+
+    verifyNoInteractions(executionRepository);
+  }
+
+  @Test
+  void test_stalledDashboard_shouldBeDroppedWithoutHoldingUpOthers() throws Exception {
+    CountDownLatch stalledClientReads = new CountDownLatch(1);
+    RecordingEmitter stalled = new RecordingEmitter(stalledClientReads);
+    RecordingEmitter healthy = new RecordingEmitter(new CountDownLatch(0));
+    broadcaster.subscribe(7L, stalled);
+    broadcaster.subscribe(7L, healthy);
+    await(() -> stalled.events.size() == 1 && healthy.events.size() == 1);
+    Thread.sleep(100);
+
+    broadcaster.executionsChanged(7L, List.of());
+    await(() -> healthy.events.size() == 2);
+    stalledClientReads.countDown();
+    await(() -> stalled.completed);
+    broadcaster.executionsChanged(7L, List.of());
+    await(() -> healthy.events.size() == 3);
+
+    assertThat(stalled.events).hasSize(1);
+    assertThat(healthy.completed).isFalse();
+  }
+
+  @Test
+  void test_shutdown_shouldCompleteDashboards() throws Exception {
+    RecordingEmitter emitter = new RecordingEmitter(new CountDownLatch(0));
+    broadcaster.subscribe(7L, emitter);
+    await(() -> emitter.events.size() == 1);
+
+    broadcaster.shutdown();
+
+    assertThat(emitter.completed).isTrue();
+    broadcaster.executionsChanged(7L, List.of());
+    verify(executionRepository, times(1)).findResultCount(7L);
+  }
+}
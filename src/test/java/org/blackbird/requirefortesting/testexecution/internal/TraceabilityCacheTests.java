@@ -0,0 +1,47 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class TraceabilityCacheTests {
+
+  private Cache matrix;
+  private TraceabilityCache traceabilityCache;
+
+  @BeforeEach
+  void setUp() {
+    ConcurrentMapCacheManager cacheManager =
+        new ConcurrentMapCacheManager(TraceabilityCacheConfig.TRACEABILITY_MATRIX);
+    matrix = cacheManager.getCache(TraceabilityCacheConfig.TRACEABILITY_MATRIX);
+    traceabilityCache = new TraceabilityCache(cacheManager);
+  }
+
+  private Object pageKey(String cursor, int size) {
+    return traceabilityCache.matrixKeys().generate(this, null, cursor, size);
+  }
+
+  @Test
+  void test_clear_shouldDropCachedPages() {
+    matrix.put(pageKey(null, 50), "page");
+    assertNotNull(matrix.get(pageKey(null, 50)));
+
+    traceabilityCache.clear();
+
+    assertNull(matrix.get(pageKey(null, 50)));
+  }
+
+  @Test
+  void test_loadFinishingAfterClear_shouldNotBeServed() {
+    // A load keyed before the change puts its (stale) page back after the clear
+    Object staleKey = pageKey("5", 50);
+    traceabilityCache.clear();
+    matrix.put(staleKey, "stale page");
+
+    assertNull(matrix.get(pageKey("5", 50)));
+  }
+}
@@ -0,0 +1,83 @@
+package org.blackbird.requirefortesting.testexecution.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.blackbird.requirefortesting.shared.CursorPage;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TestExecutionRepository;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TraceabilityRow;
+import org.blackbird.requirefortesting.testexecution.model.TraceabilityEntry;
+import org.blackbird.requirefortesting.testexecution.model.TracedTestCase;
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TraceabilityServiceTests {
+
+  @Mock private TestExecutionRepository executionRepository;
+  @InjectMocks private TraceabilityServiceImpl traceabilityService;
+
+  private record Row(
+      Long getRequirementId,
+      String getRequirementTitle,
+      Long getTestCaseId,
+      String getTestCaseTitle,
+      String getLatestResult)
+      implements TraceabilityRow {}
+
+  @Test
+  void test_getMatrix_shouldGroupTestCasesAndComputeCoverage() {
+    when(executionRepository.findTraceability(0, 3))
+        .thenReturn(
+            List.of(
+                new Row(1L, "Login", 10L, "Valid login", "PASSED"),
+                new Row(1L, "Login", 11L, "Wrong password", "FAILED"),
+                new Row(1L, "Login", 12L, "Locked account", null),
+                new Row(1L, "Login", 13L, "Expired password", "PASSED"),
+                new Row(2L, "Logout", null, null, null)));
+
+    CursorPage<TraceabilityEntry> page = traceabilityService.getTraceabilityMatrix(null, 2);
+
+    TraceabilityEntry login = page.items().get(0);
+    assertEquals(4, login.testCases().size());
+    assertEquals(new TracedTestCase(12L, "Locked account", null), login.testCases().get(2));
+    assertEquals(TestResult.FAILED, login.testCases().get(1).latestResult());
+    assertEquals(50.0, login.coverage());
+    assertEquals(new TraceabilityEntry(2L, "Logout", List.of(), 0), page.items().get(1));
+    assertNull(page.nextCursor());
+  }
+
+  @Test
+  void test_getMatrixWithMoreRequirements_shouldReturnCursor() {
+    when(executionRepository.findTraceability(5, 2))
+        .thenReturn(
+            List.of(
+                new Row(6L, "Search", 20L, "Find by title", "PASSED"),
+                new Row(7L, "Export", null, null, null)));
+
+    CursorPage<TraceabilityEntry> page = traceabilityService.getTraceabilityMatrix("5", 1);
+
+    assertEquals(1, page.items().size());
+    assertEquals(100.0, page.items().get(0).coverage());
+    assertEquals("6", page.nextCursor());
+  }
+
+  @Test
+  void test_getMatrixWithInvalidCursor_shouldThrowException() {
+    assertThrows(
+        IllegalArgumentException.class, () -> traceabilityService.getTraceabilityMatrix("abc", 10));
+  }
+
+  @Test
+  void test_getMatrixWithInvalidSize_shouldThrowException() {
+    assertThrows(
+        IllegalArgumentException.class, () -> traceabilityService.getTraceabilityMatrix(null, 0));
+  }
+}
@@ -1,13 +1,16 @@
 package org.blackbird.requirefortesting.testmanagement.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.blackbird.requirefortesting.SqlStatementAssertions.assertStatementCount;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
+import org.blackbird.requirefortesting.SqlStatementCountingConfiguration;
 import org.blackbird.requirefortesting.security.internal.JwtUtil;
 import org.blackbird.requirefortesting.security.model.User;
 import org.blackbird.requirefortesting.shared.Status;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -35,11 +39,13 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 @AutoConfigureMockMvc
 @Transactional
 @Testcontainers
+@Import(SqlStatementCountingConfiguration.class)
 class TestCaseControllerTests {
 
   @Autowired private MockMvc mockMvc;
   @Autowired private ObjectMapper objectMapper;
   @Autowired private JwtUtil jwtUtil;
+  @Autowired private EntityManager entityManager;
 
   @Autowired private TestCaseRepository testCaseRepository;
 
@@ -70,6 +76,12 @@ class TestCaseControllerTests {
     return jwtUtil.generateToken(testUser);
   }
 
+  /** Writes pending inserts so they are not counted as statements of the request under test. */
+  private void flushAndClear() {
+    entityManager.flush();
+    entityManager.clear();
+  }
+
   @Test
   @WithMockUser(username = "testuser", roles = "USER")
   void test_createTestCase_shouldPersistToDatabase() throws Exception {
@@ -170,15 +182,20 @@ class TestCaseControllerTests {
                 .createdBy(1L)
                 .build());
 
-    mockMvc
-        .perform(get("/api/test-cases/{id}", existing.getId()))
-        .andDo(print())
-        .andExpect(status().isOk())
-        .andExpect(jsonPath("$.title").value("Existing Test Case"))
-        .andExpect(jsonPath("$.description").value("Existing description"))
-        .andExpect(jsonPath("$.requirementId").value(1))
-        .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
-        .andExpect(jsonPath("$.id").value(existing.getId()));
+    flushAndClear();
+
+    assertStatementCount(
+        1,
+        () ->
+            mockMvc
+                .perform(get("/api/test-cases/{id}", existing.getId()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Existing Test Case"))
+                .andExpect(jsonPath("$.description").value("Existing description"))
+                .andExpect(jsonPath("$.requirementId").value(1))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.id").value(existing.getId())));
   }
 
   @Test
@@ -211,12 +228,17 @@ class TestCaseControllerTests {
             .createdBy(1L)
             .build());
 
-    mockMvc
-        .perform(get("/api/test-cases"))
-        .andDo(print())
-        .andExpect(status().isOk())
-        .andExpect(jsonPath("$").isArray())
-        .andExpect(jsonPath("$.length()").value(2));
+    flushAndClear();
+
+    assertStatementCount(
+        1,
+        () ->
+            mockMvc
+                .perform(get("/api/test-cases"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$.length()").value(2)));
 
     List<TestCase> all = testCaseRepository.findAll();
     assertThat(all).hasSize(2);
@@ -1,14 +1,17 @@
 package org.blackbird.requirefortesting.testmanagement.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.blackbird.requirefortesting.SqlStatementAssertions.assertStatementCount;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.blackbird.requirefortesting.SqlStatementCountingConfiguration;
 import org.blackbird.requirefortesting.security.internal.JwtUtil;
 import org.blackbird.requirefortesting.security.model.User;
 import org.blackbird.requirefortesting.shared.Status;
@@ -22,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -39,11 +43,13 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 @AutoConfigureMockMvc
 @Transactional
 @Testcontainers
+@Import(SqlStatementCountingConfiguration.class)
 class TestRunControllerTests {
 
   @Autowired private MockMvc mockMvc;
   @Autowired private ObjectMapper objectMapper;
   @Autowired private JwtUtil jwtUtil;
+  @Autowired private EntityManager entityManager;
 
   @Autowired private TestRunRepository testRunRepository;
   @Autowired private TestCaseRepository testCaseRepository;
@@ -75,6 +81,12 @@ class TestRunControllerTests {
     return jwtUtil.generateToken(testUser);
   }
 
+  /** Writes pending inserts so they are not counted as statements of the request under test. */
+  private void flushAndClear() {
+    entityManager.flush();
+    entityManager.clear();
+  }
+
   @Test
   @WithMockUser(username = "testuser", roles = "USER")
   void test_createTestRun_shouldPersistToDatabase() throws Exception {
@@ -188,22 +200,31 @@ class TestRunControllerTests {
                 .createdBy(1L)
                 .build());
 
-    mockMvc
-        .perform(get("/api/test-runs/{id}", existing.getId()))
-        .andDo(print())
-        .andExpect(status().isOk())
-        .andExpect(jsonPath("$.title").value("Existing Test Run"))
-        .andExpect(jsonPath("$.status").value("PLANNED"))
-        .andExpect(jsonPath("$.id").value(existing.getId()));
+    flushAndClear();
+
+    // run, test case counts, result counts, first page of test cases
+    assertStatementCount(
+        4,
+        () ->
+            mockMvc
+                .perform(get("/api/test-runs/{id}", existing.getId()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Existing Test Run"))
+                .andExpect(jsonPath("$.status").value("PLANNED"))
+                .andExpect(jsonPath("$.id").value(existing.getId())));
   }
 
   @Test
   @WithMockUser(username = "testuser", roles = "USER")
   void test_getTestRunById_shouldReturn404WhenNotFound() throws Exception {
-    mockMvc
-        .perform(get("/api/test-runs/{id}", 99999L))
-        .andDo(print())
-        .andExpect(status().isNotFound());
+    assertStatementCount(
+        1,
+        () ->
+            mockMvc
+                .perform(get("/api/test-runs/{id}", 99999L))
+                .andDo(print())
+                .andExpect(status().isNotFound()));
   }
 
   @Test
@@ -232,12 +253,18 @@ class TestRunControllerTests {
             .createdBy(1L)
             .build());
 
-    mockMvc
-        .perform(get("/api/test-runs"))
-        .andDo(print())
-        .andExpect(status().isOk())
-        .andExpect(jsonPath("$").isArray())
-        .andExpect(jsonPath("$.length()").value(2));
+    flushAndClear();
+
+    // runs, test case counts and result counts, independent of the number of runs
+    assertStatementCount(
+        3,
+        () ->
+            mockMvc
+                .perform(get("/api/test-runs"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$.length()").value(2)));
 
     List<TestRun> all = testRunRepository.findAll();
     assertThat(all).hasSize(2);
@@ -269,20 +296,27 @@ class TestRunControllerTests {
                 .createdBy(1L)
                 .build());
 
-    mockMvc
-        .perform(
-            post(
-                "/api/test-runs/{testRunId}/test-cases/{testCaseId}",
-                testRun.getId(),
-                testCase.getId()))
-        .andDo(print())
-        .andExpect(status().isNoContent());
+    flushAndClear();
+
+    // two existence checks and the insert into the join table
+    assertStatementCount(
+        3,
+        () ->
+            mockMvc
+                .perform(
+                    post(
+                        "/api/test-runs/{testRunId}/test-cases/{testCaseId}",
+                        testRun.getId(),
+                        testCase.getId()))
+                .andDo(print())
+                .andExpect(status().isNoContent()));
 
     // Verify the relationship was created
     mockMvc
         .perform(get("/api/test-runs/{id}", testRun.getId()))
         .andDo(print())
         .andExpect(status().isOk())
+        .andExpect(jsonPath("$.testCaseCount").value(1))
         .andExpect(jsonPath("$.testCases").isArray())
         .andExpect(jsonPath("$.testCases.length()").value(1))
         .andExpect(jsonPath("$.testCases[0].id").value(testCase.getId()));
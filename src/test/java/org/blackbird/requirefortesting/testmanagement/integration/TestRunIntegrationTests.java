@@ -1,17 +1,34 @@
 package org.blackbird.requirefortesting.testmanagement.integration;
 
+import static org.blackbird.requirefortesting.SqlStatementAssertions.assertStatementCount;
 import static org.junit.jupiter.api.Assertions.*;
 
+import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.blackbird.requirefortesting.SqlStatementCountingConfiguration;
 import org.blackbird.requirefortesting.TestPostgreSQLContainer;
+import org.blackbird.requirefortesting.shared.Status;
+import org.blackbird.requirefortesting.testexecution.internal.repository.TestExecutionRepository;
+import org.blackbird.requirefortesting.testexecution.model.TestExecution;
 import org.blackbird.requirefortesting.testmanagement.internal.TestRunServiceImpl;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestCaseRepository;
 import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunRepository;
 import org.blackbird.requirefortesting.testmanagement.model.CreateTestRunDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestCase;
+import org.blackbird.requirefortesting.testmanagement.model.TestResult;
 import org.blackbird.requirefortesting.testmanagement.model.TestRun;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunDetailDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunMembershipDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunMembershipResult;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunResultCounts;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunSummaryDto;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -19,9 +36,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
+@Import(SqlStatementCountingConfiguration.class)
 public class TestRunIntegrationTests {
   @Autowired private TestRunRepository testRunRepository;
+  @Autowired private TestCaseRepository testCaseRepository;
   @Autowired private TestRunServiceImpl testRunService;
+  @Autowired private TestExecutionRepository executionRepository;
+  @Autowired private EntityManager entityManager;
 
   @DynamicPropertySource
   static void registerPgProperties(DynamicPropertyRegistry registry) {
@@ -235,4 +256,251 @@ public class TestRunIntegrationTests {
     assertNotNull(createdTestRun.getId());
     assertEquals("Minimal Duration", createdTestRun.getTitle());
   }
+
+  @Test
+  @Transactional
+  void test_getAllTestRuns_shouldNotQueryPerTestRun() throws Exception {
+    List<Long> testCaseIds =
+        testCaseRepository
+            .saveAll(
+                List.of(
+                    TestCase.builder()
+                        .title("Login")
+                        .requirementId(1L)
+                        .status(Status.OPEN)
+                        .createdBy(1L)
+                        .build(),
+                    TestCase.builder()
+                        .title("Logout")
+                        .requirementId(1L)
+                        .status(Status.CLOSED)
+                        .createdBy(1L)
+                        .build()))
+            .stream()
+            .map(TestCase::getId)
+            .toList();
+    LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+    for (int i = 0; i < 3; i++) {
+      testRunService.create(
+          new CreateTestRunDto("Run " + i, null, startTime, startTime.plusDays(1), testCaseIds),
+          1L);
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    List<TestRunSummaryDto> summaries = assertStatementCount(3, testRunService::getAllTestRuns);
+
+    assertTrue(summaries.stream().anyMatch(summary -> summary.testCaseCount() == 2));
+  }
+
+  @Test
+  @Transactional
+  void test_getTestRunById_shouldUseConstantStatementCount() throws Exception {
+    LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+    TestRun testRun =
+        testRunService.create(
+            new CreateTestRunDto("Paged", null, startTime, startTime.plusDays(1), null), 1L);
+    for (int i = 0; i < 5; i++) {
+      testCaseRepository.save(
+          TestCase.builder()
+              .title("Case " + i)
+              .requirementId(1L)
+              .status(Status.OPEN)
+              .createdBy(1L)
+              .build());
+    }
+    entityManager.flush();
+    testCaseRepository.findAll().forEach(testCase -> testRun.getTestCases().add(testCase));
+    entityManager.flush();
+    entityManager.clear();
+
+    TestRunDetailDto detail =
+        assertStatementCount(4, () -> testRunService.getTestRunById(testRun.getId(), null, 2));
+
+    assertEquals(2, detail.testCases().size());
+    assertNotNull(detail.nextCursor());
+  }
+
+  @Test
+  @Transactional
+  void test_addTestCasesByIds_shouldCountDuplicatesAndUnknownIds() {
+    TestRun testRun = createEmptyTestRun();
+    List<Long> testCaseIds = saveTestCases(9_001L, Status.OPEN, 2);
+    long unknownId = testCaseIds.get(1) + 1_000_000;
+
+    TestRunMembershipResult first =
+        testRunService.addTestCases(
+            testRun.getId(),
+            new TestRunMembershipDto(
+                List.of(testCaseIds.get(0), testCaseIds.get(0), unknownId), null, null));
+    TestRunMembershipResult second =
+        testRunService.addTestCases(
+            testRun.getId(), new TestRunMembershipDto(testCaseIds, null, null));
+
+    assertEquals(new TestRunMembershipResult(1, 0, 0, 1), first);
+    assertEquals(new TestRunMembershipResult(1, 0, 1, 0), second);
+    assertEquals(2, countMembers(testRun.getId()));
+  }
+
+  @Test
+  @Transactional
+  void test_addTestCasesBySelector_shouldAddOnlyMatchingTestCases() {
+    TestRun testRun = createEmptyTestRun();
+    saveTestCases(9_002L, Status.OPEN, 3);
+    saveTestCases(9_002L, Status.CLOSED, 2);
+    saveTestCases(9_003L, Status.OPEN, 1);
+
+    TestRunMembershipResult result =
+        testRunService.addTestCases(
+            testRun.getId(), new TestRunMembershipDto(null, 9_002L, Status.OPEN));
+
+    assertEquals(new TestRunMembershipResult(3, 0, 0, 0), result);
+    assertEquals(3, countMembers(testRun.getId()));
+  }
+
+  @Test
+  @Transactional
+  void test_removeTestCasesByIds_shouldCountNonMembersAndUnknownIds() {
+    TestRun testRun = createEmptyTestRun();
+    List<Long> testCaseIds = saveTestCases(9_004L, Status.OPEN, 3);
+    testRunService.addTestCases(
+        testRun.getId(), new TestRunMembershipDto(testCaseIds.subList(0, 2), null, null));
+    long unknownId = testCaseIds.get(2) + 1_000_000;
+
+    TestRunMembershipResult result =
+        testRunService.removeTestCases(
+            testRun.getId(),
+            new TestRunMembershipDto(
+                List.of(testCaseIds.get(0), testCaseIds.get(2), unknownId), null, null));
+
+    assertEquals(new TestRunMembershipResult(0, 1, 1, 1), result);
+    assertEquals(1, countMembers(testRun.getId()));
+  }
+
+  @Test
+  @Transactional
+  void test_executionWrites_shouldKeepResultCountsInStep() {
+    TestRun testRun = createEmptyTestRun();
+    TestRun otherTestRun = createEmptyTestRun();
+    List<Long> testCaseIds = saveTestCases(9_005L, Status.OPEN, 3);
+    List<TestExecution> executions = new ArrayList<>();
+    for (Long testCaseId : testCaseIds) {
+      executions.add(saveExecution(testRun, testCaseId));
+    }
+    saveExecution(otherTestRun, testCaseIds.get(0));
+    entityManager.flush();
+
+    assertEquals(new TestRunResultCounts(3, 0, 0, 0, 0, 3), resultCounts(testRun.getId()));
+
+    executions.get(0).setTestResult(TestResult.PASSED);
+    executions.get(1).setTestResult(TestResult.FAILED);
+    entityManager.flush();
+
+    assertEquals(new TestRunResultCounts(3, 1, 1, 0, 0, 1), resultCounts(testRun.getId()));
+
+    executions.get(1).setTestResult(TestResult.BLOCKED);
+    executionRepository.delete(executions.get(2));
+    entityManager.flush();
+
+    assertEquals(new TestRunResultCounts(2, 1, 0, 1, 0, 0), resultCounts(testRun.getId()));
+
+    // One statement over two runs, as batch submissions and write-behind flushes issue them
+    entityManager
+        .createNativeQuery(
+            "UPDATE test_execution SET test_result = 'SKIPPED' WHERE test_run_id IN (?1, ?2)")
+        .setParameter(1, testRun.getId())
+        .setParameter(2, otherTestRun.getId())
+        .executeUpdate();
+    entityManager.clear();
+
+    assertEquals(new TestRunResultCounts(2, 0, 0, 0, 2, 0), resultCounts(testRun.getId()));
+    assertEquals(new TestRunResultCounts(1, 0, 0, 0, 1, 0), resultCounts(otherTestRun.getId()));
+  }
+
+  @Test
+  @Transactional
+  void test_upsertAssignment_shouldCountOnlyNewAssignments() {
+    TestRun testRun = createEmptyTestRun();
+    List<Long> testCaseIds = saveTestCases(9_006L, Status.OPEN, 2);
+
+    TestExecution created =
+        executionRepository.upsertAssignment(testRun.getId(), testCaseIds.get(0), 1L);
+    TestExecution existing =
+        executionRepository.upsertAssignment(testRun.getId(), testCaseIds.get(0), 1L);
+    executionRepository.upsertAssignment(testRun.getId(), testCaseIds.get(1), 1L);
+
+    assertEquals(created.getId(), existing.getId());
+    assertEquals(new TestRunResultCounts(2, 0, 0, 0, 0, 2), resultCounts(testRun.getId()));
+  }
+
+  @Test
+  @Transactional
+  void test_rebuildResultCounts_shouldRepairDriftedCounters() {
+    TestRun testRun = createEmptyTestRun();
+    List<Long> testCaseIds = saveTestCases(9_007L, Status.OPEN, 2);
+    saveExecution(testRun, testCaseIds.get(0)).setTestResult(TestResult.PASSED);
+    saveExecution(testRun, testCaseIds.get(1));
+    entityManager.flush();
+    entityManager
+        .createNativeQuery(
+            "UPDATE test_run_result_count SET total = 40, passed = 0, not_run = 7"
+                + " WHERE test_run_id = ?1")
+        .setParameter(1, testRun.getId())
+        .executeUpdate();
+
+    int rebuilt = testRunService.rebuildResultCounts();
+
+    assertTrue(rebuilt >= 1);
+    assertEquals(new TestRunResultCounts(2, 1, 0, 0, 0, 1), resultCounts(testRun.getId()));
+  }
+
+  private TestRun createEmptyTestRun() {
+    LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+    TestRun testRun =
+        testRunService.create(
+            new CreateTestRunDto("Bulk", null, startTime, startTime.plusDays(1), null), 1L);
+    entityManager.flush();
+    return testRun;
+  }
+
+  private List<Long> saveTestCases(Long requirementId, Status status, int count) {
+    List<Long> testCaseIds = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      testCaseIds.add(
+          testCaseRepository
+              .save(
+                  TestCase.builder()
+                      .title("Case " + i)
+                      .requirementId(requirementId)
+                      .status(status)
+                      .createdBy(1L)
+                      .build())
+              .getId());
+    }
+    entityManager.flush();
+    return testCaseIds;
+  }
+
+  private TestExecution saveExecution(TestRun testRun, Long testCaseId) {
+    return executionRepository.save(
+        TestExecution.builder()
+            .testRun(testRun)
+            .testCase(entityManager.getReference(TestCase.class, testCaseId))
+            .testerId(1L)
+            .build());
+  }
+
+  private TestRunResultCounts resultCounts(Long testRunId) {
+    entityManager.flush();
+    return testRunService.getTestRunById(testRunId, null, 1).results();
+  }
+
+  private long countMembers(Long testRunId) {
+    return ((Number)
+            entityManager
+                .createNativeQuery("SELECT count(*) FROM test_run_test_case WHERE test_run_id = ?1")
+                .setParameter(1, testRunId)
+                .getSingleResult())
+        .longValue();
+  }
 }
@@ -0,0 +1,59 @@
+package org.blackbird.requirefortesting.testmanagement.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.blackbird.requirefortesting.shared.BulkResult;
+import org.blackbird.requirefortesting.shared.BulkResult.BulkRowError;
+import org.blackbird.requirefortesting.shared.Status;
+import org.blackbird.requirefortesting.testmanagement.internal.TestCaseServiceImpl;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestCaseRepository;
+import org.blackbird.requirefortesting.testmanagement.model.BulkTestCaseDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class TestCaseServiceBulkTests {
+
+  @Mock private TestCaseRepository testCaseRepository;
+  @Mock private EntityManager entityManager;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @InjectMocks private TestCaseServiceImpl testCaseService;
+
+  @Test
+  void test_bulkTestCases_withMixedRows_persistsValidRowsAndReportsErrors() {
+    TestCase closed =
+        TestCase.builder().id(7L).title("Closed").requirementId(1L).status(Status.CLOSED).build();
+    when(testCaseRepository.findAllById(List.of(7L))).thenReturn(List.of(closed));
+
+    List<BulkTestCaseDto> rows =
+        List.of(
+            new BulkTestCaseDto(null, "Login works", "Steps", 1L, null),
+            new BulkTestCaseDto(null, "", "No title", 1L, null),
+            new BulkTestCaseDto(null, "No requirement", null, null, null),
+            new BulkTestCaseDto(7L, "Reopen", null, 1L, null));
+
+    BulkResult result = testCaseService.bulkCreateOrUpdateTestCases(rows, 1L);
+
+    assertThat(result.created()).isEqualTo(1);
+    assertThat(result.updated()).isZero();
+    assertThat(result.errors()).extracting(BulkRowError::index).containsExactly(1, 2, 3);
+    verify(entityManager).flush();
+  }
+
+  @Test
+  void test_bulkTestCases_withNullList_throwsException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> testCaseService.bulkCreateOrUpdateTestCases(null, 1L));
+  }
+}
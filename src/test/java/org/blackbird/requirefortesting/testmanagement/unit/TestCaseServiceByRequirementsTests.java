@@ -0,0 +1,77 @@
+package org.blackbird.requirefortesting.testmanagement.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.blackbird.requirefortesting.testmanagement.internal.TestCaseServiceImpl;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestCaseRepository;
+import org.blackbird.requirefortesting.testmanagement.model.RequirementTestCasesDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestCase;
+import org.blackbird.requirefortesting.testmanagement.model.TestCaseDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TestCaseServiceByRequirementsTests {
+
+  @Mock private TestCaseRepository testCaseRepository;
+  @InjectMocks private TestCaseServiceImpl testCaseService;
+
+  @Test
+  void test_getTestCasesByRequirementIds_groupsInRequestOrder() {
+    when(testCaseRepository.findTestCasesByRequirementIds(List.of(2L, 1L, 3L), 3))
+        .thenReturn(
+            List.of(testCase(10L, 1L), testCase(20L, 2L), testCase(21L, 2L), testCase(22L, 2L)));
+
+    List<RequirementTestCasesDto> result =
+        testCaseService.getTestCasesByRequirementIds(List.of(2L, 1L, 2L, 3L), 2);
+
+    assertThat(result)
+        .extracting(RequirementTestCasesDto::requirementId)
+        .containsExactly(2L, 1L, 3L);
+    assertThat(result.get(0).testCases()).extracting(TestCaseDto::id).containsExactly(20L, 21L);
+    assertThat(result.get(0).truncated()).isTrue();
+    assertThat(result.get(1).testCases()).extracting(TestCaseDto::id).containsExactly(10L);
+    assertThat(result.get(1).truncated()).isFalse();
+    assertThat(result.get(2).testCases()).isEmpty();
+    verify(testCaseRepository).findTestCasesByRequirementIds(List.of(2L, 1L, 3L), 3);
+  }
+
+  @Test
+  void test_getTestCasesByRequirementIds_withNullId_throwsException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> testCaseService.getTestCasesByRequirementIds(Arrays.asList(1L, null), 20));
+  }
+
+  @Test
+  void test_getTestCasesByRequirementIds_withTooManyIds_throwsException() {
+    List<Long> ids = LongStream.rangeClosed(1, 501).boxed().toList();
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> testCaseService.getTestCasesByRequirementIds(ids, 20));
+  }
+
+  @Test
+  void test_getTestCasesByRequirementIds_withInvalidLimit_throwsException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> testCaseService.getTestCasesByRequirementIds(List.of(1L), 0));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> testCaseService.getTestCasesByRequirementIds(List.of(1L), 101));
+  }
+
+  private static TestCase testCase(Long id, Long requirementId) {
+    return TestCase.builder().id(id).title("Test case " + id).requirementId(requirementId).build();
+  }
+}
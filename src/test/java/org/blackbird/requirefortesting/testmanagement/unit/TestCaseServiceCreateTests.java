@@ -14,11 +14,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class TestCaseServiceCreateTests {
 
   @Mock private TestCaseRepository testManagementRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
   @InjectMocks private TestCaseServiceImpl testManagementService;
 
   @Test
@@ -15,11 +15,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class TestCaseServiceDeleteTests {
 
   @Mock private TestCaseRepository testCaseRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
   @InjectMocks private TestCaseServiceImpl testManagementService;
 
   @Test
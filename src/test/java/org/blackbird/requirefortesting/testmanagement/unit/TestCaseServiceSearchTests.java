@@ -0,0 +1,48 @@
+package org.blackbird.requirefortesting.testmanagement.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.blackbird.requirefortesting.shared.SearchHit;
+import org.blackbird.requirefortesting.shared.SearchProjection;
+import org.blackbird.requirefortesting.testmanagement.internal.TestCaseServiceImpl;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestCaseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TestCaseServiceSearchTests {
+
+  @Mock private TestCaseRepository testCaseRepository;
+  @InjectMocks private TestCaseServiceImpl testCaseService;
+
+  @Test
+  void test_searchTestCases_withValidQuery_returnsHits() {
+    SearchProjection projection = mock(SearchProjection.class);
+    when(projection.toSearchHit())
+        .thenReturn(new SearchHit(5L, "Checkout", "<mark>checkout</mark> flow", 0.5));
+    when(testCaseRepository.search("checkout", 10, 0L)).thenReturn(List.of(projection));
+
+    List<SearchHit> hits = testCaseService.searchTestCases("checkout", 0, 10);
+
+    assertThat(hits).hasSize(1);
+    assertThat(hits.get(0).id()).isEqualTo(5L);
+  }
+
+  @Test
+  void test_searchTestCases_withEmptyQuery_throwsException() {
+    assertThrows(IllegalArgumentException.class, () -> testCaseService.searchTestCases("", 0, 10));
+  }
+
+  @Test
+  void test_searchTestCases_withTooLargePage_throwsException() {
+    assertThrows(
+        IllegalArgumentException.class, () -> testCaseService.searchTestCases("checkout", 0, 500));
+  }
+}
@@ -2,16 +2,14 @@ package org.blackbird.requirefortesting.testmanagement.unit;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.persistence.EntityNotFoundException;
-import java.util.Optional;
-import java.util.Set;
 import org.blackbird.requirefortesting.testmanagement.internal.TestRunServiceImpl;
 import org.blackbird.requirefortesting.testmanagement.internal.repository.TestCaseRepository;
 import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunRepository;
-import org.blackbird.requirefortesting.testmanagement.model.TestCase;
-import org.blackbird.requirefortesting.testmanagement.model.TestRun;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -35,10 +33,11 @@ public class TestRunServiceAddToTestCaseTests {
     Long testRunId = 1L;
     Long testCaseId = 10L;
 
-    when(testRunRepository.findById(testRunId)).thenReturn(Optional.empty());
+    when(testRunRepository.existsById(testRunId)).thenReturn(false);
 
     assertThrows(
         EntityNotFoundException.class, () -> testRunService.addTestCase(testRunId, testCaseId));
+    verify(testRunRepository, never()).addTestCase(testRunId, testCaseId);
   }
 
   @Test
@@ -46,27 +45,22 @@ public class TestRunServiceAddToTestCaseTests {
     Long testRunId = 1L;
     Long testCaseId = 10L;
 
-    when(testRunRepository.findById(testRunId)).thenReturn(Optional.of(new TestRun()));
-    when(testCaseRepository.findById(testCaseId)).thenReturn(Optional.empty());
+    when(testRunRepository.existsById(testRunId)).thenReturn(true);
+    when(testCaseRepository.existsById(testCaseId)).thenReturn(false);
 
     assertThrows(
         EntityNotFoundException.class, () -> testRunService.addTestCase(testRunId, testCaseId));
+    verify(testRunRepository, never()).addTestCase(testRunId, testCaseId);
   }
 
   @Test
   void test_addDuplicateTestCaseToTestRun_shouldThrowExceptionOnDuplicateEntry() {
     Long testRunId = 1L;
     Long testCaseId = 10L;
-    Long createdById = 1L;
 
-    TestRun testRun =
-        TestRun.builder().title("Smoke Test Run").id(testRunId).createdBy(createdById).build();
-
-    TestCase testCase = TestCase.builder().id(testCaseId).title("Smoke Test Case").build();
-    testRun.setTestCases(Set.of(testCase));
-
-    when(testRunRepository.findById(testRunId)).thenReturn(Optional.of(testRun));
-    when(testCaseRepository.findById(testCaseId)).thenReturn(Optional.of(testCase));
+    when(testRunRepository.existsById(testRunId)).thenReturn(true);
+    when(testCaseRepository.existsById(testCaseId)).thenReturn(true);
+    when(testRunRepository.addTestCase(testRunId, testCaseId)).thenReturn(0);
 
     assertThrows(
         IllegalStateException.class, () -> testRunService.addTestCase(testRunId, testCaseId));
@@ -76,16 +70,12 @@ public class TestRunServiceAddToTestCaseTests {
   void test_addTestCaseToTestRun_shouldAddTestCaseToTestRun() {
     Long testRunId = 1L;
     Long testCaseId = 10L;
-    Long createdById = 1L;
-
-    TestRun testRun =
-        TestRun.builder().title("Smoke Test Run").id(testRunId).createdBy(createdById).build();
-
-    TestCase testCase = TestCase.builder().id(testCaseId).title("Smoke Test Case").build();
 
-    when(testRunRepository.findById(testRunId)).thenReturn(Optional.of(testRun));
-    when(testCaseRepository.findById(testCaseId)).thenReturn(Optional.of(testCase));
+    when(testRunRepository.existsById(testRunId)).thenReturn(true);
+    when(testCaseRepository.existsById(testCaseId)).thenReturn(true);
+    when(testRunRepository.addTestCase(testRunId, testCaseId)).thenReturn(1);
 
     assertDoesNotThrow(() -> testRunService.addTestCase(testRunId, testCaseId));
+    verify(testRunRepository, never()).findById(testRunId);
   }
 }
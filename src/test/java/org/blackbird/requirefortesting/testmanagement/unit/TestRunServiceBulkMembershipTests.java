@@ -0,0 +1,104 @@
+package org.blackbird.requirefortesting.testmanagement.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.blackbird.requirefortesting.shared.Status;
+import org.blackbird.requirefortesting.testmanagement.internal.TestRunMembershipWriter;
+import org.blackbird.requirefortesting.testmanagement.internal.TestRunServiceImpl;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestCaseRepository;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunRepository;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunMembershipDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunMembershipResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TestRunServiceBulkMembershipTests {
+
+  @Mock private TestCaseRepository testCaseRepository;
+  @Mock private TestRunRepository testRunRepository;
+  @Mock private TestRunMembershipWriter testRunMembershipWriter;
+  @InjectMocks private TestRunServiceImpl testRunService;
+
+  @Test
+  void test_addTestCasesWithNullTestRunId_shouldThrowException() {
+    TestRunMembershipDto selection = new TestRunMembershipDto(List.of(1L), null, null);
+
+    assertThrows(
+        IllegalArgumentException.class, () -> testRunService.addTestCases(null, selection));
+  }
+
+  @Test
+  void test_addTestCasesWithoutIdsOrSelector_shouldThrowException() {
+    TestRunMembershipDto selection = new TestRunMembershipDto(List.of(), null, null);
+
+    assertThrows(IllegalArgumentException.class, () -> testRunService.addTestCases(1L, selection));
+    verify(testRunMembershipWriter, never()).add(any(), any());
+  }
+
+  @Test
+  void test_addTestCasesWithIdsAndSelector_shouldThrowException() {
+    TestRunMembershipDto selection = new TestRunMembershipDto(List.of(1L), 5L, null);
+
+    assertThrows(IllegalArgumentException.class, () -> testRunService.addTestCases(1L, selection));
+  }
+
+  @Test
+  void test_addTestCasesWithNullId_shouldThrowException() {
+    TestRunMembershipDto selection = new TestRunMembershipDto(Arrays.asList(1L, null), null, null);
+
+    assertThrows(IllegalArgumentException.class, () -> testRunService.addTestCases(1L, selection));
+  }
+
+  @Test
+  void test_addTooManyTestCases_shouldThrowException() {
+    List<Long> ids = LongStream.rangeClosed(1, 50_001).boxed().toList();
+    TestRunMembershipDto selection = new TestRunMembershipDto(ids, null, null);
+
+    assertThrows(IllegalArgumentException.class, () -> testRunService.addTestCases(1L, selection));
+  }
+
+  @Test
+  void test_addTestCasesToNotFoundTestRun_shouldThrowException() {
+    TestRunMembershipDto selection = new TestRunMembershipDto(null, null, Status.OPEN);
+
+    when(testRunRepository.existsById(1L)).thenReturn(false);
+
+    assertThrows(EntityNotFoundException.class, () -> testRunService.addTestCases(1L, selection));
+    verify(testRunMembershipWriter, never()).add(any(), any());
+  }
+
+  @Test
+  void test_addTestCasesByIds_shouldReturnWriterCounts() {
+    TestRunMembershipDto selection = new TestRunMembershipDto(List.of(1L, 2L, 3L), null, null);
+    TestRunMembershipResult expected = new TestRunMembershipResult(1, 0, 1, 1);
+
+    when(testRunRepository.existsById(1L)).thenReturn(true);
+    when(testRunMembershipWriter.add(1L, selection)).thenReturn(expected);
+
+    assertEquals(expected, testRunService.addTestCases(1L, selection));
+  }
+
+  @Test
+  void test_removeTestCasesBySelector_shouldReturnWriterCounts() {
+    TestRunMembershipDto selection = new TestRunMembershipDto(null, 5L, Status.OPEN);
+    TestRunMembershipResult expected = new TestRunMembershipResult(0, 4, 0, 0);
+
+    when(testRunRepository.existsById(1L)).thenReturn(true);
+    when(testRunMembershipWriter.remove(1L, selection)).thenReturn(expected);
+
+    assertEquals(expected, testRunService.removeTestCases(1L, selection));
+  }
+}
@@ -0,0 +1,106 @@
+package org.blackbird.requirefortesting.testmanagement.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.blackbird.requirefortesting.testmanagement.internal.TestRunServiceImpl;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestCaseRepository;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunRepository;
+import org.blackbird.requirefortesting.testmanagement.model.CloneTestRunDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestRun;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunCloneResult;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunClonedEvent;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+public class TestRunServiceCloneTests {
+
+  @Mock private TestCaseRepository testCaseRepository;
+  @Mock private TestRunRepository testRunRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @InjectMocks private TestRunServiceImpl testRunService;
+
+  private final LocalDateTime startDate = LocalDateTime.now().plusDays(1);
+  private final LocalDateTime endDate = LocalDateTime.now().plusDays(14);
+
+  @Test
+  void test_cloneTestRunWithNullId_shouldThrowException() {
+    CloneTestRunDto cloneDto = new CloneTestRunDto(null, null, startDate, endDate, false);
+
+    assertThrows(
+        IllegalArgumentException.class, () -> testRunService.cloneTestRun(null, cloneDto, 1L));
+  }
+
+  @Test
+  void test_cloneNotFoundTestRun_shouldThrowException() {
+    CloneTestRunDto cloneDto = new CloneTestRunDto(null, null, startDate, endDate, false);
+
+    when(testRunRepository.findById(1L)).thenReturn(Optional.empty());
+
+    assertThrows(
+        EntityNotFoundException.class, () -> testRunService.cloneTestRun(1L, cloneDto, 1L));
+  }
+
+  @Test
+  void test_cloneTestRunWithoutDates_shouldThrowException() {
+    CloneTestRunDto cloneDto = new CloneTestRunDto(null, null, null, null, false);
+
+    when(testRunRepository.findById(1L)).thenReturn(Optional.of(sourceTestRun()));
+
+    assertThrows(
+        IllegalArgumentException.class, () -> testRunService.cloneTestRun(1L, cloneDto, 1L));
+    verify(testRunRepository, never()).copyTestCases(any(), any());
+  }
+
+  @Test
+  void test_cloneTestRun_shouldCopyMetadataAndTestCases() {
+    CloneTestRunDto cloneDto = new CloneTestRunDto(null, null, startDate, endDate, true);
+
+    when(testRunRepository.findById(1L)).thenReturn(Optional.of(sourceTestRun()));
+    when(testRunRepository.saveAndFlush(any(TestRun.class)))
+        .thenAnswer(
+            invocation -> {
+              TestRun clone = invocation.getArgument(0);
+              clone.setId(2L);
+              return clone;
+            });
+    when(testRunRepository.copyTestCases(1L, 2L)).thenReturn(20_000);
+
+    TestRunCloneResult result = testRunService.cloneTestRun(1L, cloneDto, 7L);
+
+    assertEquals(new TestRunCloneResult(2L, 20_000), result);
+    ArgumentCaptor<TestRun> clone = ArgumentCaptor.forClass(TestRun.class);
+    verify(testRunRepository).saveAndFlush(clone.capture());
+    assertEquals("Regression", clone.getValue().getTitle());
+    assertEquals("Sprint regression", clone.getValue().getDescription());
+    assertEquals(TestRunStatus.PLANNED, clone.getValue().getStatus());
+    assertEquals(7L, clone.getValue().getCreatedBy());
+    verify(eventPublisher).publishEvent(new TestRunClonedEvent(1L, 2L, true));
+  }
+
+  private TestRun sourceTestRun() {
+    return TestRun.builder()
+        .id(1L)
+        .title("Regression")
+        .description("Sprint regression")
+        .startTime(LocalDateTime.now().minusDays(14))
+        .endTime(LocalDateTime.now().minusDays(1))
+        .status(TestRunStatus.COMPLETED)
+        .createdBy(3L)
+        .build();
+  }
+}
@@ -0,0 +1,164 @@
+package org.blackbird.requirefortesting.testmanagement.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.blackbird.requirefortesting.shared.Status;
+import org.blackbird.requirefortesting.testmanagement.internal.TestRunServiceImpl;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestCaseRepository;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunRepository;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunResultCountRow;
+import org.blackbird.requirefortesting.testmanagement.internal.repository.TestRunStatusCount;
+import org.blackbird.requirefortesting.testmanagement.model.TestCase;
+import org.blackbird.requirefortesting.testmanagement.model.TestRun;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunDetailDto;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunResultCounts;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunStatus;
+import org.blackbird.requirefortesting.testmanagement.model.TestRunSummaryDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+
+@ExtendWith(MockitoExtension.class)
+public class TestRunServiceReadTests {
+
+  @Mock private TestCaseRepository testCaseRepository;
+  @Mock private TestRunRepository testRunRepository;
+  @InjectMocks private TestRunServiceImpl testRunService;
+
+  private record ResultCountRow(
+      Long getTestRunId,
+      long getTotal,
+      long getPassed,
+      long getFailed,
+      long getBlocked,
+      long getSkipped,
+      long getNotRun)
+      implements TestRunResultCountRow {}
+
+  @Test
+  void test_getAllTestRuns_shouldCountTestCasesWithOneQuery() {
+    when(testRunRepository.findAll(any(Sort.class))).thenReturn(List.of(testRun(1L), testRun(2L)));
+    when(testRunRepository.countTestCasesByStatus(List.of(1L, 2L)))
+        .thenReturn(
+            List.of(
+                new TestRunStatusCount(1L, Status.OPEN, 3L),
+                new TestRunStatusCount(1L, Status.CLOSED, 2L)));
+
+    List<TestRunSummaryDto> summaries = testRunService.getAllTestRuns();
+
+    assertEquals(2, summaries.size());
+    assertEquals(5, summaries.get(0).testCaseCount());
+    assertEquals(Map.of(Status.OPEN, 3L, Status.CLOSED, 2L), summaries.get(0).testCaseStatuses());
+    assertEquals(0, summaries.get(1).testCaseCount());
+    assertTrue(summaries.get(1).testCaseStatuses().isEmpty());
+  }
+
+  @Test
+  void test_getAllTestRuns_shouldReadResultCounters() {
+    when(testRunRepository.findAll(any(Sort.class))).thenReturn(List.of(testRun(1L), testRun(2L)));
+    when(testRunRepository.findResultCounts(List.of(1L, 2L)))
+        .thenReturn(List.of(new ResultCountRow(1L, 6, 2, 1, 1, 0, 2)));
+
+    List<TestRunSummaryDto> summaries = testRunService.getAllTestRuns();
+
+    assertEquals(new TestRunResultCounts(6, 2, 1, 1, 0, 2), summaries.get(0).results());
+    assertEquals(TestRunResultCounts.NONE, summaries.get(1).results());
+  }
+
+  @Test
+  void test_getAllTestRunsWithoutRuns_shouldNotCountTestCases() {
+    when(testRunRepository.findAll(any(Sort.class))).thenReturn(List.of());
+
+    assertTrue(testRunService.getAllTestRuns().isEmpty());
+    verify(testRunRepository, never()).countTestCasesByStatus(any());
+  }
+
+  @Test
+  void test_getTestRunByIdWithInvalidSize_shouldThrowException() {
+    assertThrows(IllegalArgumentException.class, () -> testRunService.getTestRunById(1L, null, 0));
+    assertThrows(
+        IllegalArgumentException.class, () -> testRunService.getTestRunById(1L, null, 201));
+  }
+
+  @Test
+  void test_getTestRunByIdWithInvalidCursor_shouldThrowException() {
+    when(testRunRepository.findById(1L)).thenReturn(Optional.of(testRun(1L)));
+    when(testRunRepository.countTestCasesByStatus(List.of(1L))).thenReturn(List.of());
+
+    assertThrows(
+        IllegalArgumentException.class, () -> testRunService.getTestRunById(1L, "abc", 10));
+  }
+
+  @Test
+  void test_getNotFoundTestRunById_shouldThrowException() {
+    when(testRunRepository.findById(1L)).thenReturn(Optional.empty());
+
+    assertThrows(EntityNotFoundException.class, () -> testRunService.getTestRunById(1L, null, 10));
+  }
+
+  @Test
+  void test_getTestRunById_shouldReturnFirstPageAndCursor() {
+    when(testRunRepository.findById(1L)).thenReturn(Optional.of(testRun(1L)));
+    when(testRunRepository.countTestCasesByStatus(List.of(1L)))
+        .thenReturn(List.of(new TestRunStatusCount(1L, Status.OPEN, 3L)));
+    when(testRunRepository.findTestCases(1L, 0, Limit.of(3)))
+        .thenReturn(List.of(testCase(10L), testCase(11L), testCase(12L)));
+
+    TestRunDetailDto detail = testRunService.getTestRunById(1L, null, 2);
+
+    assertEquals(3, detail.testCaseCount());
+    assertEquals(2, detail.testCases().size());
+    assertEquals(11L, detail.testCases().get(1).id());
+    assertEquals("11", detail.nextCursor());
+  }
+
+  @Test
+  void test_getTestRunByIdWithCursor_shouldReturnLastPage() {
+    when(testRunRepository.findById(1L)).thenReturn(Optional.of(testRun(1L)));
+    when(testRunRepository.countTestCasesByStatus(List.of(1L)))
+        .thenReturn(List.of(new TestRunStatusCount(1L, Status.OPEN, 3L)));
+    when(testRunRepository.findTestCases(1L, 11L, Limit.of(3))).thenReturn(List.of(testCase(12L)));
+
+    TestRunDetailDto detail = testRunService.getTestRunById(1L, "11", 2);
+
+    assertEquals(1, detail.testCases().size());
+    assertNull(detail.nextCursor());
+  }
+
+  private TestRun testRun(Long id) {
+    return TestRun.builder()
+        .id(id)
+        .title("Test Run " + id)
+        .startTime(LocalDateTime.now().plusDays(1))
+        .endTime(LocalDateTime.now().plusDays(2))
+        .status(TestRunStatus.PLANNED)
+        .createdBy(1L)
+        .build();
+  }
+
+  private TestCase testCase(Long id) {
+    return TestCase.builder()
+        .id(id)
+        .title("Test Case " + id)
+        .requirementId(1L)
+        .status(Status.OPEN)
+        .createdBy(1L)
+        .build();
+  }
+}